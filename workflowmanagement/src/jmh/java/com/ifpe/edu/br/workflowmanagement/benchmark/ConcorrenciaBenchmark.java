@@ -0,0 +1,124 @@
+package com.ifpe.edu.br.workflowmanagement.benchmark;
+
+import com.ifpe.edu.br.workflowmanagement.WorkflowmanagementApplication;
+import com.ifpe.edu.br.workflowmanagement.service.ComentarioService;
+import com.ifpe.edu.br.workflowmanagement.service.ProjetoService;
+import com.ifpe.edu.br.workflowmanagement.service.RegistroHorasService;
+import com.ifpe.edu.br.workflowmanagement.service.TarefaService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Threads de plataforma x threads virtuais sob alta concorrência: cada operação dispara uma rajada de
+ * chamadas simultâneas aos serviços (movimentação, comentário, horas e relatório) e espera todas terminarem.
+ *
+ * No modo "plataforma" as chamadas disputam um pool fixo do tamanho padrão do Tomcat; no modo "virtual"
+ * cada chamada tem a sua thread virtual, como com spring.threads.virtual.enabled. Nos dois modos o pool de
+ * conexões tem o mesmo tamanho e é o limite real de concorrência no banco.
+ *
+ * Execução: mvn -Pbenchmark test-compile exec:exec -Djmh.args="ConcorrenciaBenchmark". O modo virtual exige Java 21.
+ */
+@State(Scope.Benchmark)
+@Fork(value = 1, jvmArgsAppend = {"-Xms2g", "-Xmx4g"})
+@Warmup(iterations = 3, time = 10)
+@Measurement(iterations = 5, time = 20)
+public class ConcorrenciaBenchmark {
+
+    private static final int VOLUME_TAREFAS = 100000;
+    private static final int THREADS_PLATAFORMA = 200; // Padrão de server.tomcat.threads.max
+    private static final int CONEXOES = 30; // Mesmo valor do perfil "virtual"
+
+    @Param({"plataforma", "virtual"})
+    public String modo;
+
+    @Param({"2000"})
+    public int chamadasSimultaneas;
+
+    private ConfigurableApplicationContext contexto;
+    private MassaDeDados massa;
+    private Executor executor;
+    private ExecutorService poolPlataforma;
+    private TarefaService tarefaService;
+    private ComentarioService comentarioService;
+    private RegistroHorasService registroHorasService;
+    private ProjetoService projetoService;
+
+    @Setup(Level.Trial)
+    public void iniciar() {
+        if ("virtual".equals(modo)) {
+            if (Runtime.version().feature() < 21) {
+                throw new IllegalStateException("O modo virtual exige Java 21; execute com -p modo=plataforma.");
+            }
+            SimpleAsyncTaskExecutor virtual = new SimpleAsyncTaskExecutor("benchmark-virtual-");
+            virtual.setVirtualThreads(true);
+            executor = virtual;
+        } else {
+            poolPlataforma = Executors.newFixedThreadPool(THREADS_PLATAFORMA);
+            executor = poolPlataforma;
+        }
+
+        contexto = new SpringApplicationBuilder(WorkflowmanagementApplication.class)
+            .profiles("benchmark")
+            .properties("spring.datasource.hikari.maximum-pool-size=" + CONEXOES,
+                        "spring.datasource.hikari.minimum-idle=" + CONEXOES)
+            .run();
+        massa = MassaDeDados.popular(contexto, VOLUME_TAREFAS);
+        tarefaService = contexto.getBean(TarefaService.class);
+        comentarioService = contexto.getBean(ComentarioService.class);
+        registroHorasService = contexto.getBean(RegistroHorasService.class);
+        projetoService = contexto.getBean(ProjetoService.class);
+    }
+
+    @TearDown(Level.Trial)
+    public void encerrar() {
+        if (poolPlataforma != null) {
+            poolPlataforma.shutdownNow();
+        }
+        contexto.close();
+    }
+
+    @Benchmark
+    public void rajadaDeChamadas() {
+        List<CompletableFuture<Void>> chamadas = new ArrayList<>(chamadasSimultaneas);
+        for (int i = 0; i < chamadasSimultaneas; i++) {
+            int tipo = i % 4;
+            chamadas.add(CompletableFuture.runAsync(() -> chamar(tipo), executor));
+        }
+        // Falhas de qualquer chamada invalidam a medição
+        CompletableFuture.allOf(chamadas.toArray(CompletableFuture[]::new)).join();
+    }
+
+    // --- MÉTODOS AUXILIARES ---
+
+    private void chamar(int tipo) {
+        ThreadLocalRandom aleatorio = ThreadLocalRandom.current();
+        long idTarefa = massa.tarefaAleatoria(aleatorio);
+        switch (tipo) {
+            case 0 -> tarefaService.moverTarefaParaEtapa(idTarefa, massa.etapaAleatoria(aleatorio), massa.idGerente());
+            case 1 -> comentarioService.criarComentario(idTarefa, "Comentário do benchmark",
+                massa.desenvolvedorAleatorio(aleatorio));
+            case 2 -> registroHorasService.registrarHoras(idTarefa, 0.5f, LocalDate.now(), massa.responsavel(idTarefa));
+            default -> projetoService.gerarRelatorio(massa.projetoAleatorio(aleatorio), massa.idGerente());
+        }
+    }
+}
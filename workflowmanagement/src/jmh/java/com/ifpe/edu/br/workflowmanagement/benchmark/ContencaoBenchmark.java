@@ -0,0 +1,95 @@
+package com.ifpe.edu.br.workflowmanagement.benchmark;
+
+import com.ifpe.edu.br.workflowmanagement.WorkflowmanagementApplication;
+import com.ifpe.edu.br.workflowmanagement.service.TarefaService;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.dao.OptimisticLockingFailureException;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Movimentações simultâneas das mesmas tarefas (vários usuários arrastando cartões do mesmo quadro):
+ * vazão de TarefaService.moverTarefaParaEtapa com bloqueio otimista.
+ *
+ * tarefasDisputadas controla a contenção (com 1, todas as threads disputam a mesma linha; com 1000, quase
+ * nunca) e tentativas é o limite de bloqueio.otimista.tentativas (1 = sem repetição automática).
+ * Os contadores "movidas" e "conflitos" mostram quantas chamadas concluíram e quantas terminaram em
+ * conflito, o que na API seria um HTTP 409.
+ *
+ * Execução: mvn -Pbenchmark test-compile exec:exec -Djmh.args="ContencaoBenchmark".
+ */
+@State(Scope.Benchmark)
+@Fork(value = 1, jvmArgsAppend = {"-Xms2g", "-Xmx4g"})
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 10)
+@Threads(16)
+public class ContencaoBenchmark {
+
+    private static final int VOLUME_TAREFAS = 10000;
+
+    @Param({"1", "16", "1000"})
+    public int tarefasDisputadas;
+
+    @Param({"1", "3"})
+    public int tentativas;
+
+    private ConfigurableApplicationContext contexto;
+    private MassaDeDados massa;
+    private TarefaService tarefaService;
+
+    /**
+     * Desfecho das chamadas de cada thread, somado pelo JMH como operações por segundo.
+     */
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.OPERATIONS)
+    public static class Desfechos {
+        public long movidas;
+        public long conflitos;
+
+        @Setup(Level.Iteration)
+        public void zerar() {
+            movidas = 0;
+            conflitos = 0;
+        }
+    }
+
+    @Setup(Level.Trial)
+    public void iniciar() {
+        contexto = new SpringApplicationBuilder(WorkflowmanagementApplication.class)
+            .profiles("benchmark")
+            .properties("bloqueio.otimista.tentativas=" + tentativas)
+            .run();
+        massa = MassaDeDados.popular(contexto, VOLUME_TAREFAS);
+        tarefaService = contexto.getBean(TarefaService.class);
+    }
+
+    @TearDown(Level.Trial)
+    public void encerrar() {
+        contexto.close();
+    }
+
+    @Benchmark
+    public void moverTarefaDisputada(Desfechos desfechos) {
+        ThreadLocalRandom aleatorio = ThreadLocalRandom.current();
+        long idTarefa = 1 + aleatorio.nextInt(tarefasDisputadas);
+        try {
+            tarefaService.moverTarefaParaEtapa(idTarefa, massa.etapaAleatoria(aleatorio), massa.idGerente());
+            desfechos.movidas++;
+        } catch (OptimisticLockingFailureException e) {
+            desfechos.conflitos++;
+        }
+    }
+}
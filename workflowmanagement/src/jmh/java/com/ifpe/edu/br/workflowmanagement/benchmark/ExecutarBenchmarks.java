@@ -0,0 +1,53 @@
+package com.ifpe.edu.br.workflowmanagement.benchmark;
+
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.ChainedOptionsBuilder;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Ponto de entrada dos benchmarks (mvn -Pbenchmark test-compile exec:exec).
+ * Aceita as opções de linha de comando do JMH (ex.: -p volumeTarefas=1000, -f 2, nome do benchmark)
+ * e executa duas passagens, cada uma gravada em JSON em target/jmh:
+ * vazão em operações por segundo e latência por amostragem (percentis) em milissegundos.
+ */
+public class ExecutarBenchmarks {
+
+    private static final Path DIRETORIO_RESULTADOS = Path.of("target", "jmh");
+
+    public static void main(String[] args) throws Exception {
+        CommandLineOptions linhaDeComando = new CommandLineOptions(args);
+        if (linhaDeComando.shouldHelp()) {
+            linhaDeComando.showHelp();
+            return;
+        }
+
+        Files.createDirectories(DIRETORIO_RESULTADOS);
+        String prefixo = LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss"));
+
+        new Runner(opcoes(linhaDeComando, Mode.Throughput, TimeUnit.SECONDS, prefixo + "-vazao.json")).run();
+        new Runner(opcoes(linhaDeComando, Mode.SampleTime, TimeUnit.MILLISECONDS, prefixo + "-latencia.json")).run();
+    }
+
+    private static Options opcoes(CommandLineOptions linhaDeComando, Mode modo, TimeUnit unidade, String arquivo) {
+        ChainedOptionsBuilder opcoes = new OptionsBuilder()
+            .parent(linhaDeComando)
+            .mode(modo)
+            .timeUnit(unidade)
+            .resultFormat(ResultFormatType.JSON)
+            .result(DIRETORIO_RESULTADOS.resolve(arquivo).toString());
+        if (linhaDeComando.getIncludes().isEmpty()) {
+            opcoes.include(ServicosBenchmark.class.getSimpleName());
+        }
+        return opcoes.build();
+    }
+}
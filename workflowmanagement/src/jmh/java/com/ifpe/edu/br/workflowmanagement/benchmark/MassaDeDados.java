@@ -0,0 +1,196 @@
+package com.ifpe.edu.br.workflowmanagement.benchmark;
+
+import com.ifpe.edu.br.workflowmanagement.service.ContadorTarefasService;
+import com.ifpe.edu.br.workflowmanagement.service.PermissaoService;
+import com.ifpe.edu.br.workflowmanagement.service.entities.Etapa;
+import com.ifpe.edu.br.workflowmanagement.service.entities.FluxoTrabalho;
+import com.ifpe.edu.br.workflowmanagement.service.entities.Papel;
+import com.ifpe.edu.br.workflowmanagement.service.entities.Permissao;
+import com.ifpe.edu.br.workflowmanagement.service.entities.Projeto;
+import com.ifpe.edu.br.workflowmanagement.service.entities.Usuario;
+import com.ifpe.edu.br.workflowmanagement.service.repositories.FluxoTrabalhoRepository;
+import com.ifpe.edu.br.workflowmanagement.service.repositories.PapelRepository;
+import com.ifpe.edu.br.workflowmanagement.service.repositories.ProjetoRepository;
+import com.ifpe.edu.br.workflowmanagement.service.repositories.UsuarioRepository;
+import org.springframework.context.ApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Massa de dados dos benchmarks. Papéis, usuários, fluxo e projetos são gravados pelos repositórios;
+ * tarefas, comentários, registros de horas e horas consolidadas, pelo próprio H2 (INSERT ... SELECT
+ * sobre SYSTEM_RANGE), para que o milhão de tarefas fique pronto em segundos.
+ *
+ * Os IDs de usuários, etapas e projetos são gerados em sequência em um banco vazio, o que permite
+ * calcular o responsável de cada tarefa sem guardar nada por tarefa.
+ */
+final class MassaDeDados {
+
+    static final String SENHA = "senha-benchmark";
+
+    private static final int USUARIOS = 50;
+    private static final int TAREFAS_POR_PROJETO = 1000;
+    private static final String[] ETAPAS = {"A Fazer", "Em Andamento", "Revisão", "Concluído"};
+
+    private final int volumeTarefas;
+    private final long idGerente;
+    private final long primeiroDesenvolvedor;
+    private final int desenvolvedores;
+    private final long primeiraEtapa;
+    private final long primeiroProjeto;
+    private final int projetos;
+
+    private MassaDeDados(int volumeTarefas, long idGerente, long primeiroDesenvolvedor, int desenvolvedores,
+                         long primeiraEtapa, long primeiroProjeto, int projetos) {
+        this.volumeTarefas = volumeTarefas;
+        this.idGerente = idGerente;
+        this.primeiroDesenvolvedor = primeiroDesenvolvedor;
+        this.desenvolvedores = desenvolvedores;
+        this.primeiraEtapa = primeiraEtapa;
+        this.primeiroProjeto = primeiroProjeto;
+        this.projetos = projetos;
+    }
+
+    /**
+     * Popula o banco vazio do contexto com a quantidade de tarefas informada.
+     */
+    static MassaDeDados popular(ApplicationContext contexto, int volumeTarefas) {
+        TransactionTemplate transacao = new TransactionTemplate(contexto.getBean(PlatformTransactionManager.class));
+        PapelRepository papelRepository = contexto.getBean(PapelRepository.class);
+        UsuarioRepository usuarioRepository = contexto.getBean(UsuarioRepository.class);
+        FluxoTrabalhoRepository fluxoTrabalhoRepository = contexto.getBean(FluxoTrabalhoRepository.class);
+        ProjetoRepository projetoRepository = contexto.getBean(ProjetoRepository.class);
+        PasswordEncoder passwordEncoder = contexto.getBean(PasswordEncoder.class);
+        JdbcTemplate jdbc = contexto.getBean(JdbcTemplate.class);
+
+        int quantidadeProjetos = Math.max(1, volumeTarefas / TAREFAS_POR_PROJETO);
+        MassaDeDados massa = transacao.execute(status -> {
+            Papel gerente = papel(papelRepository, "GERENTE_PROJETO",
+                EnumSet.of(Permissao.CRIAR_PROJETO, Permissao.CRIAR_TAREFA, Permissao.GERAR_RELATORIOS));
+            Papel desenvolvedor = papel(papelRepository, "DESENVOLVEDOR", EnumSet.of(Permissao.CRIAR_TAREFA));
+
+            String senha = passwordEncoder.encode(SENHA);
+            List<Usuario> usuarios = new ArrayList<>(USUARIOS);
+            for (int i = 0; i < USUARIOS; i++) {
+                usuarios.add(new Usuario("Usuário " + i, email(i), senha, "Cargo " + i, i == 0 ? gerente : desenvolvedor));
+            }
+            usuarios = usuarioRepository.saveAll(usuarios);
+            List<Long> idsDesenvolvedores = usuarios.subList(1, USUARIOS).stream().map(Usuario::getId).toList();
+
+            FluxoTrabalho fluxo = new FluxoTrabalho("Kanban");
+            for (int i = 0; i < ETAPAS.length; i++) {
+                fluxo.getEtapas().add(new Etapa(ETAPAS[i], i + 1, fluxo));
+            }
+            fluxo = fluxoTrabalhoRepository.save(fluxo);
+            List<Long> idsEtapas = fluxo.getEtapas().stream().map(Etapa::getId).toList();
+
+            List<Projeto> novosProjetos = new ArrayList<>(quantidadeProjetos);
+            for (int i = 0; i < quantidadeProjetos; i++) {
+                novosProjetos.add(new Projeto("Projeto " + i, "Projeto do benchmark", usuarios.get(0), fluxo));
+            }
+            List<Long> idsProjetos = projetoRepository.saveAll(novosProjetos).stream().map(Projeto::getId).toList();
+
+            return new MassaDeDados(volumeTarefas, usuarios.get(0).getId(), inicioSequencial(idsDesenvolvedores),
+                idsDesenvolvedores.size(), inicioSequencial(idsEtapas), inicioSequencial(idsProjetos), quantidadeProjetos);
+        });
+
+        Timestamp inicio = Timestamp.valueOf(LocalDateTime.now().minusYears(1));
+        transacao.executeWithoutResult(status -> {
+            // Tarefa x: projeto, responsável e etapa distribuídos de forma cíclica
+            jdbc.update("INSERT INTO tarefas (id, versao, titulo, descricao, projeto_id, responsavel_id, etapa_atual_id, data_criacao) "
+                + "SELECT x, 0, CONCAT('Tarefa ', x), CONCAT('Descrição da tarefa ', x), "
+                + "? + MOD(x - 1, ?), ? + MOD(x - 1, ?), ? + MOD(x - 1, ?), DATEADD('SECOND', x, ?) "
+                + "FROM SYSTEM_RANGE(1, ?)",
+                massa.primeiroProjeto, massa.projetos, massa.primeiroDesenvolvedor, massa.desenvolvedores,
+                massa.primeiraEtapa, ETAPAS.length, inicio, volumeTarefas);
+            // As próximas tarefas criadas pela aplicação não colidem com as inseridas acima
+            jdbc.execute("ALTER SEQUENCE tarefas_seq RESTART WITH " + (volumeTarefas + 1000L));
+
+            jdbc.update("INSERT INTO comentarios (usuario_id, tarefa_id, texto, data_criacao) "
+                + "SELECT ? + MOD(x, ?), x, CONCAT('Comentário da tarefa ', x), DATEADD('SECOND', x, ?) "
+                + "FROM SYSTEM_RANGE(1, ?)",
+                massa.primeiroDesenvolvedor, massa.desenvolvedores, inicio, volumeTarefas);
+
+            // Metade das tarefas com horas lançadas pelo próprio responsável
+            jdbc.update("INSERT INTO registros_horas (usuario_id, tarefa_id, minutos, data_registro, data_criacao) "
+                + "SELECT ? + MOD(x - 1, ?), x, 30 + MOD(x, 240), DATEADD('DAY', -MOD(x, 60), CURRENT_DATE), "
+                + "DATEADD('SECOND', x, ?) FROM SYSTEM_RANGE(1, ?, 2)",
+                massa.primeiroDesenvolvedor, massa.desenvolvedores, inicio, volumeTarefas);
+            jdbc.update("INSERT INTO horas_diarias (usuario_id, tarefa_id, projeto_id, dia, minutos) "
+                + "SELECT r.usuario_id, r.tarefa_id, t.projeto_id, r.data_registro, SUM(r.minutos) "
+                + "FROM registros_horas r JOIN tarefas t ON t.id = r.tarefa_id "
+                + "GROUP BY r.usuario_id, r.tarefa_id, t.projeto_id, r.data_registro");
+        });
+
+        // Contadores do quadro, estatísticas do otimizador e máscaras de permissão como em produção
+        contexto.getBean(ContadorTarefasService.class).reconciliar();
+        jdbc.execute("ANALYZE");
+        PermissaoService permissaoService = contexto.getBean(PermissaoService.class);
+        papelRepository.findAll().forEach(p -> permissaoService.temPermissao(p.getId(), Permissao.CRIAR_TAREFA));
+        return massa;
+    }
+
+    long idGerente() {
+        return idGerente;
+    }
+
+    long tarefaAleatoria(ThreadLocalRandom aleatorio) {
+        return aleatorio.nextLong(1, volumeTarefas + 1L);
+    }
+
+    long etapaAleatoria(ThreadLocalRandom aleatorio) {
+        return primeiraEtapa + aleatorio.nextInt(ETAPAS.length);
+    }
+
+    long projetoAleatorio(ThreadLocalRandom aleatorio) {
+        return primeiroProjeto + aleatorio.nextInt(projetos);
+    }
+
+    long desenvolvedorAleatorio(ThreadLocalRandom aleatorio) {
+        return primeiroDesenvolvedor + aleatorio.nextInt(desenvolvedores);
+    }
+
+    String emailAleatorio(ThreadLocalRandom aleatorio) {
+        return email(aleatorio.nextInt(USUARIOS));
+    }
+
+    /**
+     * Responsável da tarefa semeada, segundo a mesma distribuição do INSERT.
+     */
+    long responsavel(long idTarefa) {
+        return primeiroDesenvolvedor + (idTarefa - 1) % desenvolvedores;
+    }
+
+    // --- MÉTODOS AUXILIARES ---
+
+    private static Papel papel(PapelRepository papelRepository, String nome, Set<Permissao> permissoes) {
+        Papel papel = new Papel();
+        papel.setNome(nome);
+        papel.setPermissoes(permissoes);
+        return papelRepository.save(papel);
+    }
+
+    private static String email(int indice) {
+        return "usuario" + indice + "@benchmark.com";
+    }
+
+    private static long inicioSequencial(List<Long> ids) {
+        long primeiro = ids.get(0);
+        for (int i = 1; i < ids.size(); i++) {
+            if (ids.get(i) != primeiro + i) {
+                throw new IllegalStateException("A massa de dados exige IDs sequenciais; o banco não estava vazio.");
+            }
+        }
+        return primeiro;
+    }
+}
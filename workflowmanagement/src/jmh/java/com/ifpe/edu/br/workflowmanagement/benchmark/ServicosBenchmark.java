@@ -0,0 +1,100 @@
+package com.ifpe.edu.br.workflowmanagement.benchmark;
+
+import com.ifpe.edu.br.workflowmanagement.WorkflowmanagementApplication;
+import com.ifpe.edu.br.workflowmanagement.service.ComentarioService;
+import com.ifpe.edu.br.workflowmanagement.service.ProjetoService;
+import com.ifpe.edu.br.workflowmanagement.service.RegistroHorasService;
+import com.ifpe.edu.br.workflowmanagement.service.TarefaService;
+import com.ifpe.edu.br.workflowmanagement.service.UsuarioService;
+import com.ifpe.edu.br.workflowmanagement.service.entities.Comentario;
+import com.ifpe.edu.br.workflowmanagement.service.entities.RegistroHoras;
+import com.ifpe.edu.br.workflowmanagement.service.entities.Tarefa;
+import com.ifpe.edu.br.workflowmanagement.service.entities.Usuario;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.time.LocalDate;
+import java.util.Optional;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Caminhos mais usados da camada de serviço, executados pelos serviços reais (proxies transacionais,
+ * JPA e eventos) sobre H2 em memória, com o volume de tarefas parametrizado.
+ * O contexto Spring e a massa de dados são criados uma vez por volume, em cada fork.
+ */
+@State(Scope.Benchmark)
+@Fork(value = 1, jvmArgsAppend = {"-Xms2g", "-Xmx6g"})
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 10)
+public class ServicosBenchmark {
+
+    @Param({"1000", "100000", "1000000"})
+    public int volumeTarefas;
+
+    private ConfigurableApplicationContext contexto;
+    private MassaDeDados massa;
+    private TarefaService tarefaService;
+    private ComentarioService comentarioService;
+    private RegistroHorasService registroHorasService;
+    private ProjetoService projetoService;
+    private UsuarioService usuarioService;
+
+    @Setup(Level.Trial)
+    public void iniciar() {
+        contexto = new SpringApplicationBuilder(WorkflowmanagementApplication.class)
+            .profiles("benchmark")
+            .run();
+        massa = MassaDeDados.popular(contexto, volumeTarefas);
+        tarefaService = contexto.getBean(TarefaService.class);
+        comentarioService = contexto.getBean(ComentarioService.class);
+        registroHorasService = contexto.getBean(RegistroHorasService.class);
+        projetoService = contexto.getBean(ProjetoService.class);
+        usuarioService = contexto.getBean(UsuarioService.class);
+    }
+
+    @TearDown(Level.Trial)
+    public void encerrar() {
+        contexto.close();
+    }
+
+    @Benchmark
+    public Tarefa moverTarefaParaEtapa() {
+        ThreadLocalRandom aleatorio = ThreadLocalRandom.current();
+        return tarefaService.moverTarefaParaEtapa(massa.tarefaAleatoria(aleatorio), massa.etapaAleatoria(aleatorio),
+            massa.idGerente());
+    }
+
+    @Benchmark
+    public Comentario criarComentario() {
+        ThreadLocalRandom aleatorio = ThreadLocalRandom.current();
+        return comentarioService.criarComentario(massa.tarefaAleatoria(aleatorio), "Comentário do benchmark",
+            massa.desenvolvedorAleatorio(aleatorio));
+    }
+
+    @Benchmark
+    public RegistroHoras registrarHoras() {
+        ThreadLocalRandom aleatorio = ThreadLocalRandom.current();
+        long idTarefa = massa.tarefaAleatoria(aleatorio);
+        return registroHorasService.registrarHoras(idTarefa, 1.5f, LocalDate.now(), massa.responsavel(idTarefa));
+    }
+
+    @Benchmark
+    public String gerarRelatorio() {
+        return projetoService.gerarRelatorio(massa.projetoAleatorio(ThreadLocalRandom.current()), massa.idGerente());
+    }
+
+    @Benchmark
+    public Optional<Usuario> login() {
+        return usuarioService.login(massa.emailAleatorio(ThreadLocalRandom.current()), MassaDeDados.SENHA);
+    }
+}
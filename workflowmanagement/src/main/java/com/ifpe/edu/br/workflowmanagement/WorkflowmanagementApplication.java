@@ -2,8 +2,10 @@ package com.ifpe.edu.br.workflowmanagement;
 
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
 @SpringBootApplication
+@EnableScheduling
 public class WorkflowmanagementApplication {
 
 	public static void main(String[] args) {
@@ -0,0 +1,81 @@
+package com.ifpe.edu.br.workflowmanagement.config;
+
+import com.github.benmanes.caffeine.jcache.configuration.CaffeineConfiguration;
+import com.github.benmanes.caffeine.jcache.spi.CaffeineCachingProvider;
+import org.hibernate.cache.jcache.ConfigSettings;
+import org.hibernate.cache.spi.RegionFactory;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+
+import javax.cache.CacheManager;
+import javax.cache.Caching;
+import java.util.List;
+import java.util.OptionalLong;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cache de segundo nível do Hibernate: regiões Caffeine (JCache) em memória, cada uma com quantidade
+ * máxima de entradas e validade próprias. Os limites podem ser alterados por região com
+ * cache.segundo-nivel.{regiao}.maximo e cache.segundo-nivel.{regiao}.validade-segundos (0 = sem expiração).
+ *
+ * Como o Hibernate está configurado para falhar quando uma região não existe, toda região usada
+ * em @Cache ou em consultas cacheáveis precisa estar declarada aqui.
+ */
+@Configuration
+public class CacheSegundoNivelConfig {
+
+    public static final String REGIAO_PAPEIS = "papeis";
+    public static final String REGIAO_PERMISSOES_PAPEL = "papeis.permissoes";
+    public static final String REGIAO_FLUXOS = "fluxos_trabalho";
+    public static final String REGIAO_ETAPAS_FLUXO = "fluxos_trabalho.etapas";
+    public static final String REGIAO_ETAPAS = "etapas";
+    public static final String REGIAO_CONSULTAS_REFERENCIA = "consultas_referencia";
+
+    // Limites padrão de cada região: nome, entradas e validade em segundos
+    private static final List<Regiao> REGIOES = List.of(
+        new Regiao(REGIAO_PAPEIS, 100, 3600),
+        new Regiao(REGIAO_PERMISSOES_PAPEL, 100, 3600),
+        new Regiao(REGIAO_FLUXOS, 1000, 600),
+        new Regiao(REGIAO_ETAPAS_FLUXO, 1000, 600),
+        new Regiao(REGIAO_ETAPAS, 10000, 600),
+        new Regiao(REGIAO_CONSULTAS_REFERENCIA, 10000, 600),
+        new Regiao(RegionFactory.DEFAULT_QUERY_RESULTS_REGION_UNQUALIFIED_NAME, 1000, 300),
+        // Os carimbos de atualização das tabelas validam os resultados de consultas em cache
+        // e não podem expirar antes deles
+        new Regiao(RegionFactory.DEFAULT_UPDATE_TIMESTAMPS_REGION_UNQUALIFIED_NAME, 10000, 0));
+
+    @Bean
+    public HibernatePropertiesCustomizer cacheSegundoNivel(Environment ambiente) {
+        return propriedades -> propriedades.put(ConfigSettings.CACHE_MANAGER, criarCacheManager(ambiente));
+    }
+
+    // --- MÉTODOS AUXILIARES ---
+
+    private static CacheManager criarCacheManager(Environment ambiente) {
+        CacheManager cacheManager = Caching.getCachingProvider(CaffeineCachingProvider.class.getName()).getCacheManager();
+        for (Regiao regiao : REGIOES) {
+            // Outro contexto na mesma JVM (ex.: testes) pode já ter criado a região no gerenciador padrão
+            if (cacheManager.getCache(regiao.nome()) != null) {
+                continue;
+            }
+            long maximo = ambiente.getProperty("cache.segundo-nivel." + regiao.nome() + ".maximo",
+                Long.class, regiao.maximo());
+            long validade = ambiente.getProperty("cache.segundo-nivel." + regiao.nome() + ".validade-segundos",
+                Long.class, regiao.validadeSegundos());
+
+            CaffeineConfiguration<Object, Object> configuracao = new CaffeineConfiguration<>();
+            configuracao.setStoreByValue(false); // As entradas do Hibernate já são desmontadas (CacheEntry)
+            configuracao.setMaximumSize(OptionalLong.of(maximo));
+            if (validade > 0) {
+                configuracao.setExpireAfterWrite(OptionalLong.of(TimeUnit.SECONDS.toNanos(validade)));
+            }
+            cacheManager.createCache(regiao.nome(), configuracao);
+        }
+        return cacheManager;
+    }
+
+    private record Regiao(String nome, long maximo, long validadeSegundos) {
+    }
+}
@@ -0,0 +1,69 @@
+package com.ifpe.edu.br.workflowmanagement.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.core.env.Environment;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+
+/**
+ * Réplica de leitura, ativada quando replica.datasource.url está configurada. O DataSource da aplicação
+ * passa a ser um proxy que só obtém a conexão no primeiro comando, quando o gerenciador de transações
+ * já marcou a transação como somente leitura: as de escrita vão para o pool do primário
+ * (spring.datasource.*) e as somente leitura para o RoteamentoReplica, que escolhe entre a réplica
+ * (replica.datasource.*) e o primário.
+ */
+@Configuration
+@ConditionalOnProperty(name = "replica.datasource.url")
+public class ReplicaLeituraConfig {
+
+    @Bean
+    public HikariDataSource dataSourcePrimario(DataSourceProperties propriedades, Environment ambiente) {
+        return criarPool(propriedades, ambiente, "spring.datasource.hikari", "primario");
+    }
+
+    @Bean
+    public HikariDataSource dataSourceReplica(Environment ambiente) {
+        DataSourceProperties propriedades = Binder.get(ambiente)
+            .bind("replica.datasource", DataSourceProperties.class)
+            .orElseThrow(() -> new IllegalStateException("replica.datasource não configurado."));
+        return criarPool(propriedades, ambiente, "replica.datasource.hikari", "replica");
+    }
+
+    @Bean
+    public RoteamentoReplica roteamentoReplica(HikariDataSource dataSourcePrimario, HikariDataSource dataSourceReplica,
+                                               MeterRegistry registry,
+                                               @Value("${replica.leitura-apos-escrita-ms:5000}") long janelaAposEscritaMs,
+                                               @Value("${replica.atraso.maximo-ms:2000}") long atrasoMaximoMs,
+                                               @Value("${replica.maximo-usuarios:100000}") int maximoUsuarios) {
+        return new RoteamentoReplica(dataSourcePrimario, dataSourceReplica, registry,
+            janelaAposEscritaMs, atrasoMaximoMs, maximoUsuarios);
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(RoteamentoReplica roteamentoReplica) {
+        LazyConnectionDataSourceProxy proxy = new LazyConnectionDataSourceProxy(roteamentoReplica.dataSourceEscrita());
+        proxy.setReadOnlyDataSource(roteamentoReplica.dataSourceLeitura());
+        return proxy;
+    }
+
+    // --- MÉTODOS AUXILIARES ---
+
+    private static HikariDataSource criarPool(DataSourceProperties propriedades, Environment ambiente,
+                                              String prefixoHikari, String nome) {
+        HikariDataSource pool = propriedades.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        Binder.get(ambiente).bind(prefixoHikari, Bindable.ofInstance(pool));
+        pool.setPoolName(nome);
+        return pool;
+    }
+}
@@ -0,0 +1,203 @@
+package com.ifpe.edu.br.workflowmanagement.config;
+
+import com.ifpe.edu.br.workflowmanagement.service.UsuarioAutenticado;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Decide para qual banco vai cada transação somente leitura (@Transactional(readOnly = true)):
+ * a réplica, por padrão, ou o primário quando
+ * - o usuário da requisição fez uma transação de escrita há menos de replica.leitura-apos-escrita-ms
+ *   (para ele ler o que acabou de gravar), ou
+ * - a réplica está atrasada mais que replica.atraso.maximo-ms, ou não respondeu à última verificação.
+ *
+ * O atraso é medido por um batimento: a cada intervalo o instante atual é gravado no primário
+ * (tabela replica_batimentos) e o valor visível na réplica é comparado com o gravado no intervalo anterior.
+ * A medição tem, portanto, a resolução de um intervalo.
+ *
+ * Métricas: replica.atraso (ms) e replica.leituras, por destino e motivo.
+ */
+public class RoteamentoReplica {
+
+    private static final Logger log = LoggerFactory.getLogger(RoteamentoReplica.class);
+
+    private enum Destino { PRIMARIO, REPLICA }
+
+    private final DataSource primario;
+    private final DataSource replica;
+    private final JdbcTemplate jdbcPrimario;
+    private final JdbcTemplate jdbcReplica;
+    private final long janelaAposEscritaMs;
+    private final long atrasoMaximoMs;
+    private final int maximoUsuarios;
+
+    // ID do usuário -> instante do commit da última transação de escrita
+    private final Map<Long, Long> ultimaEscritaPorUsuario = new ConcurrentHashMap<>();
+
+    private volatile boolean replicaDisponivel = true;
+    private volatile long atrasoMs;
+    private long ultimoBatimento; // Acesso apenas pela verificação agendada
+
+    private final Counter leiturasReplica;
+    private final Counter leiturasAposEscrita;
+    private final Counter leiturasReplicaAtrasada;
+
+    public RoteamentoReplica(DataSource primario, DataSource replica, MeterRegistry registry,
+                             long janelaAposEscritaMs, long atrasoMaximoMs, int maximoUsuarios) {
+        this.primario = primario;
+        this.replica = replica;
+        this.jdbcPrimario = new JdbcTemplate(primario);
+        this.jdbcReplica = new JdbcTemplate(replica);
+        this.janelaAposEscritaMs = janelaAposEscritaMs;
+        this.atrasoMaximoMs = atrasoMaximoMs;
+        this.maximoUsuarios = maximoUsuarios;
+
+        Gauge.builder("replica.atraso", this, r -> r.atrasoMs)
+            .description("Atraso medido da réplica de leitura, em milissegundos").register(registry);
+        this.leiturasReplica = Counter.builder("replica.leituras").tag("destino", "replica").tag("motivo", "padrao")
+            .register(registry);
+        this.leiturasAposEscrita = Counter.builder("replica.leituras").tag("destino", "primario")
+            .tag("motivo", "leitura_apos_escrita").register(registry);
+        this.leiturasReplicaAtrasada = Counter.builder("replica.leituras").tag("destino", "primario")
+            .tag("motivo", "replica_atrasada").register(registry);
+    }
+
+    /**
+     * DataSource das transações somente leitura: réplica ou primário, conforme a situação no momento da conexão.
+     */
+    public DataSource dataSourceLeitura() {
+        AbstractRoutingDataSource roteador = new AbstractRoutingDataSource() {
+            @Override
+            protected Object determineCurrentLookupKey() {
+                return destinoLeitura();
+            }
+        };
+        roteador.setTargetDataSources(Map.of(Destino.PRIMARIO, primario, Destino.REPLICA, replica));
+        roteador.setLenientFallback(false);
+        roteador.afterPropertiesSet();
+        return roteador;
+    }
+
+    /**
+     * DataSource das transações de escrita: o primário, registrando o usuário da requisição após o commit.
+     */
+    public DataSource dataSourceEscrita() {
+        return new DelegatingDataSource(primario) {
+            @Override
+            public Connection getConnection() throws SQLException {
+                registrarEscritaAposCommit();
+                return super.getConnection();
+            }
+
+            @Override
+            public Connection getConnection(String usuario, String senha) throws SQLException {
+                registrarEscritaAposCommit();
+                return super.getConnection(usuario, senha);
+            }
+        };
+    }
+
+    /**
+     * Mede o atraso da réplica e grava o próximo batimento no primário.
+     */
+    @Scheduled(initialDelayString = "${replica.atraso.verificacao-ms:1000}",
+               fixedDelayString = "${replica.atraso.verificacao-ms:1000}")
+    public void verificarAtraso() {
+        long agora = System.currentTimeMillis();
+        boolean disponivel;
+        try {
+            Long naReplica = jdbcReplica.query("SELECT instante FROM replica_batimentos WHERE id = 1",
+                linhas -> linhas.next() ? linhas.getLong(1) : null);
+            if (naReplica == null) {
+                // Sem batimento replicado ainda: não há como saber o atraso
+                disponivel = false;
+            } else {
+                atrasoMs = naReplica >= ultimoBatimento ? 0 : agora - naReplica;
+                disponivel = atrasoMs <= atrasoMaximoMs;
+            }
+        } catch (DataAccessException e) {
+            log.debug("Falha ao consultar o batimento na réplica.", e);
+            disponivel = false;
+        }
+
+        if (disponivel != replicaDisponivel) {
+            log.warn(disponivel ? "Réplica de leitura disponível novamente (atraso de {} ms)."
+                                : "Leituras desviadas para o primário: réplica indisponível ou com atraso de {} ms.",
+                     atrasoMs);
+        }
+        replicaDisponivel = disponivel;
+        gravarBatimento(agora);
+    }
+
+    // --- MÉTODOS AUXILIARES ---
+
+    private Destino destinoLeitura() {
+        if (!replicaDisponivel) {
+            leiturasReplicaAtrasada.increment();
+            return Destino.PRIMARIO;
+        }
+        Long idUsuario = usuarioAtual();
+        if (idUsuario != null) {
+            Long ultimaEscrita = ultimaEscritaPorUsuario.get(idUsuario);
+            if (ultimaEscrita != null && System.currentTimeMillis() - ultimaEscrita < janelaAposEscritaMs) {
+                leiturasAposEscrita.increment();
+                return Destino.PRIMARIO;
+            }
+        }
+        leiturasReplica.increment();
+        return Destino.REPLICA;
+    }
+
+    private void registrarEscritaAposCommit() {
+        Long idUsuario = usuarioAtual();
+        if (idUsuario == null || !TransactionSynchronizationManager.isSynchronizationActive()
+                || TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                long agora = System.currentTimeMillis();
+                if (ultimaEscritaPorUsuario.size() >= maximoUsuarios) {
+                    ultimaEscritaPorUsuario.values().removeIf(instante -> agora - instante >= janelaAposEscritaMs);
+                }
+                ultimaEscritaPorUsuario.put(idUsuario, agora);
+            }
+        });
+    }
+
+    private void gravarBatimento(long agora) {
+        try {
+            if (jdbcPrimario.update("UPDATE replica_batimentos SET instante = ? WHERE id = 1", agora) == 0) {
+                jdbcPrimario.update("INSERT INTO replica_batimentos (id, instante) VALUES (1, ?)", agora);
+            }
+            ultimoBatimento = agora;
+        } catch (DataAccessException e) {
+            log.warn("Falha ao gravar o batimento da réplica no primário.", e);
+        }
+    }
+
+    private static Long usuarioAtual() {
+        Authentication autenticacao = SecurityContextHolder.getContext().getAuthentication();
+        return autenticacao != null && autenticacao.getPrincipal() instanceof UsuarioAutenticado usuario
+            ? usuario.id() : null;
+    }
+}
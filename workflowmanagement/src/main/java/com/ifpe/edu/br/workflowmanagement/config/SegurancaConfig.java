@@ -0,0 +1,121 @@
+package com.ifpe.edu.br.workflowmanagement.config;
+
+import com.ifpe.edu.br.workflowmanagement.service.AutenticacaoService;
+import com.ifpe.edu.br.workflowmanagement.service.UsuarioAutenticado;
+import com.nimbusds.jose.jwk.source.ImmutableSecret;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.HttpMethod;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.config.annotation.web.builders.HttpSecurity;
+import org.springframework.security.config.annotation.web.configurers.AbstractHttpConfigurer;
+import org.springframework.security.config.http.SessionCreationPolicy;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.security.oauth2.jose.jws.MacAlgorithm;
+import org.springframework.security.oauth2.jwt.JwtDecoder;
+import org.springframework.security.oauth2.jwt.JwtEncoder;
+import org.springframework.security.oauth2.jwt.JwtValidators;
+import org.springframework.security.oauth2.jwt.NimbusJwtDecoder;
+import org.springframework.security.oauth2.jwt.NimbusJwtEncoder;
+import org.springframework.security.oauth2.server.resource.InvalidBearerTokenException;
+import org.springframework.security.oauth2.server.resource.web.BearerTokenResolver;
+import org.springframework.security.oauth2.server.resource.web.DefaultBearerTokenResolver;
+import org.springframework.security.web.SecurityFilterChain;
+import org.springframework.security.web.servlet.util.matcher.PathPatternRequestMatcher;
+import org.springframework.security.web.util.matcher.RequestMatcher;
+
+import javax.crypto.SecretKey;
+import javax.crypto.spec.SecretKeySpec;
+import java.security.SecureRandom;
+import java.util.Base64;
+import java.util.List;
+
+/**
+ * Configuração de segurança da aplicação.
+ *
+ * A API é sem estado: o login (POST /api/usuarios/login) devolve um token de acesso assinado, enviado em
+ * "Authorization: Bearer ..." nas demais requisições. O filtro confere apenas a assinatura HMAC e a validade
+ * do token; a senha (BCrypt) só é verificada no login.
+ */
+@Configuration
+public class SegurancaConfig {
+
+    private static final Logger log = LoggerFactory.getLogger(SegurancaConfig.class);
+
+    // Usado pelo HashSenhaService para gerar e conferir o hash das senhas
+    @Bean
+    public PasswordEncoder passwordEncoder() {
+        return new BCryptPasswordEncoder();
+    }
+
+    @Bean
+    public SecurityFilterChain filtroSeguranca(HttpSecurity http, AutenticacaoService autenticacaoService) throws Exception {
+        // O EventSource do navegador não envia cabeçalhos: só o quadro ao vivo (SSE) aceita o token em ?access_token=,
+        // que fica nos logs de acesso e no histórico; nas demais rotas, apenas o cabeçalho Authorization
+        DefaultBearerTokenResolver leitorCabecalho = new DefaultBearerTokenResolver();
+        DefaultBearerTokenResolver leitorCabecalhoOuUri = new DefaultBearerTokenResolver();
+        leitorCabecalhoOuUri.setAllowUriQueryParameter(true);
+        RequestMatcher quadroAoVivo = PathPatternRequestMatcher.withDefaults()
+            .matcher(HttpMethod.GET, "/api/projetos/*/quadro/eventos");
+        BearerTokenResolver leitorToken = requisicao -> quadroAoVivo.matches(requisicao)
+            ? leitorCabecalhoOuUri.resolve(requisicao)
+            : leitorCabecalho.resolve(requisicao);
+
+        http
+            .csrf(AbstractHttpConfigurer::disable)
+            .sessionManagement(sessao -> sessao.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
+            .authorizeHttpRequests(requisicoes -> requisicoes
+                .requestMatchers(HttpMethod.POST, "/api/usuarios/cadastro", "/api/usuarios/login",
+                                 "/api/usuarios/token/renovar", "/api/usuarios/recuperar-senha").permitAll()
+                .requestMatchers("/actuator/health").permitAll()
+                .anyRequest().authenticated())
+            .oauth2ResourceServer(servidor -> servidor
+                .bearerTokenResolver(leitorToken)
+                .jwt(jwt -> jwt.jwtAuthenticationConverter(token -> {
+                    // O token de atualização não dá acesso à API
+                    if (!AutenticacaoService.TIPO_ACESSO.equals(token.getClaimAsString(AutenticacaoService.CLAIM_TIPO))) {
+                        throw new InvalidBearerTokenException("O token informado não é um token de acesso.");
+                    }
+                    UsuarioAutenticado usuario = autenticacaoService.carregarPrincipal(Long.valueOf(token.getSubject()))
+                        .orElseThrow(() -> new InvalidBearerTokenException("Usuário do token não encontrado."));
+                    return new UsernamePasswordAuthenticationToken(usuario, token, List.of());
+                })));
+        return http.build();
+    }
+
+    /**
+     * Chave HMAC dos tokens, em Base64 (ao menos 256 bits). Todas as instâncias da aplicação devem usar a mesma chave.
+     */
+    @Bean
+    public SecretKey chaveTokens(@Value("${seguranca.token.segredo:}") String segredo) {
+        byte[] bytes;
+        if (segredo.isBlank()) {
+            log.warn("seguranca.token.segredo não configurado: usando uma chave aleatória. "
+                + "Os tokens emitidos deixam de valer quando a aplicação reinicia.");
+            bytes = new byte[32];
+            new SecureRandom().nextBytes(bytes);
+        } else {
+            bytes = Base64.getDecoder().decode(segredo);
+            if (bytes.length < 32) {
+                throw new IllegalStateException("seguranca.token.segredo deve ter ao menos 256 bits (32 bytes em Base64).");
+            }
+        }
+        return new SecretKeySpec(bytes, "HmacSHA256");
+    }
+
+    @Bean
+    public JwtEncoder jwtEncoder(SecretKey chaveTokens) {
+        return new NimbusJwtEncoder(new ImmutableSecret<>(chaveTokens));
+    }
+
+    @Bean
+    public JwtDecoder jwtDecoder(SecretKey chaveTokens) {
+        NimbusJwtDecoder decoder = NimbusJwtDecoder.withSecretKey(chaveTokens).macAlgorithm(MacAlgorithm.HS256).build();
+        decoder.setJwtValidator(JwtValidators.createDefaultWithIssuer(AutenticacaoService.EMISSOR));
+        return decoder;
+    }
+}
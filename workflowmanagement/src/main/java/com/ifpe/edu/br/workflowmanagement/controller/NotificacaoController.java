@@ -0,0 +1,56 @@
+package com.ifpe.edu.br.workflowmanagement.controller;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.*;
+
+import com.ifpe.edu.br.workflowmanagement.service.NotificacaoService;
+import com.ifpe.edu.br.workflowmanagement.service.UsuarioAutenticado;
+import com.ifpe.edu.br.workflowmanagement.service.DTO.NotificacaoDTO;
+import com.ifpe.edu.br.workflowmanagement.service.DTO.Pagina;
+
+@RestController
+@RequestMapping("/api/notificacoes") // Endpoint base para as notificações do usuário
+public class NotificacaoController {
+
+    @Autowired
+    private NotificacaoService notificacaoService;
+
+    /**
+     * Lista as notificações do usuário (mais recentes primeiro), paginadas por cursor.
+     */
+    @GetMapping
+    public ResponseEntity<Pagina<NotificacaoDTO>> listarNotificacoes(@AuthenticationPrincipal UsuarioAutenticado usuario,
+                                                                     @RequestParam(required = false) String cursor,
+                                                                     @RequestParam(required = false) Integer tamanho) {
+        return ResponseEntity.ok(notificacaoService.listarPorUsuario(usuario.id(), cursor, tamanho));
+    }
+
+    /**
+     * Quantidade de notificações não lidas (badge), sem COUNT no banco a cada requisição.
+     */
+    @GetMapping("/nao-lidas/quantidade")
+    public ResponseEntity<Long> contarNaoLidas(@AuthenticationPrincipal UsuarioAutenticado usuario) {
+        return ResponseEntity.ok(notificacaoService.contarNaoLidas(usuario.id()));
+    }
+
+    /**
+     * Marca uma notificação como lida.
+     */
+    @PostMapping("/{idNotificacao}/lida")
+    public ResponseEntity<Void> marcarComoLida(@PathVariable Long idNotificacao,
+                                               @AuthenticationPrincipal UsuarioAutenticado usuario) {
+        notificacaoService.marcarComoLida(idNotificacao, usuario.id());
+        return ResponseEntity.noContent().build();
+    }
+
+    /**
+     * Marca todas as notificações do usuário como lidas.
+     * @return a quantidade de notificações marcadas.
+     */
+    @PostMapping("/lidas")
+    public ResponseEntity<Integer> marcarTodasComoLidas(@AuthenticationPrincipal UsuarioAutenticado usuario) {
+        return ResponseEntity.ok(notificacaoService.marcarTodasComoLidas(usuario.id()));
+    }
+}
@@ -1,5 +1,157 @@
 package com.ifpe.edu.br.workflowmanagement.controller;
 
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import com.ifpe.edu.br.workflowmanagement.service.BuscaService;
+import com.ifpe.edu.br.workflowmanagement.service.ContadorTarefasService;
+import com.ifpe.edu.br.workflowmanagement.service.FormatoExportacao;
+import com.ifpe.edu.br.workflowmanagement.service.ProjetoService;
+import com.ifpe.edu.br.workflowmanagement.service.QuadroEventosService;
+import com.ifpe.edu.br.workflowmanagement.service.RegistroHorasService;
+import com.ifpe.edu.br.workflowmanagement.service.TarefaService;
+import com.ifpe.edu.br.workflowmanagement.service.UsuarioAutenticado;
+import com.ifpe.edu.br.workflowmanagement.service.DTO.HorasDiaDTO;
+import com.ifpe.edu.br.workflowmanagement.service.DTO.Pagina;
+import com.ifpe.edu.br.workflowmanagement.service.DTO.ProjetoResumoDTO;
+import com.ifpe.edu.br.workflowmanagement.service.DTO.QuadroProjetoDTO;
+import com.ifpe.edu.br.workflowmanagement.service.DTO.RegistroHorasDTO;
+import com.ifpe.edu.br.workflowmanagement.service.DTO.RelatorioProjetoDTO;
+import com.ifpe.edu.br.workflowmanagement.service.DTO.ResultadoBuscaDTO;
+import com.ifpe.edu.br.workflowmanagement.service.DTO.TarefaResumoDTO;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/projetos") // Endpoint base para funcionalidades de projeto
 public class ProjetoController {
-    
+
+    @Autowired
+    private ProjetoService projetoService;
+
+    @Autowired
+    private ContadorTarefasService contadorTarefasService;
+
+    @Autowired
+    private TarefaService tarefaService;
+
+    @Autowired
+    private RegistroHorasService registroHorasService;
+
+    @Autowired
+    private QuadroEventosService quadroEventosService;
+
+    @Autowired
+    private BuscaService buscaService;
+
+    /**
+     * Lista os projetos paginados por cursor. Use o proximoCursor da resposta para buscar a página seguinte.
+     */
+    @GetMapping
+    public ResponseEntity<Pagina<ProjetoResumoDTO>> listarProjetos(@RequestParam(required = false) String cursor,
+                                                                   @RequestParam(required = false) Integer tamanho) {
+        return ResponseEntity.ok(projetoService.listarTodos(cursor, tamanho));
+    }
+
+    /**
+     * Lista as tarefas do projeto paginadas por cursor.
+     */
+    @GetMapping("/{idProjeto}/tarefas")
+    public ResponseEntity<Pagina<TarefaResumoDTO>> listarTarefas(@PathVariable Long idProjeto,
+                                                                 @RequestParam(required = false) String cursor,
+                                                                 @RequestParam(required = false) Integer tamanho) {
+        return ResponseEntity.ok(tarefaService.listarPorProjeto(idProjeto, cursor, tamanho));
+    }
+
+    /**
+     * Lista os registros de horas do projeto paginados por cursor.
+     */
+    @GetMapping("/{idProjeto}/registros-horas")
+    public ResponseEntity<Pagina<RegistroHorasDTO>> listarRegistrosHoras(@PathVariable Long idProjeto,
+                                                                         @RequestParam(required = false) String cursor,
+                                                                         @RequestParam(required = false) Integer tamanho) {
+        return ResponseEntity.ok(registroHorasService.listarPorProjeto(idProjeto, cursor, tamanho));
+    }
+
+    /**
+     * Busca textual nas tarefas e comentários do projeto, ordenada por relevância.
+     */
+    @GetMapping("/{idProjeto}/busca")
+    public ResponseEntity<List<ResultadoBuscaDTO>> buscar(@PathVariable Long idProjeto,
+                                                          @RequestParam String q,
+                                                          @RequestParam(required = false) Integer limite) {
+        return ResponseEntity.ok(buscaService.buscar(idProjeto, q, limite));
+    }
+
+    /**
+     * Endpoint para o Caso de Uso 16: Relatório do Projeto (texto)
+     */
+    @GetMapping(value = "/{idProjeto}/relatorio", produces = MediaType.TEXT_PLAIN_VALUE)
+    public ResponseEntity<String> gerarRelatorio(@PathVariable Long idProjeto,
+                                                 @AuthenticationPrincipal UsuarioAutenticado usuario) {
+        return ResponseEntity.ok(projetoService.gerarRelatorio(idProjeto, usuario.id()));
+    }
+
+    /**
+     * Endpoint para o Caso de Uso 16: Relatório do Projeto (estruturado, em JSON)
+     */
+    @GetMapping(value = "/{idProjeto}/relatorio/json", produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<RelatorioProjetoDTO> gerarRelatorioEstruturado(@PathVariable Long idProjeto,
+                                                                         @AuthenticationPrincipal UsuarioAutenticado usuario) {
+        return ResponseEntity.ok(projetoService.gerarRelatorioEstruturado(idProjeto, usuario.id()));
+    }
+
+    /**
+     * Exporta todas as horas do projeto (folha de pagamento) em CSV ou NDJSON.
+     * O conteúdo é escrito diretamente na resposta enquanto é lido do banco.
+     */
+    @GetMapping("/{idProjeto}/registros-horas/exportar")
+    public ResponseEntity<StreamingResponseBody> exportarRegistrosHoras(@PathVariable Long idProjeto,
+                                                                        @AuthenticationPrincipal UsuarioAutenticado usuario,
+                                                                        @RequestParam(defaultValue = "CSV") FormatoExportacao formato) {
+        // A permissão é verificada antes de a resposta começar a ser enviada
+        registroHorasService.verificarPermissaoExportacao(idProjeto, usuario.id());
+
+        StreamingResponseBody corpo = saida -> registroHorasService.exportarRegistrosDoProjeto(idProjeto, formato, saida);
+        return ResponseEntity.ok()
+            .contentType(MediaType.parseMediaType(formato.getTipoConteudo()))
+            .header(HttpHeaders.CONTENT_DISPOSITION,
+                    "attachment; filename=\"horas-projeto-" + idProjeto + "." + formato.getExtensao() + "\"")
+            .body(corpo);
+    }
+
+    /**
+     * Horas do projeto por dia no período informado (datas no formato ISO, ex.: 2025-01-31).
+     */
+    @GetMapping("/{idProjeto}/horas-diarias")
+    public ResponseEntity<List<HorasDiaDTO>> consultarHorasDiarias(@PathVariable Long idProjeto,
+                                                                  @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate inicio,
+                                                                  @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate fim) {
+        return ResponseEntity.ok(registroHorasService.consultarHorasDiariasPorProjeto(idProjeto, inicio, fim));
+    }
+
+    /**
+     * Quadro (kanban) do projeto: quantidade de tarefas por etapa e progresso.
+     */
+    @GetMapping("/{idProjeto}/quadro")
+    public ResponseEntity<QuadroProjetoDTO> montarQuadro(@PathVariable Long idProjeto) {
+        return ResponseEntity.ok(contadorTarefasService.montarQuadro(idProjeto));
+    }
+
+    /**
+     * Canal Server-Sent Events com as alterações do quadro (tarefas criadas, movidas, reatribuídas e comentadas),
+     * agrupadas em no máximo um evento "quadro" por intervalo.
+     */
+    @GetMapping(value = "/{idProjeto}/quadro/eventos", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter acompanharQuadro(@PathVariable Long idProjeto) {
+        return quadroEventosService.assinar(idProjeto);
+    }
 }
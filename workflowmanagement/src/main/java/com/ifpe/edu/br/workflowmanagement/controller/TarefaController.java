@@ -0,0 +1,95 @@
+package com.ifpe.edu.br.workflowmanagement.controller;
+
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.*;
+
+import com.ifpe.edu.br.workflowmanagement.service.ComentarioService;
+import com.ifpe.edu.br.workflowmanagement.service.OrdemListagem;
+import com.ifpe.edu.br.workflowmanagement.service.TarefaService;
+import com.ifpe.edu.br.workflowmanagement.service.UsuarioAutenticado;
+import com.ifpe.edu.br.workflowmanagement.service.DTO.ComentarioDTO;
+import com.ifpe.edu.br.workflowmanagement.service.DTO.MovimentacaoLoteDTO;
+import com.ifpe.edu.br.workflowmanagement.service.DTO.NovaTarefaDTO;
+import com.ifpe.edu.br.workflowmanagement.service.DTO.Pagina;
+import com.ifpe.edu.br.workflowmanagement.service.DTO.ResultadoLoteDTO;
+import com.ifpe.edu.br.workflowmanagement.service.DTO.ResultadoMovimentacaoDTO;
+import com.ifpe.edu.br.workflowmanagement.service.DTO.TarefaResumoDTO;
+import com.ifpe.edu.br.workflowmanagement.service.DTO.TransicaoTarefaDTO;
+
+@RestController
+@RequestMapping("/api/tarefas") // Endpoint base para funcionalidades de tarefa
+public class TarefaController {
+
+    @Autowired
+    private TarefaService tarefaService;
+
+    @Autowired
+    private ComentarioService comentarioService;
+
+    /**
+     * Histórico de comentários da tarefa, paginado por cursor.
+     * A ordem (CRESCENTE ou DECRESCENTE) deve ser a mesma em todas as páginas de uma mesma leitura.
+     */
+    @GetMapping("/{idTarefa}/comentarios")
+    public ResponseEntity<Pagina<ComentarioDTO>> listarComentarios(@PathVariable Long idTarefa,
+                                                                   @RequestParam(defaultValue = "CRESCENTE") OrdemListagem ordem,
+                                                                   @RequestParam(required = false) String cursor,
+                                                                   @RequestParam(required = false) Integer tamanho) {
+        return ResponseEntity.ok(comentarioService.buscarComentariosPorTarefa(idTarefa, ordem, cursor, tamanho));
+    }
+
+    /**
+     * Histórico de mudanças de etapa da tarefa (de, para, quem e quando), paginado por cursor.
+     */
+    @GetMapping("/{idTarefa}/transicoes")
+    public ResponseEntity<Pagina<TransicaoTarefaDTO>> listarTransicoes(@PathVariable Long idTarefa,
+                                                                       @RequestParam(required = false) String cursor,
+                                                                       @RequestParam(required = false) Integer tamanho) {
+        return ResponseEntity.ok(tarefaService.listarTransicoes(idTarefa, cursor, tamanho));
+    }
+
+    /**
+     * Endpoint para o Caso de Uso 9 em lote: importação de tarefas de uma sprint
+     */
+    @PostMapping("/lote")
+    public ResponseEntity<ResultadoLoteDTO> criarTarefasEmLote(@RequestParam Long idProjeto,
+                                                               @AuthenticationPrincipal UsuarioAutenticado usuario,
+                                                               @RequestBody List<NovaTarefaDTO> tarefas) {
+        ResultadoLoteDTO resultado = tarefaService.criarTarefasEmLote(idProjeto, tarefas, usuario.id());
+        // Retorna HTTP 201 Created com os IDs criados e a vazão obtida
+        return ResponseEntity.status(201).body(resultado);
+    }
+
+    /**
+     * Endpoint para o Caso de Uso 12: move uma tarefa para outra etapa (arrastar o cartão no quadro).
+     * Conflitos com outra alteração simultânea são repetidos automaticamente; se persistirem, HTTP 409.
+     */
+    @PutMapping("/{idTarefa}/etapa")
+    public ResponseEntity<TarefaResumoDTO> moverTarefa(@PathVariable Long idTarefa, @RequestParam Long idNovaEtapa,
+                                                       @AuthenticationPrincipal UsuarioAutenticado usuario) {
+        return ResponseEntity.ok(new TarefaResumoDTO(tarefaService.moverTarefaParaEtapa(idTarefa, idNovaEtapa, usuario.id())));
+    }
+
+    /**
+     * Endpoint para o Caso de Uso 13: define o responsável pela tarefa, com o mesmo tratamento de conflitos.
+     */
+    @PutMapping("/{idTarefa}/responsavel")
+    public ResponseEntity<TarefaResumoDTO> definirResponsavel(@PathVariable Long idTarefa, @RequestParam Long idResponsavel,
+                                                              @AuthenticationPrincipal UsuarioAutenticado usuario) {
+        return ResponseEntity.ok(new TarefaResumoDTO(tarefaService.definirResponsavel(idTarefa, idResponsavel, usuario.id())));
+    }
+
+    /**
+     * Endpoint para o Caso de Uso 12 em lote: move várias tarefas para uma etapa
+     */
+    @PostMapping("/mover-lote")
+    public ResponseEntity<List<ResultadoMovimentacaoDTO>> moverTarefasEmLote(@AuthenticationPrincipal UsuarioAutenticado usuario,
+                                                                             @RequestBody MovimentacaoLoteDTO movimentacao) {
+        return ResponseEntity.ok(tarefaService.moverTarefasEmLote(
+            movimentacao.getIdsTarefas(), movimentacao.getIdNovaEtapa(), usuario.id()));
+    }
+}
@@ -0,0 +1,64 @@
+package com.ifpe.edu.br.workflowmanagement.controller;
+
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.transaction.CannotCreateTransactionException;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+
+import com.ifpe.edu.br.workflowmanagement.service.ServicoSobrecarregadoException;
+
+import java.sql.SQLTransientConnectionException;
+
+/**
+ * Respostas HTTP para exceções dos serviços que não devem virar erro 500.
+ */
+@RestControllerAdvice
+public class TratamentoErrosController {
+
+    /**
+     * Serviço saturado: HTTP 503 com Retry-After, para o cliente repetir a requisição mais tarde.
+     */
+    @ExceptionHandler(ServicoSobrecarregadoException.class)
+    public ResponseEntity<String> servicoSobrecarregado(ServicoSobrecarregadoException e) {
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+            .header(HttpHeaders.RETRY_AFTER, String.valueOf(e.getTentarNovamenteEmSegundos()))
+            .body(e.getMessage());
+    }
+
+    /**
+     * Requisição inválida (ex.: campo obrigatório ausente ou limite excedido): HTTP 400 com a mensagem do serviço.
+     */
+    @ExceptionHandler(IllegalArgumentException.class)
+    public ResponseEntity<String> requisicaoInvalida(IllegalArgumentException e) {
+        return ResponseEntity.badRequest().body(e.getMessage());
+    }
+
+    /**
+     * Conflito de bloqueio otimista (o registro foi alterado por outra requisição e as repetições automáticas,
+     * quando houver, se esgotaram): HTTP 409, para o cliente recarregar o registro e decidir.
+     */
+    @ExceptionHandler(OptimisticLockingFailureException.class)
+    public ResponseEntity<String> conflitoDeVersao(OptimisticLockingFailureException e) {
+        return ResponseEntity.status(HttpStatus.CONFLICT)
+            .body("O registro foi alterado por outra requisição; recarregue e tente novamente.");
+    }
+
+    /**
+     * Pool de conexões esgotado (espera maior que spring.datasource.hikari.connection-timeout): HTTP 503.
+     * Outras falhas ao abrir a transação continuam como erro 500.
+     */
+    @ExceptionHandler(CannotCreateTransactionException.class)
+    public ResponseEntity<String> transacaoNaoIniciada(CannotCreateTransactionException e) {
+        for (Throwable causa = e.getCause(); causa != null; causa = causa.getCause()) {
+            if (causa instanceof SQLTransientConnectionException) {
+                return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                    .header(HttpHeaders.RETRY_AFTER, "1")
+                    .body("Servidor ocupado; tente novamente em instantes.");
+            }
+        }
+        throw e;
+    }
+}
@@ -2,11 +2,19 @@ package com.ifpe.edu.br.workflowmanagement.controller;
 
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
 
+import com.ifpe.edu.br.workflowmanagement.service.AutenticacaoService;
+import com.ifpe.edu.br.workflowmanagement.service.TarefaService;
+import com.ifpe.edu.br.workflowmanagement.service.UsuarioAutenticado;
 import com.ifpe.edu.br.workflowmanagement.service.UsuarioService;
 import com.ifpe.edu.br.workflowmanagement.service.DTO.CadastroUsuarioDTO;
 import com.ifpe.edu.br.workflowmanagement.service.DTO.LoginDTO;
+import com.ifpe.edu.br.workflowmanagement.service.DTO.Pagina;
+import com.ifpe.edu.br.workflowmanagement.service.DTO.RenovacaoTokenDTO;
+import com.ifpe.edu.br.workflowmanagement.service.DTO.TarefaResumoDTO;
+import com.ifpe.edu.br.workflowmanagement.service.DTO.TokensDTO;
 import com.ifpe.edu.br.workflowmanagement.service.DTO.UsuarioResponseDTO;
 
 @RestController
@@ -16,6 +24,12 @@ public class UsuarioController {
     @Autowired
     private UsuarioService usuarioService;
 
+    @Autowired
+    private TarefaService tarefaService;
+
+    @Autowired
+    private AutenticacaoService autenticacaoService;
+
     /**
      * Endpoint para o Caso de Uso 1: Cadastro de Usuário
      */
@@ -26,15 +40,54 @@ public class UsuarioController {
         return ResponseEntity.status(201).body(usuarioCriado);
     }
 
+    /**
+     * Altera o papel de um usuário (somente administradores, com a permissão GERENCIAR_USUARIOS).
+     */
+    @PutMapping("/{idUsuario}/papel")
+    public ResponseEntity<UsuarioResponseDTO> alterarPapel(@PathVariable Long idUsuario, @RequestParam Long idPapel,
+                                                           @AuthenticationPrincipal UsuarioAutenticado usuario) {
+        return ResponseEntity.ok(usuarioService.alterarPapel(idUsuario, idPapel, usuario.id()));
+    }
+
     /**
      * Endpoint para o Caso de Uso 2: Login do Usuário
-     * (A implementação completa requer Spring Security para gerar tokens JWT, etc.)
+     * Retorna o token de acesso (enviado como "Authorization: Bearer ..." nas demais requisições)
+     * e o token de atualização; HTTP 401 se o e-mail ou a senha estiverem incorretos.
      */
     @PostMapping("/login")
-    public ResponseEntity<String> login(@RequestBody LoginDTO loginDTO) {
-        // A lógica de autenticação seria chamada aqui
-        // Se sucesso, retorna um token de acesso
-        return ResponseEntity.ok("Login bem-sucedido! (Token JWT seria gerado aqui)");
+    public ResponseEntity<TokensDTO> login(@RequestBody LoginDTO loginDTO) {
+        return autenticacaoService.autenticar(loginDTO.getEmail(), loginDTO.getSenha())
+            .map(ResponseEntity::ok)
+            .orElseGet(() -> ResponseEntity.status(401).build());
+    }
+
+    /**
+     * Troca um token de atualização válido por um novo par de tokens, sem informar a senha novamente.
+     */
+    @PostMapping("/token/renovar")
+    public ResponseEntity<TokensDTO> renovarToken(@RequestBody RenovacaoTokenDTO renovacaoDTO) {
+        return autenticacaoService.renovar(renovacaoDTO.getTokenAtualizacao())
+            .map(ResponseEntity::ok)
+            .orElseGet(() -> ResponseEntity.status(401).build());
+    }
+
+    /**
+     * Endpoint para o Caso de Uso 17: Listagem de Usuários (paginada por cursor)
+     */
+    @GetMapping
+    public ResponseEntity<Pagina<UsuarioResponseDTO>> listarUsuarios(@RequestParam(required = false) String cursor,
+                                                                     @RequestParam(required = false) Integer tamanho) {
+        return ResponseEntity.ok(usuarioService.listarTodos(cursor, tamanho));
+    }
+
+    /**
+     * Lista as tarefas atribuídas ao usuário, paginadas por cursor.
+     */
+    @GetMapping("/{idUsuario}/tarefas")
+    public ResponseEntity<Pagina<TarefaResumoDTO>> listarTarefas(@PathVariable Long idUsuario,
+                                                                 @RequestParam(required = false) String cursor,
+                                                                 @RequestParam(required = false) Integer tamanho) {
+        return ResponseEntity.ok(tarefaService.listarPorResponsavel(idUsuario, cursor, tamanho));
     }
 
     /**
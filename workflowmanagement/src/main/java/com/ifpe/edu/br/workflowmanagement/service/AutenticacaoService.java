@@ -0,0 +1,150 @@
+package com.ifpe.edu.br.workflowmanagement.service;
+
+import com.ifpe.edu.br.workflowmanagement.service.DTO.TokensDTO;
+import com.ifpe.edu.br.workflowmanagement.service.repositories.UsuarioRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.oauth2.jose.jws.MacAlgorithm;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.jwt.JwtClaimsSet;
+import org.springframework.security.oauth2.jwt.JwtDecoder;
+import org.springframework.security.oauth2.jwt.JwtEncoder;
+import org.springframework.security.oauth2.jwt.JwtEncoderParameters;
+import org.springframework.security.oauth2.jwt.JwtException;
+import org.springframework.security.oauth2.jwt.JwsHeader;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Autenticação por tokens assinados (JWT com HMAC-SHA256). A senha é conferida com BCrypt apenas no login;
+ * depois disso cada requisição só verifica a assinatura e a validade do token de acesso, e o usuário
+ * da requisição vem de um cache em memória com validade curta.
+ *
+ * O token de atualização, de validade maior, serve apenas para obter um novo par de tokens sem informar a senha.
+ */
+@Service
+public class AutenticacaoService {
+
+    public static final String EMISSOR = "workflowmanagement";
+    public static final String CLAIM_TIPO = "tipo";
+    public static final String TIPO_ACESSO = "acesso";
+    public static final String TIPO_ATUALIZACAO = "atualizacao";
+
+    private final UsuarioService usuarioService;
+    private final UsuarioRepository usuarioRepository;
+    private final JwtEncoder jwtEncoder;
+    private final JwtDecoder jwtDecoder;
+    private final Duration validadeAcesso;
+    private final Duration validadeAtualizacao;
+    private final long validadePrincipalMs;
+    private final int maximoPrincipais;
+
+    // ID do usuário -> usuário autenticado (com o papel), para não consultar o banco a cada requisição
+    private final Map<Long, Principal> principais = new ConcurrentHashMap<>();
+
+    @Autowired
+    public AutenticacaoService(UsuarioService usuarioService, UsuarioRepository usuarioRepository,
+                               JwtEncoder jwtEncoder, JwtDecoder jwtDecoder,
+                               @Value("${seguranca.token.acesso.validade-segundos:900}") long validadeAcessoSegundos,
+                               @Value("${seguranca.token.atualizacao.validade-segundos:604800}") long validadeAtualizacaoSegundos,
+                               @Value("${seguranca.principal.validade-segundos:60}") long validadePrincipalSegundos,
+                               @Value("${seguranca.principal.maximo-usuarios:100000}") int maximoPrincipais) {
+        this.usuarioService = usuarioService;
+        this.usuarioRepository = usuarioRepository;
+        this.jwtEncoder = jwtEncoder;
+        this.jwtDecoder = jwtDecoder;
+        this.validadeAcesso = Duration.ofSeconds(validadeAcessoSegundos);
+        this.validadeAtualizacao = Duration.ofSeconds(validadeAtualizacaoSegundos);
+        this.validadePrincipalMs = validadePrincipalSegundos * 1000;
+        this.maximoPrincipais = maximoPrincipais;
+    }
+
+    /**
+     * CU 2: Login. Confere a senha (BCrypt) e emite os tokens de acesso e de atualização.
+     * @return vazio se o e-mail não existir ou a senha estiver incorreta.
+     */
+    public Optional<TokensDTO> autenticar(String email, String senha) {
+        return usuarioService.login(email, senha).map(usuario -> emitir(usuario.getId()));
+    }
+
+    /**
+     * Emite um novo par de tokens a partir de um token de atualização válido.
+     * @return vazio se o token for inválido, estiver expirado, não for de atualização ou o usuário não existir mais.
+     */
+    public Optional<TokensDTO> renovar(String tokenAtualizacao) {
+        Jwt token;
+        try {
+            token = jwtDecoder.decode(tokenAtualizacao);
+        } catch (JwtException e) {
+            return Optional.empty();
+        }
+        if (!TIPO_ATUALIZACAO.equals(token.getClaimAsString(CLAIM_TIPO))) {
+            return Optional.empty();
+        }
+        // Consulta o banco, e não o cache: a renovação é rara e não deve estender a sessão de um usuário excluído
+        Long idUsuario = Long.valueOf(token.getSubject());
+        principais.remove(idUsuario);
+        return carregarPrincipal(idUsuario).map(usuario -> emitir(usuario.id()));
+    }
+
+    /**
+     * Usuário da requisição a partir do ID contido no token de acesso. O resultado fica em cache por
+     * seguranca.principal.validade-segundos, que é também o atraso máximo para um usuário excluído
+     * ou com papel alterado deixar de ser aceito com os dados antigos.
+     */
+    public Optional<UsuarioAutenticado> carregarPrincipal(Long idUsuario) {
+        long agora = System.currentTimeMillis();
+        Principal principal = principais.get(idUsuario);
+        if (principal == null || principal.expiraEm < agora) {
+            Optional<Long> idPapel = usuarioRepository.findPapelIdById(idUsuario);
+            if (idPapel.isEmpty()) {
+                principais.remove(idUsuario);
+                return Optional.empty();
+            }
+            principal = new Principal(new UsuarioAutenticado(idUsuario, idPapel.get()), agora + validadePrincipalMs);
+            armazenar(idUsuario, principal, agora);
+        }
+        return Optional.of(principal.usuario);
+    }
+
+    // --- MÉTODOS AUXILIARES ---
+
+    private TokensDTO emitir(Long idUsuario) {
+        Instant agora = Instant.now();
+        return new TokensDTO(codificar(idUsuario, TIPO_ACESSO, agora, validadeAcesso),
+                             codificar(idUsuario, TIPO_ATUALIZACAO, agora, validadeAtualizacao),
+                             validadeAcesso.toSeconds());
+    }
+
+    private String codificar(Long idUsuario, String tipo, Instant agora, Duration validade) {
+        JwtClaimsSet claims = JwtClaimsSet.builder()
+            .issuer(EMISSOR)
+            .subject(idUsuario.toString())
+            .issuedAt(agora)
+            .expiresAt(agora.plus(validade))
+            .id(UUID.randomUUID().toString())
+            .claim(CLAIM_TIPO, tipo)
+            .build();
+        JwsHeader cabecalho = JwsHeader.with(MacAlgorithm.HS256).build();
+        return jwtEncoder.encode(JwtEncoderParameters.from(cabecalho, claims)).getTokenValue();
+    }
+
+    private void armazenar(Long idUsuario, Principal principal, long agora) {
+        if (principais.size() >= maximoPrincipais) {
+            principais.values().removeIf(p -> p.expiraEm < agora);
+            if (principais.size() >= maximoPrincipais) {
+                principais.clear();
+            }
+        }
+        principais.put(idUsuario, principal);
+    }
+
+    private record Principal(UsuarioAutenticado usuario, long expiraEm) {
+    }
+}
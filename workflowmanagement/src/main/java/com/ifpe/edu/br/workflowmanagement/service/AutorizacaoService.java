@@ -0,0 +1,68 @@
+package com.ifpe.edu.br.workflowmanagement.service;
+
+import com.ifpe.edu.br.workflowmanagement.service.entities.Permissao;
+import com.ifpe.edu.br.workflowmanagement.service.repositories.ComentarioRepository;
+import com.ifpe.edu.br.workflowmanagement.service.repositories.RegistroHorasRepository;
+import com.ifpe.edu.br.workflowmanagement.service.repositories.TarefaRepository;
+import com.ifpe.edu.br.workflowmanagement.service.repositories.UsuarioRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+
+/**
+ * Verificações de autorização feitas apenas com IDs.
+ * Cada verificação é uma única consulta de existência, sem carregar a entidade alvo,
+ * o usuário executor ou os proxies tarefa -> projeto -> gerente.
+ */
+@Service
+public class AutorizacaoService {
+
+    private final ComentarioRepository comentarioRepository;
+    private final RegistroHorasRepository registroHorasRepository;
+    private final TarefaRepository tarefaRepository;
+    private final UsuarioRepository usuarioRepository;
+    private final PermissaoService permissaoService;
+
+    @Autowired
+    public AutorizacaoService(ComentarioRepository comentarioRepository,
+                              RegistroHorasRepository registroHorasRepository,
+                              TarefaRepository tarefaRepository,
+                              UsuarioRepository usuarioRepository,
+                              PermissaoService permissaoService) {
+        this.comentarioRepository = comentarioRepository;
+        this.registroHorasRepository = registroHorasRepository;
+        this.tarefaRepository = tarefaRepository;
+        this.usuarioRepository = usuarioRepository;
+        this.permissaoService = permissaoService;
+    }
+
+    /**
+     * O usuário é o autor do comentário ou o gerente do projeto da tarefa comentada?
+     */
+    public boolean isAutorOuGerenteDoComentario(Long idComentario, Long idUsuario) {
+        return comentarioRepository.isAutorOuGerenteDoProjeto(idComentario, idUsuario);
+    }
+
+    /**
+     * O usuário é o autor do registro de horas ou o gerente do projeto da tarefa?
+     */
+    public boolean isAutorOuGerenteDoRegistro(Long idRegistro, Long idUsuario) {
+        return registroHorasRepository.isAutorOuGerenteDoProjeto(idRegistro, idUsuario);
+    }
+
+    /**
+     * O usuário é o gerente do projeto ao qual a tarefa pertence?
+     */
+    public boolean isGerenteDaTarefa(Long idTarefa, Long idUsuario) {
+        return tarefaRepository.isGerenteDoProjeto(idTarefa, idUsuario);
+    }
+
+    /**
+     * O papel do usuário concede a permissão? Consulta apenas o ID do papel;
+     * a verificação em si usa a máscara compilada do PermissaoService.
+     */
+    public boolean temPermissao(Long idUsuario, Permissao permissao) {
+        return usuarioRepository.findPapelIdById(idUsuario)
+            .map(idPapel -> permissaoService.temPermissao(idPapel, permissao))
+            .orElse(false);
+    }
+}
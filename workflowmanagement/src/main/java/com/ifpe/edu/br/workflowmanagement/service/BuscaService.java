@@ -0,0 +1,389 @@
+package com.ifpe.edu.br.workflowmanagement.service;
+
+import com.ifpe.edu.br.workflowmanagement.service.DTO.ResultadoBuscaDTO;
+import com.ifpe.edu.br.workflowmanagement.service.DTO.ResultadoBuscaDTO.Tipo;
+import com.ifpe.edu.br.workflowmanagement.service.eventos.ComentarioCriadoEvento;
+import com.ifpe.edu.br.workflowmanagement.service.eventos.ComentarioEditadoEvento;
+import com.ifpe.edu.br.workflowmanagement.service.eventos.ComentarioExcluidoEvento;
+import com.ifpe.edu.br.workflowmanagement.service.eventos.EventoProjeto;
+import com.ifpe.edu.br.workflowmanagement.service.eventos.ProjetoExcluidoEvento;
+import com.ifpe.edu.br.workflowmanagement.service.eventos.TarefasCriadasEvento;
+import com.ifpe.edu.br.workflowmanagement.service.repositories.ComentarioIndiceProjection;
+import com.ifpe.edu.br.workflowmanagement.service.repositories.ComentarioRepository;
+import com.ifpe.edu.br.workflowmanagement.service.repositories.TarefaIndiceProjection;
+import com.ifpe.edu.br.workflowmanagement.service.repositories.TarefaRepository;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.apache.lucene.analysis.Analyzer;
+import org.apache.lucene.analysis.br.BrazilianAnalyzer;
+import org.apache.lucene.document.Document;
+import org.apache.lucene.document.Field;
+import org.apache.lucene.document.StoredField;
+import org.apache.lucene.document.StringField;
+import org.apache.lucene.document.TextField;
+import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.index.IndexWriterConfig;
+import org.apache.lucene.index.StoredFields;
+import org.apache.lucene.index.Term;
+import org.apache.lucene.queryparser.classic.MultiFieldQueryParser;
+import org.apache.lucene.queryparser.classic.ParseException;
+import org.apache.lucene.queryparser.classic.QueryParser;
+import org.apache.lucene.search.BooleanClause;
+import org.apache.lucene.search.BooleanQuery;
+import org.apache.lucene.search.IndexSearcher;
+import org.apache.lucene.search.Query;
+import org.apache.lucene.search.ScoreDoc;
+import org.apache.lucene.search.SearcherManager;
+import org.apache.lucene.search.TermQuery;
+import org.apache.lucene.store.FSDirectory;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongFunction;
+
+/**
+ * Busca textual em tarefas (título e descrição) e comentários, por meio de um índice invertido
+ * (Lucene) gravado em disco local. Substitui as consultas com LIKE, que não usam índice.
+ *
+ * O índice é atualizado depois do commit, a partir dos eventos publicados pelos serviços de tarefas,
+ * comentários e projetos; os textos são lidos do banco por um worker em segundo plano. Buscas usam
+ * sempre um searcher já aberto (SearcherManager), sem reabrir o índice a cada consulta.
+ */
+@Service
+public class BuscaService {
+
+    private static final Logger log = LoggerFactory.getLogger(BuscaService.class);
+
+    // Limite de IDs por cláusula IN ao buscar os textos a indexar
+    private static final int TAMANHO_LOTE_IN = 1000;
+    private static final int LIMITE_MAXIMO_RESULTADOS = 100;
+
+    // Campos do documento
+    private static final String CAMPO_CHAVE = "chave";
+    private static final String CAMPO_TIPO = "tipo";
+    private static final String CAMPO_ID_PROJETO = "idProjeto";
+    private static final String CAMPO_ID_TAREFA = "idTarefa";
+    private static final String CAMPO_ID_COMENTARIO = "idComentario";
+    private static final String CAMPO_TITULO = "titulo";
+    private static final String CAMPO_DESCRICAO = "descricao";
+    private static final String CAMPO_TEXTO = "texto";
+
+    private final TarefaRepository tarefaRepository;
+    private final ComentarioRepository comentarioRepository;
+    private final Path diretorio;
+    private final int tamanhoFaixa;
+    private final int threadsReindexacao;
+    private final boolean threadsVirtuais;
+
+    private final Analyzer analisador = new BrazilianAnalyzer();
+    private final BlockingQueue<EventoProjeto> fila;
+    private final AtomicLong eventosDescartados = new AtomicLong();
+    private FSDirectory indice;
+    private IndexWriter escritor;
+    private SearcherManager searcherManager;
+    private volatile boolean ativo;
+    private final CountDownLatch workerEncerrado = new CountDownLatch(1);
+
+    @Autowired
+    public BuscaService(TarefaRepository tarefaRepository,
+                        ComentarioRepository comentarioRepository,
+                        @Value("${busca.indice.diretorio:./dados/indice-busca}") String diretorio,
+                        @Value("${busca.indice.fila.capacidade:10000}") int capacidadeFila,
+                        @Value("${busca.reindexacao.tamanho-faixa:5000}") int tamanhoFaixa,
+                        @Value("${busca.reindexacao.threads:4}") int threadsReindexacao,
+                        @Value("${spring.threads.virtual.enabled:false}") boolean threadsVirtuais) {
+        this.tarefaRepository = tarefaRepository;
+        this.comentarioRepository = comentarioRepository;
+        this.diretorio = Path.of(diretorio);
+        this.fila = new ArrayBlockingQueue<>(capacidadeFila);
+        this.tamanhoFaixa = tamanhoFaixa;
+        this.threadsReindexacao = threadsReindexacao;
+        this.threadsVirtuais = threadsVirtuais;
+    }
+
+    @PostConstruct
+    public void abrir() throws IOException {
+        indice = FSDirectory.open(diretorio);
+        IndexWriterConfig configuracao = new IndexWriterConfig(analisador)
+            .setOpenMode(IndexWriterConfig.OpenMode.CREATE_OR_APPEND);
+        escritor = new IndexWriter(indice, configuracao);
+        searcherManager = new SearcherManager(escritor, null);
+
+        ativo = true;
+        SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor("indice-busca-");
+        executor.setVirtualThreads(threadsVirtuais); // Apenas no perfil "virtual" (Java 21)
+        executor.execute(this::executarWorker);
+    }
+
+    @PreDestroy
+    public void fechar() throws IOException {
+        ativo = false;
+        try {
+            // O worker precisa terminar antes de o IndexWriter ser fechado
+            workerEncerrado.await(10, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        escritor.commit();
+        searcherManager.close();
+        escritor.close();
+        indice.close();
+    }
+
+    /**
+     * Busca tarefas e comentários de um projeto, ordenados por relevância.
+     * Todos os termos informados precisam aparecer no documento; o título da tarefa tem peso maior.
+     */
+    public List<ResultadoBuscaDTO> buscar(Long idProjeto, String termos, Integer limite) {
+        if (termos == null || termos.isBlank()) {
+            throw new IllegalArgumentException("Informe os termos da busca.");
+        }
+        int quantidade = limite == null || limite < 1 ? 20 : Math.min(limite, LIMITE_MAXIMO_RESULTADOS);
+
+        Query consulta;
+        try {
+            MultiFieldQueryParser parser = new MultiFieldQueryParser(
+                new String[] {CAMPO_TITULO, CAMPO_DESCRICAO, CAMPO_TEXTO}, analisador,
+                Map.of(CAMPO_TITULO, 3f, CAMPO_DESCRICAO, 1f, CAMPO_TEXTO, 1f));
+            parser.setDefaultOperator(QueryParser.Operator.AND);
+            consulta = new BooleanQuery.Builder()
+                .add(parser.parse(QueryParser.escape(termos)), BooleanClause.Occur.MUST)
+                .add(new TermQuery(new Term(CAMPO_ID_PROJETO, idProjeto.toString())), BooleanClause.Occur.FILTER)
+                .build();
+        } catch (ParseException e) {
+            throw new IllegalArgumentException("Termos de busca inválidos.");
+        }
+
+        try {
+            IndexSearcher searcher = searcherManager.acquire();
+            try {
+                ScoreDoc[] encontrados = searcher.search(consulta, quantidade).scoreDocs;
+                StoredFields campos = searcher.storedFields();
+                List<ResultadoBuscaDTO> resultados = new ArrayList<>(encontrados.length);
+                for (ScoreDoc encontrado : encontrados) {
+                    Document documento = campos.document(encontrado.doc);
+                    Tipo tipo = Tipo.valueOf(documento.get(CAMPO_TIPO));
+                    Long idComentario = tipo == Tipo.COMENTARIO
+                        ? documento.getField(CAMPO_ID_COMENTARIO).numericValue().longValue() : null;
+                    resultados.add(new ResultadoBuscaDTO(tipo, Long.valueOf(documento.get(CAMPO_ID_TAREFA)),
+                        idComentario, documento.get(CAMPO_TITULO), encontrado.score));
+                }
+                return resultados;
+            } finally {
+                searcherManager.release(searcher);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Falha ao consultar o índice de busca.", e);
+        }
+    }
+
+    /**
+     * Recebe os eventos somente após o commit e os coloca na fila de indexação.
+     * Se a fila estiver cheia o evento é descartado; uma reindexação completa corrige o índice.
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void aoConfirmarEvento(EventoProjeto evento) {
+        if (!(evento instanceof TarefasCriadasEvento || evento instanceof ComentarioCriadoEvento
+                || evento instanceof ComentarioEditadoEvento || evento instanceof ComentarioExcluidoEvento
+                || evento instanceof ProjetoExcluidoEvento)) {
+            return;
+        }
+        if (!fila.offer(evento)) {
+            long descartados = eventosDescartados.incrementAndGet();
+            log.warn("Fila do índice de busca cheia; evento {} descartado ({} no total).",
+                     evento.getClass().getSimpleName(), descartados);
+        }
+    }
+
+    /**
+     * Grava em disco as alterações pendentes do índice. As buscas já as enxergam antes disso;
+     * o commit periódico apenas limita o que precisaria ser reindexado após uma queda.
+     */
+    @Scheduled(fixedDelayString = "${busca.indice.commit-ms:5000}")
+    public void confirmarIndice() throws IOException {
+        if (escritor.hasUncommittedChanges()) {
+            escritor.commit();
+        }
+    }
+
+    /**
+     * Reconstrói o índice inteiro a partir do banco. As tarefas e os comentários são lidos em faixas
+     * de IDs processadas em paralelo; o IndexWriter aceita gravações concorrentes.
+     * @return a quantidade de documentos indexados.
+     */
+    public long reindexar() throws IOException {
+        long inicio = System.nanoTime();
+        escritor.deleteAll();
+
+        ExecutorService executor = Executors.newFixedThreadPool(threadsReindexacao);
+        try {
+            List<Future<Integer>> partes = new ArrayList<>();
+            agendarFaixas(executor, partes, tarefaRepository.buscarMaiorId(),
+                idInicial -> indexarTarefas(tarefaRepository.buscarParaIndicePorFaixa(idInicial, idInicial + tamanhoFaixa - 1)));
+            agendarFaixas(executor, partes, comentarioRepository.buscarMaiorId(),
+                idInicial -> indexarComentarios(comentarioRepository.buscarParaIndicePorFaixa(idInicial, idInicial + tamanhoFaixa - 1)));
+
+            long total = 0;
+            for (Future<Integer> parte : partes) {
+                total += parte.get();
+            }
+            escritor.commit();
+            searcherManager.maybeRefresh();
+            log.info("Índice de busca reconstruído: {} documentos em {} ms.", total,
+                     TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - inicio));
+            return total;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Reindexação interrompida.", e);
+        } catch (ExecutionException e) {
+            escritor.rollback();
+            throw new IllegalStateException("Falha na reindexação da busca.", e.getCause());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    // --- INDEXAÇÃO INCREMENTAL ---
+
+    private void executarWorker() {
+        List<EventoProjeto> lote = new ArrayList<>();
+        try {
+            while (ativo) {
+                EventoProjeto primeiro = fila.poll(500, TimeUnit.MILLISECONDS);
+                if (primeiro == null) {
+                    continue;
+                }
+                lote.add(primeiro);
+                fila.drainTo(lote, TAMANHO_LOTE_IN - 1);
+                try {
+                    aplicar(lote);
+                    searcherManager.maybeRefresh();
+                } catch (IOException | RuntimeException e) {
+                    log.error("Falha ao atualizar o índice de busca com {} eventos.", lote.size(), e);
+                }
+                lote.clear();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            workerEncerrado.countDown();
+        }
+    }
+
+    /**
+     * Aplica os eventos na ordem em que chegaram. Os textos são lidos do banco no momento da indexação,
+     * então reprocessar um evento antigo grava o conteúdo atual.
+     */
+    private void aplicar(List<EventoProjeto> eventos) throws IOException {
+        Set<Long> tarefas = new LinkedHashSet<>();
+        Set<Long> comentarios = new LinkedHashSet<>();
+        for (EventoProjeto evento : eventos) {
+            if (evento instanceof TarefasCriadasEvento criadas) {
+                tarefas.addAll(criadas.idsTarefas());
+            } else if (evento instanceof ComentarioCriadoEvento criado) {
+                comentarios.add(criado.idComentario());
+            } else if (evento instanceof ComentarioEditadoEvento editado) {
+                comentarios.add(editado.idComentario());
+            } else if (evento instanceof ComentarioExcluidoEvento excluido) {
+                comentarios.remove(excluido.idComentario());
+                escritor.deleteDocuments(new Term(CAMPO_CHAVE, chaveComentario(excluido.idComentario())));
+            } else if (evento instanceof ProjetoExcluidoEvento projeto) {
+                escritor.deleteDocuments(new Term(CAMPO_ID_PROJETO, projeto.idProjeto().toString()));
+            }
+        }
+        for (List<Long> ids : particionar(new ArrayList<>(tarefas))) {
+            indexarTarefas(tarefaRepository.buscarParaIndice(ids));
+        }
+        for (List<Long> ids : particionar(new ArrayList<>(comentarios))) {
+            indexarComentarios(comentarioRepository.buscarParaIndice(ids));
+        }
+    }
+
+    // --- MÉTODOS AUXILIARES ---
+
+    private void agendarFaixas(ExecutorService executor, List<Future<Integer>> partes, long maiorId,
+                               LongFunction<Integer> indexarFaixa) {
+        for (long idInicial = 1; idInicial <= maiorId; idInicial += tamanhoFaixa) {
+            long faixa = idInicial;
+            partes.add(executor.submit(() -> indexarFaixa.apply(faixa)));
+        }
+    }
+
+    private int indexarTarefas(List<TarefaIndiceProjection> tarefas) {
+        try {
+            for (TarefaIndiceProjection tarefa : tarefas) {
+                Document documento = new Document();
+                documento.add(new StringField(CAMPO_CHAVE, chaveTarefa(tarefa.getId()), Field.Store.NO));
+                documento.add(new StringField(CAMPO_TIPO, Tipo.TAREFA.name(), Field.Store.YES));
+                documento.add(new StringField(CAMPO_ID_PROJETO, tarefa.getProjetoId().toString(), Field.Store.NO));
+                documento.add(new StringField(CAMPO_ID_TAREFA, tarefa.getId().toString(), Field.Store.YES));
+                documento.add(new TextField(CAMPO_TITULO, tarefa.getTitulo(), Field.Store.YES));
+                if (tarefa.getDescricao() != null) {
+                    documento.add(new TextField(CAMPO_DESCRICAO, tarefa.getDescricao(), Field.Store.NO));
+                }
+                escritor.updateDocument(new Term(CAMPO_CHAVE, chaveTarefa(tarefa.getId())), documento);
+            }
+            return tarefas.size();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Falha ao indexar tarefas.", e);
+        }
+    }
+
+    private int indexarComentarios(List<ComentarioIndiceProjection> comentarios) {
+        try {
+            for (ComentarioIndiceProjection comentario : comentarios) {
+                Document documento = new Document();
+                documento.add(new StringField(CAMPO_CHAVE, chaveComentario(comentario.getId()), Field.Store.NO));
+                documento.add(new StringField(CAMPO_TIPO, Tipo.COMENTARIO.name(), Field.Store.YES));
+                documento.add(new StringField(CAMPO_ID_PROJETO, comentario.getProjetoId().toString(), Field.Store.NO));
+                documento.add(new StringField(CAMPO_ID_TAREFA, comentario.getTarefaId().toString(), Field.Store.YES));
+                documento.add(new StoredField(CAMPO_ID_COMENTARIO, comentario.getId()));
+                documento.add(new TextField(CAMPO_TEXTO, comentario.getTexto(), Field.Store.NO));
+                escritor.updateDocument(new Term(CAMPO_CHAVE, chaveComentario(comentario.getId())), documento);
+            }
+            return comentarios.size();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Falha ao indexar comentários.", e);
+        }
+    }
+
+    private static String chaveTarefa(Long idTarefa) {
+        return "t" + idTarefa;
+    }
+
+    private static String chaveComentario(Long idComentario) {
+        return "c" + idComentario;
+    }
+
+    private static List<List<Long>> particionar(List<Long> ids) {
+        List<List<Long>> lotes = new ArrayList<>();
+        for (int i = 0; i < ids.size(); i += TAMANHO_LOTE_IN) {
+            lotes.add(ids.subList(i, Math.min(i + TAMANHO_LOTE_IN, ids.size())));
+        }
+        return lotes;
+    }
+}
@@ -1,12 +1,19 @@
 package com.ifpe.edu.br.workflowmanagement.service;
 
+import com.ifpe.edu.br.workflowmanagement.service.DTO.ComentarioDTO;
+import com.ifpe.edu.br.workflowmanagement.service.DTO.Pagina;
 import com.ifpe.edu.br.workflowmanagement.service.entities.Comentario;
 import com.ifpe.edu.br.workflowmanagement.service.entities.Tarefa;
 import com.ifpe.edu.br.workflowmanagement.service.entities.Usuario;
+import com.ifpe.edu.br.workflowmanagement.service.eventos.ComentarioCriadoEvento;
+import com.ifpe.edu.br.workflowmanagement.service.eventos.ComentarioEditadoEvento;
+import com.ifpe.edu.br.workflowmanagement.service.eventos.ComentarioExcluidoEvento;
 import com.ifpe.edu.br.workflowmanagement.service.repositories.ComentarioRepository;
+import com.ifpe.edu.br.workflowmanagement.service.repositories.ComentarioThreadProjection;
 import com.ifpe.edu.br.workflowmanagement.service.repositories.TarefaRepository;
 import com.ifpe.edu.br.workflowmanagement.service.repositories.UsuarioRepository;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -18,14 +25,20 @@ public class ComentarioService {
     private final ComentarioRepository comentarioRepository;
     private final TarefaRepository tarefaRepository;
     private final UsuarioRepository usuarioRepository;
+    private final AutorizacaoService autorizacaoService;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Autowired
     public ComentarioService(ComentarioRepository comentarioRepository,
                              TarefaRepository tarefaRepository,
-                             UsuarioRepository usuarioRepository) {
+                             UsuarioRepository usuarioRepository,
+                             AutorizacaoService autorizacaoService,
+                             ApplicationEventPublisher eventPublisher) {
         this.comentarioRepository = comentarioRepository;
         this.tarefaRepository = tarefaRepository;
         this.usuarioRepository = usuarioRepository;
+        this.autorizacaoService = autorizacaoService;
+        this.eventPublisher = eventPublisher;
     }
 
     /**
@@ -46,7 +59,12 @@ public class ComentarioService {
         // Por enquanto, vamos assumir que se ele pode acessar a tarefa, ele pode comentar.
 
         Comentario novoComentario = new Comentario(autor, tarefa, texto);
-        return comentarioRepository.save(novoComentario);
+        Comentario salvo = comentarioRepository.save(novoComentario);
+
+        // Os interessados são notificados depois do commit, fora desta requisição
+        eventPublisher.publishEvent(new ComentarioCriadoEvento(tarefa.getProjeto().getId(), tarefa.getId(),
+                salvo.getId(), autor.getId()));
+        return salvo;
     }
 
     /**
@@ -71,7 +89,12 @@ public class ComentarioService {
         }
 
         comentario.setText(novoTexto);
-        return comentarioRepository.save(comentario);
+        Comentario salvo = comentarioRepository.save(comentario);
+
+        // Usa apenas IDs: o projeto é buscado por consulta, sem inicializar a tarefa
+        comentarioRepository.findProjetoIdById(idComentario).ifPresent(idProjeto ->
+            eventPublisher.publishEvent(new ComentarioEditadoEvento(idProjeto, comentario.getTarefa().getId(), idComentario)));
+        return salvo;
     }
 
     /**
@@ -81,32 +104,46 @@ public class ComentarioService {
      */
     @Transactional
     public void excluirComentario(Long idComentario, Long idUsuarioExecutor) {
-        Comentario comentario = comentarioRepository.findById(idComentario)
-            .orElseThrow(() -> new RuntimeException("Comentário não encontrado."));
-        Usuario executor = usuarioRepository.findById(idUsuarioExecutor)
-            .orElseThrow(() -> new RuntimeException("Usuário não encontrado."));
-
         // Verificação de Permissão: Apenas o autor ou o gerente do projeto podem excluir.
-        boolean isAutor = comentario.getAutor().getId().equals(executor.getId());
-        boolean isGerenteDoProjeto = comentario.getTarefa().getProjeto().getGerente().getId().equals(executor.getId());
-        
-        if (!isAutor && !isGerenteDoProjeto) {
-             throw new SecurityException("Usuário não tem permissão para excluir este comentário.");
+        // Uma única consulta por IDs; a existência só é verificada quando a permissão é negada.
+        if (!autorizacaoService.isAutorOuGerenteDoComentario(idComentario, idUsuarioExecutor)) {
+            if (!comentarioRepository.existsById(idComentario)) {
+                throw new RuntimeException("Comentário não encontrado.");
+            }
+            throw new SecurityException("Usuário não tem permissão para excluir este comentário.");
         }
 
-        comentarioRepository.deleteById(idComentario);
+        Long idProjeto = comentarioRepository.findProjetoIdById(idComentario)
+            .orElseThrow(() -> new RuntimeException("Comentário não encontrado."));
+        comentarioRepository.excluirPorId(idComentario);
+        eventPublisher.publishEvent(new ComentarioExcluidoEvento(idProjeto, idComentario));
     }
 
     /**
-     * Busca todos os comentários de uma tarefa específica, em ordem de criação.
+     * Busca os comentários de uma tarefa, uma página por vez, com o autor na mesma consulta.
      * @param idTarefa O ID da tarefa.
-     * @return Uma lista de comentários.
+     * @param ordem CRESCENTE (mais antigos primeiro) ou DECRESCENTE (mais recentes primeiro).
+     * @param cursor O cursor retornado na página anterior (nulo na primeira página).
+     * @param tamanhoPagina A quantidade de comentários por página.
+     * @return Uma página de comentários.
      */
     @Transactional(readOnly = true)
-    public List<Comentario> buscarComentariosPorTarefa(Long idTarefa) {
-        if (!tarefaRepository.existsById(idTarefa)) {
+    public Pagina<ComentarioDTO> buscarComentariosPorTarefa(Long idTarefa, OrdemListagem ordem, String cursor,
+                                                            Integer tamanhoPagina) {
+        boolean crescente = ordem != OrdemListagem.DECRESCENTE;
+        CursorPaginacao posicao = CursorPaginacao.decodificar(cursor, crescente);
+        int tamanho = CursorPaginacao.tamanho(tamanhoPagina);
+        List<ComentarioThreadProjection> comentarios = crescente
+            ? comentarioRepository.buscarPaginaPorTarefaCrescente(idTarefa, posicao.getDataCriacao(), posicao.getId(),
+                                                                  CursorPaginacao.limite(tamanho))
+            : comentarioRepository.buscarPaginaPorTarefaDecrescente(idTarefa, posicao.getDataCriacao(), posicao.getId(),
+                                                                    CursorPaginacao.limite(tamanho));
+
+        // A existência da tarefa só é verificada quando não há nenhum comentário na primeira página
+        if (comentarios.isEmpty() && cursor == null && !tarefaRepository.existsById(idTarefa)) {
             throw new RuntimeException("Tarefa não encontrada.");
         }
-        return comentarioRepository.findByTarefaIdOrderByDataCriacaoAsc(idTarefa);
+        return CursorPaginacao.montar(comentarios, tamanho, ComentarioThreadProjection::getDataCriacao,
+            ComentarioThreadProjection::getId, ComentarioDTO::new);
     }
 }
\ No newline at end of file
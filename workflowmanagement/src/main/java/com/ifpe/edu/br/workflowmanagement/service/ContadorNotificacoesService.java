@@ -0,0 +1,107 @@
+package com.ifpe.edu.br.workflowmanagement.service;
+
+import com.ifpe.edu.br.workflowmanagement.service.repositories.NotificacaoRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Contador de notificações não lidas por usuário (o "badge" exibido em toda página).
+ * O valor fica em memória e é ajustado a cada inserção e leitura, depois do commit; só vai ao banco
+ * quando o usuário ainda não está no cache ou quando a entrada expirou. A expiração limita o tempo
+ * em que uma divergência (ex.: ajuste concorrente com a carga inicial) pode ser exibida.
+ */
+@Service
+public class ContadorNotificacoesService {
+
+    private final NotificacaoRepository notificacaoRepository;
+    private final long validadeMs;
+    private final int maximoUsuarios;
+
+    private final Map<Long, Contador> contadores = new ConcurrentHashMap<>();
+
+    @Autowired
+    public ContadorNotificacoesService(NotificacaoRepository notificacaoRepository,
+                                       @Value("${notificacoes.contador.validade-segundos:300}") long validadeSegundos,
+                                       @Value("${notificacoes.contador.maximo-usuarios:100000}") int maximoUsuarios) {
+        this.notificacaoRepository = notificacaoRepository;
+        this.validadeMs = validadeSegundos * 1000;
+        this.maximoUsuarios = maximoUsuarios;
+    }
+
+    /**
+     * Quantidade de notificações não lidas do usuário.
+     */
+    public long consultar(Long idUsuario) {
+        long agora = System.currentTimeMillis();
+        Contador contador = contadores.get(idUsuario);
+        if (contador == null || contador.expiraEm < agora) {
+            contador = new Contador(notificacaoRepository.contarNaoLidas(idUsuario), agora + validadeMs);
+            armazenar(idUsuario, contador, agora);
+        }
+        return Math.max(0, contador.valor.get());
+    }
+
+    /**
+     * Soma um delta ao contador do usuário depois do commit da transação atual
+     * (ou imediatamente, se não houver transação). Usuários fora do cache são ignorados:
+     * a próxima consulta carrega o valor do banco.
+     */
+    public void ajustarAposCommit(Long idUsuario, long delta) {
+        aposCommit(() -> {
+            Contador contador = contadores.get(idUsuario);
+            if (contador != null) {
+                contador.valor.addAndGet(delta);
+            }
+        });
+    }
+
+    /**
+     * Zera o contador do usuário depois do commit (usado em "marcar todas como lidas").
+     */
+    public void zerarAposCommit(Long idUsuario) {
+        aposCommit(() -> armazenar(idUsuario, new Contador(0, System.currentTimeMillis() + validadeMs),
+                                   System.currentTimeMillis()));
+    }
+
+    // --- MÉTODOS AUXILIARES ---
+
+    private void armazenar(Long idUsuario, Contador contador, long agora) {
+        if (contadores.size() >= maximoUsuarios) {
+            contadores.values().removeIf(c -> c.expiraEm < agora);
+            if (contadores.size() >= maximoUsuarios) {
+                contadores.clear();
+            }
+        }
+        contadores.put(idUsuario, contador);
+    }
+
+    private static void aposCommit(Runnable acao) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    acao.run();
+                }
+            });
+        } else {
+            acao.run();
+        }
+    }
+
+    private static final class Contador {
+        private final AtomicLong valor;
+        private final long expiraEm;
+
+        private Contador(long valor, long expiraEm) {
+            this.valor = new AtomicLong(valor);
+            this.expiraEm = expiraEm;
+        }
+    }
+}
@@ -0,0 +1,129 @@
+package com.ifpe.edu.br.workflowmanagement.service;
+
+import com.ifpe.edu.br.workflowmanagement.service.DTO.ContagemEtapaDTO;
+import com.ifpe.edu.br.workflowmanagement.service.DTO.QuadroProjetoDTO;
+import com.ifpe.edu.br.workflowmanagement.service.repositories.ContadorTarefasEtapaRepository;
+import com.ifpe.edu.br.workflowmanagement.service.repositories.ContagemTarefasProjection;
+import com.ifpe.edu.br.workflowmanagement.service.repositories.ProjetoRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Mantém os contadores de tarefas por (projeto, etapa) usados pelo quadro e pelo progresso do projeto.
+ * Os contadores são atualizados na mesma transação das operações de tarefa;
+ * uma reconciliação periódica corrige qualquer divergência em relação às tarefas reais.
+ */
+@Service
+public class ContadorTarefasService {
+
+    private static final Logger log = LoggerFactory.getLogger(ContadorTarefasService.class);
+
+    private final ContadorTarefasEtapaRepository contadorRepository;
+    private final ProjetoRepository projetoRepository;
+    private final InsercaoChaveUnicaService insercaoChaveUnicaService;
+
+    @Autowired
+    public ContadorTarefasService(ContadorTarefasEtapaRepository contadorRepository,
+                                  ProjetoRepository projetoRepository,
+                                  InsercaoChaveUnicaService insercaoChaveUnicaService) {
+        this.contadorRepository = contadorRepository;
+        this.projetoRepository = projetoRepository;
+        this.insercaoChaveUnicaService = insercaoChaveUnicaService;
+    }
+
+    /**
+     * Registra a entrada de tarefas em uma etapa (criação de tarefas).
+     * Deve ser chamado dentro da transação que cria as tarefas.
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void registrarEntrada(Long idProjeto, Long idEtapa, long quantidade) {
+        aplicarDelta(idProjeto, idEtapa, quantidade);
+    }
+
+    /**
+     * Registra a movimentação de tarefas de uma etapa para outra dentro do mesmo projeto.
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void registrarMovimento(Long idProjeto, Long idEtapaOrigem, Long idEtapaDestino, long quantidade) {
+        if (Objects.equals(idEtapaOrigem, idEtapaDestino)) {
+            return;
+        }
+        if (idEtapaOrigem != null) {
+            aplicarDelta(idProjeto, idEtapaOrigem, -quantidade);
+        }
+        aplicarDelta(idProjeto, idEtapaDestino, quantidade);
+    }
+
+    /**
+     * Remove os contadores de um projeto que está sendo excluído.
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void removerContadoresDoProjeto(Long idProjeto) {
+        contadorRepository.deleteByProjetoId(idProjeto);
+    }
+
+    /**
+     * Monta o quadro do projeto lendo apenas uma linha por etapa do fluxo de trabalho.
+     */
+    @Transactional(readOnly = true)
+    public QuadroProjetoDTO montarQuadro(Long idProjeto) {
+        if (!projetoRepository.existsById(idProjeto)) {
+            throw new RuntimeException("Projeto não encontrado.");
+        }
+
+        long totalTarefas = 0;
+        long tarefasConcluidas = 0;
+        List<ContagemEtapaDTO> colunas = new ArrayList<>();
+        for (ContagemTarefasProjection linha : contadorRepository.listarColunasDoQuadro(idProjeto)) {
+            long quantidade = linha.getQuantidade() != null ? linha.getQuantidade() : 0;
+            totalTarefas += quantidade;
+            if (linha.getEtapaNome().equalsIgnoreCase("Concluído")) {
+                tarefasConcluidas += quantidade;
+            }
+            colunas.add(new ContagemEtapaDTO(linha.getEtapaId(), linha.getEtapaNome(), quantidade));
+        }
+
+        long progresso = totalTarefas > 0 ? (100 * tarefasConcluidas / totalTarefas) : 0;
+        return new QuadroProjetoDTO(idProjeto, colunas, totalTarefas, progresso);
+    }
+
+    /**
+     * Reconciliação dos contadores: recalcula as contagens a partir das tarefas
+     * e corrige somente os contadores divergentes.
+     * As contagens são calculadas dentro dos próprios comandos, e não a partir de uma leitura prévia,
+     * para não sobrescrever deltas confirmados por outras transações durante a reconciliação.
+     */
+    @Scheduled(cron = "${contadores.reconciliacao.cron:0 0 3 * * *}")
+    @Transactional
+    public void reconciliar() {
+        int corrigidos = contadorRepository.corrigirDivergentes() + contadorRepository.criarFaltantes();
+        if (corrigidos > 0) {
+            log.warn("Reconciliação dos contadores do quadro corrigiu {} contador(es).", corrigidos);
+        }
+    }
+
+    // --- MÉTODOS AUXILIARES ---
+
+    private void aplicarDelta(Long idProjeto, Long idEtapa, long delta) {
+        if (delta == 0 || contadorRepository.incrementar(idProjeto, idEtapa, delta) > 0) {
+            return;
+        }
+        // Primeira tarefa do projeto nesta etapa: cria o contador já com o delta; se outra transação o criou
+        // entre o UPDATE e o INSERT (violando uk_contador_projeto_etapa), o delta é somado à linha dela.
+        // Decremento sem contador existente: divergência corrigida pela reconciliação
+        if (delta > 0 && !insercaoChaveUnicaService.inserirSeAusente(
+                "INSERT INTO contadores_tarefas_etapa (projeto_id, etapa_id, quantidade) VALUES (?, ?, ?)",
+                idProjeto, idEtapa, delta)) {
+            contadorRepository.incrementar(idProjeto, idEtapa, delta);
+        }
+    }
+}
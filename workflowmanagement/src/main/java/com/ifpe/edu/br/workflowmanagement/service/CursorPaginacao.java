@@ -0,0 +1,106 @@
+package com.ifpe.edu.br.workflowmanagement.service;
+
+import com.ifpe.edu.br.workflowmanagement.service.DTO.Pagina;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * Cursor de paginação por chave (keyset) sobre (data_criacao, id).
+ * Cada página continua a partir da última linha da página anterior, usando o índice,
+ * em vez de descartar linhas com OFFSET. O cursor é entregue ao cliente como um token opaco.
+ */
+public final class CursorPaginacao {
+
+    public static final int TAMANHO_PADRAO = 20;
+    public static final int TAMANHO_MAXIMO = 100;
+
+    // Limites usados quando o cliente não informa cursor (primeira página)
+    private static final LocalDateTime DATA_MINIMA = LocalDateTime.of(1970, 1, 1, 0, 0);
+    private static final LocalDateTime DATA_MAXIMA = LocalDateTime.of(9999, 12, 31, 23, 59);
+
+    private final LocalDateTime dataCriacao;
+    private final Long id;
+
+    private CursorPaginacao(LocalDateTime dataCriacao, Long id) {
+        this.dataCriacao = dataCriacao;
+        this.id = id;
+    }
+
+    /**
+     * Decodifica o token recebido do cliente. Sem token, retorna o início da ordem crescente.
+     */
+    public static CursorPaginacao decodificar(String token) {
+        return decodificar(token, true);
+    }
+
+    /**
+     * Decodifica o token recebido do cliente. Sem token, retorna o início da ordem
+     * crescente ou decrescente, conforme informado.
+     */
+    public static CursorPaginacao decodificar(String token, boolean crescente) {
+        if (token == null || token.isBlank()) {
+            return crescente ? new CursorPaginacao(DATA_MINIMA, 0L) : new CursorPaginacao(DATA_MAXIMA, Long.MAX_VALUE);
+        }
+        try {
+            String conteudo = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            int separador = conteudo.lastIndexOf('|');
+            return new CursorPaginacao(LocalDateTime.parse(conteudo.substring(0, separador)),
+                                       Long.valueOf(conteudo.substring(separador + 1)));
+        } catch (IllegalArgumentException | IndexOutOfBoundsException | DateTimeParseException e) {
+            throw new IllegalArgumentException("Cursor de paginação inválido.");
+        }
+    }
+
+    /**
+     * Limita o tamanho da página solicitado ao máximo permitido.
+     */
+    public static int tamanho(Integer tamanhoSolicitado) {
+        if (tamanhoSolicitado == null || tamanhoSolicitado < 1) {
+            return TAMANHO_PADRAO;
+        }
+        return Math.min(tamanhoSolicitado, TAMANHO_MAXIMO);
+    }
+
+    /**
+     * Limite da consulta: busca uma linha a mais para saber se existe uma próxima página.
+     */
+    public static Pageable limite(int tamanho) {
+        return PageRequest.of(0, tamanho + 1);
+    }
+
+    /**
+     * Monta a página a partir das linhas retornadas pela consulta (tamanho + 1 no máximo).
+     */
+    public static <E, D> Pagina<D> montar(List<E> linhas, int tamanho,
+                                          Function<E, LocalDateTime> dataCriacao, Function<E, Long> id,
+                                          Function<E, D> conversor) {
+        boolean temProxima = linhas.size() > tamanho;
+        List<E> itens = temProxima ? linhas.subList(0, tamanho) : linhas;
+        String proximoCursor = null;
+        if (temProxima) {
+            E ultimo = itens.get(itens.size() - 1);
+            proximoCursor = codificar(dataCriacao.apply(ultimo), id.apply(ultimo));
+        }
+        return new Pagina<>(itens.stream().map(conversor).toList(), proximoCursor);
+    }
+
+    private static String codificar(LocalDateTime dataCriacao, Long id) {
+        String conteudo = dataCriacao + "|" + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(conteudo.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public LocalDateTime getDataCriacao() {
+        return dataCriacao;
+    }
+
+    public Long getId() {
+        return id;
+    }
+}
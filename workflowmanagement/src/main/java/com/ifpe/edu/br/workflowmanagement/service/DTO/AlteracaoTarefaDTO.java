@@ -0,0 +1,59 @@
+package com.ifpe.edu.br.workflowmanagement.service.DTO;
+
+/**
+ * Alterações de uma tarefa acumuladas desde o último envio ao quadro.
+ * Campos nulos não mudaram; várias movimentações seguidas resultam apenas na etapa final.
+ */
+public class AlteracaoTarefaDTO {
+
+    private final Long idTarefa;
+    private boolean criada;
+    private Long idEtapaAtual;
+    private Long idResponsavel;
+    private int novosComentarios;
+
+    public AlteracaoTarefaDTO(Long idTarefa) {
+        this.idTarefa = idTarefa;
+    }
+
+    // Métodos usados para acumular os eventos
+
+    public void marcarCriada(Long idEtapa) {
+        this.criada = true;
+        this.idEtapaAtual = idEtapa;
+    }
+
+    public void moverPara(Long idEtapa) {
+        this.idEtapaAtual = idEtapa;
+    }
+
+    public void atribuirA(Long idResponsavel) {
+        this.idResponsavel = idResponsavel;
+    }
+
+    public void adicionarComentario() {
+        this.novosComentarios++;
+    }
+
+    // Getters
+
+    public Long getIdTarefa() {
+        return idTarefa;
+    }
+
+    public boolean isCriada() {
+        return criada;
+    }
+
+    public Long getIdEtapaAtual() {
+        return idEtapaAtual;
+    }
+
+    public Long getIdResponsavel() {
+        return idResponsavel;
+    }
+
+    public int getNovosComentarios() {
+        return novosComentarios;
+    }
+}
@@ -0,0 +1,35 @@
+package com.ifpe.edu.br.workflowmanagement.service.DTO;
+
+import java.util.List;
+
+/**
+ * Frame enviado aos assinantes do quadro de um projeto.
+ * Quando "recarregar" é verdadeiro, alterações foram descartadas por excesso e o cliente
+ * deve buscar o quadro novamente em vez de aplicar a lista.
+ */
+public class AtualizacaoQuadroDTO {
+
+    private Long idProjeto;
+    private List<AlteracaoTarefaDTO> tarefas;
+    private boolean recarregar;
+
+    public AtualizacaoQuadroDTO(Long idProjeto, List<AlteracaoTarefaDTO> tarefas, boolean recarregar) {
+        this.idProjeto = idProjeto;
+        this.tarefas = tarefas;
+        this.recarregar = recarregar;
+    }
+
+    // Getters
+
+    public Long getIdProjeto() {
+        return idProjeto;
+    }
+
+    public List<AlteracaoTarefaDTO> getTarefas() {
+        return tarefas;
+    }
+
+    public boolean isRecarregar() {
+        return recarregar;
+    }
+}
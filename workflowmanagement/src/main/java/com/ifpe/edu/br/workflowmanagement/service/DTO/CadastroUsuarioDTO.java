@@ -9,7 +9,7 @@ public class CadastroUsuarioDTO {
     private String nome;
     private String email;
     private String senha;
-    private Long papelId; // ID do papel que o usuário terá
+    // Sem papel: o cadastro público recebe sempre o papel padrão (usuarios.cadastro.papel-padrao)
 
     // Getters e Setters
     // Métodos para obter (get) e definir (set) os valores dos atributos.
@@ -37,12 +37,4 @@ public class CadastroUsuarioDTO {
     public void setSenha(String senha) {
         this.senha = senha;
     }
-
-    public Long getPapelId() {
-        return papelId;
-    }
-
-    public void setPapelId(Long papelId) {
-        this.papelId = papelId;
-    }
 }
\ No newline at end of file
@@ -0,0 +1,47 @@
+package com.ifpe.edu.br.workflowmanagement.service.DTO;
+
+import java.time.LocalDateTime;
+
+import com.ifpe.edu.br.workflowmanagement.service.repositories.ComentarioThreadProjection;
+
+/**
+ * Comentário exibido no histórico de uma tarefa.
+ */
+public class ComentarioDTO {
+
+    private Long id;
+    private String texto;
+    private LocalDateTime dataCriacao;
+    private Long idAutor;
+    private String nomeAutor;
+
+    public ComentarioDTO(ComentarioThreadProjection comentario) {
+        this.id = comentario.getId();
+        this.texto = comentario.getTexto();
+        this.dataCriacao = comentario.getDataCriacao();
+        this.idAutor = comentario.getAutorId();
+        this.nomeAutor = comentario.getAutorNome();
+    }
+
+    // Getters
+
+    public Long getId() {
+        return id;
+    }
+
+    public String getTexto() {
+        return texto;
+    }
+
+    public LocalDateTime getDataCriacao() {
+        return dataCriacao;
+    }
+
+    public Long getIdAutor() {
+        return idAutor;
+    }
+
+    public String getNomeAutor() {
+        return nomeAutor;
+    }
+}
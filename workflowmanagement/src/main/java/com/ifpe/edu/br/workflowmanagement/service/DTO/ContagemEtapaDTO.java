@@ -0,0 +1,31 @@
+package com.ifpe.edu.br.workflowmanagement.service.DTO;
+
+/**
+ * Quantidade de tarefas em uma etapa do fluxo de trabalho de um projeto.
+ */
+public class ContagemEtapaDTO {
+
+    private Long idEtapa;
+    private String nomeEtapa;
+    private long quantidade;
+
+    public ContagemEtapaDTO(Long idEtapa, String nomeEtapa, long quantidade) {
+        this.idEtapa = idEtapa;
+        this.nomeEtapa = nomeEtapa;
+        this.quantidade = quantidade;
+    }
+
+    // Getters
+
+    public Long getIdEtapa() {
+        return idEtapa;
+    }
+
+    public String getNomeEtapa() {
+        return nomeEtapa;
+    }
+
+    public long getQuantidade() {
+        return quantidade;
+    }
+}
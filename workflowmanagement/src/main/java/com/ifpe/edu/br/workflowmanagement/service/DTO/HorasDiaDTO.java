@@ -0,0 +1,31 @@
+package com.ifpe.edu.br.workflowmanagement.service.DTO;
+
+import java.time.LocalDate;
+
+/**
+ * Total de horas registradas em um dia.
+ */
+public class HorasDiaDTO {
+
+    private LocalDate dia;
+    private long minutos;
+
+    public HorasDiaDTO(LocalDate dia, long minutos) {
+        this.dia = dia;
+        this.minutos = minutos;
+    }
+
+    // Getters
+
+    public LocalDate getDia() {
+        return dia;
+    }
+
+    public long getMinutos() {
+        return minutos;
+    }
+
+    public float getHoras() {
+        return minutos / 60f;
+    }
+}
@@ -0,0 +1,30 @@
+package com.ifpe.edu.br.workflowmanagement.service.DTO;
+
+import java.util.List;
+
+/**
+ * Dados para mover várias tarefas para uma mesma etapa (ex.: encerramento de sprint).
+ */
+public class MovimentacaoLoteDTO {
+
+    private List<Long> idsTarefas;
+    private Long idNovaEtapa;
+
+    // Getters e Setters
+
+    public List<Long> getIdsTarefas() {
+        return idsTarefas;
+    }
+
+    public void setIdsTarefas(List<Long> idsTarefas) {
+        this.idsTarefas = idsTarefas;
+    }
+
+    public Long getIdNovaEtapa() {
+        return idNovaEtapa;
+    }
+
+    public void setIdNovaEtapa(Long idNovaEtapa) {
+        this.idNovaEtapa = idNovaEtapa;
+    }
+}
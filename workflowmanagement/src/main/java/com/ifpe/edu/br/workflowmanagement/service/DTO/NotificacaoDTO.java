@@ -0,0 +1,41 @@
+package com.ifpe.edu.br.workflowmanagement.service.DTO;
+
+import java.time.LocalDateTime;
+
+import com.ifpe.edu.br.workflowmanagement.service.entities.Notificacao;
+
+/**
+ * Dados de uma notificação exibidos ao usuário.
+ */
+public class NotificacaoDTO {
+
+    private Long id;
+    private String mensagem;
+    private boolean lida;
+    private LocalDateTime dataCriacao;
+
+    public NotificacaoDTO(Notificacao notificacao) {
+        this.id = notificacao.getId();
+        this.mensagem = notificacao.getMensagem();
+        this.lida = notificacao.isLida();
+        this.dataCriacao = notificacao.getDataCriacao();
+    }
+
+    // Getters
+
+    public Long getId() {
+        return id;
+    }
+
+    public String getMensagem() {
+        return mensagem;
+    }
+
+    public boolean isLida() {
+        return lida;
+    }
+
+    public LocalDateTime getDataCriacao() {
+        return dataCriacao;
+    }
+}
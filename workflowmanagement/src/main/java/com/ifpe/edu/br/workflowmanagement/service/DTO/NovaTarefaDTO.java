@@ -0,0 +1,37 @@
+package com.ifpe.edu.br.workflowmanagement.service.DTO;
+
+/**
+ * Dados de uma tarefa a ser criada na importação em lote.
+ */
+public class NovaTarefaDTO {
+
+    private String titulo;
+    private String descricao;
+    private Long idResponsavel; // Opcional
+
+    // Getters e Setters
+
+    public String getTitulo() {
+        return titulo;
+    }
+
+    public void setTitulo(String titulo) {
+        this.titulo = titulo;
+    }
+
+    public String getDescricao() {
+        return descricao;
+    }
+
+    public void setDescricao(String descricao) {
+        this.descricao = descricao;
+    }
+
+    public Long getIdResponsavel() {
+        return idResponsavel;
+    }
+
+    public void setIdResponsavel(Long idResponsavel) {
+        this.idResponsavel = idResponsavel;
+    }
+}
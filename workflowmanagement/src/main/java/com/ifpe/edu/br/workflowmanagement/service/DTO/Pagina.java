@@ -0,0 +1,28 @@
+package com.ifpe.edu.br.workflowmanagement.service.DTO;
+
+import java.util.List;
+
+/**
+ * Página de resultados de uma listagem paginada por cursor.
+ * O proximoCursor é opaco para o cliente e é nulo na última página.
+ */
+public class Pagina<T> {
+
+    private List<T> itens;
+    private String proximoCursor;
+
+    public Pagina(List<T> itens, String proximoCursor) {
+        this.itens = itens;
+        this.proximoCursor = proximoCursor;
+    }
+
+    // Getters
+
+    public List<T> getItens() {
+        return itens;
+    }
+
+    public String getProximoCursor() {
+        return proximoCursor;
+    }
+}
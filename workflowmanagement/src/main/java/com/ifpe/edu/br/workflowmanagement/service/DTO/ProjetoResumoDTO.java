@@ -0,0 +1,54 @@
+package com.ifpe.edu.br.workflowmanagement.service.DTO;
+
+import java.time.LocalDateTime;
+
+import com.ifpe.edu.br.workflowmanagement.service.entities.Projeto;
+
+/**
+ * Dados de um projeto exibidos nas listagens (sem tarefas nem entidades relacionadas).
+ */
+public class ProjetoResumoDTO {
+
+    private Long id;
+    private String nome;
+    private String descricao;
+    private Long idGerente;
+    private Long idFluxoTrabalho;
+    private LocalDateTime dataCriacao;
+
+    // Usa apenas os IDs das associações, sem inicializar os proxies
+    public ProjetoResumoDTO(Projeto projeto) {
+        this.id = projeto.getId();
+        this.nome = projeto.getNome();
+        this.descricao = projeto.getDescricao();
+        this.idGerente = projeto.getGerente().getId();
+        this.idFluxoTrabalho = projeto.getFluxoTrabalho() != null ? projeto.getFluxoTrabalho().getId() : null;
+        this.dataCriacao = projeto.getDataCriacao();
+    }
+
+    // Getters
+
+    public Long getId() {
+        return id;
+    }
+
+    public String getNome() {
+        return nome;
+    }
+
+    public String getDescricao() {
+        return descricao;
+    }
+
+    public Long getIdGerente() {
+        return idGerente;
+    }
+
+    public Long getIdFluxoTrabalho() {
+        return idFluxoTrabalho;
+    }
+
+    public LocalDateTime getDataCriacao() {
+        return dataCriacao;
+    }
+}
@@ -0,0 +1,39 @@
+package com.ifpe.edu.br.workflowmanagement.service.DTO;
+
+import java.util.List;
+
+/**
+ * Colunas do quadro (kanban) de um projeto, com a quantidade de tarefas por etapa e o progresso.
+ */
+public class QuadroProjetoDTO {
+
+    private Long idProjeto;
+    private List<ContagemEtapaDTO> colunas;
+    private long totalTarefas;
+    private long progresso; // Percentual de tarefas na etapa "Concluído"
+
+    public QuadroProjetoDTO(Long idProjeto, List<ContagemEtapaDTO> colunas, long totalTarefas, long progresso) {
+        this.idProjeto = idProjeto;
+        this.colunas = colunas;
+        this.totalTarefas = totalTarefas;
+        this.progresso = progresso;
+    }
+
+    // Getters
+
+    public Long getIdProjeto() {
+        return idProjeto;
+    }
+
+    public List<ContagemEtapaDTO> getColunas() {
+        return colunas;
+    }
+
+    public long getTotalTarefas() {
+        return totalTarefas;
+    }
+
+    public long getProgresso() {
+        return progresso;
+    }
+}
@@ -0,0 +1,59 @@
+package com.ifpe.edu.br.workflowmanagement.service.DTO;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+import com.ifpe.edu.br.workflowmanagement.service.entities.RegistroHoras;
+
+/**
+ * Dados de um registro de horas exibidos nas listagens.
+ */
+public class RegistroHorasDTO {
+
+    private Long id;
+    private Long idUsuario;
+    private Long idTarefa;
+    private int minutos;
+    private LocalDate dataRegistro;
+    private LocalDateTime dataCriacao;
+
+    // Usa apenas os IDs das associações, sem inicializar os proxies
+    public RegistroHorasDTO(RegistroHoras registro) {
+        this.id = registro.getId();
+        this.idUsuario = registro.getUsuario().getId();
+        this.idTarefa = registro.getTarefa().getId();
+        this.minutos = registro.getMinutos();
+        this.dataRegistro = registro.getDataRegistro();
+        this.dataCriacao = registro.getDataCriacao();
+    }
+
+    // Getters
+
+    public Long getId() {
+        return id;
+    }
+
+    public Long getIdUsuario() {
+        return idUsuario;
+    }
+
+    public Long getIdTarefa() {
+        return idTarefa;
+    }
+
+    public int getMinutos() {
+        return minutos;
+    }
+
+    public float getHoras() {
+        return minutos / 60f;
+    }
+
+    public LocalDate getDataRegistro() {
+        return dataRegistro;
+    }
+
+    public LocalDateTime getDataCriacao() {
+        return dataCriacao;
+    }
+}
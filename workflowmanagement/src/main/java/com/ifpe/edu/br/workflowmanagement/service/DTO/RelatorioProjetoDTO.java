@@ -0,0 +1,58 @@
+package com.ifpe.edu.br.workflowmanagement.service.DTO;
+
+import java.util.List;
+
+/**
+ * Versão estruturada (JSON) do relatório de um projeto (CU 16).
+ */
+public class RelatorioProjetoDTO {
+
+    private Long idProjeto;
+    private String nomeProjeto;
+    private String nomeGerente;
+    private long totalTarefas;
+    private long tarefasConcluidas;
+    private long progresso; // Percentual de tarefas concluídas
+    private List<ContagemEtapaDTO> tarefasPorEtapa;
+
+    public RelatorioProjetoDTO(Long idProjeto, String nomeProjeto, String nomeGerente, long totalTarefas,
+                               long tarefasConcluidas, List<ContagemEtapaDTO> tarefasPorEtapa) {
+        this.idProjeto = idProjeto;
+        this.nomeProjeto = nomeProjeto;
+        this.nomeGerente = nomeGerente;
+        this.totalTarefas = totalTarefas;
+        this.tarefasConcluidas = tarefasConcluidas;
+        this.progresso = totalTarefas > 0 ? (100 * tarefasConcluidas / totalTarefas) : 0;
+        this.tarefasPorEtapa = tarefasPorEtapa;
+    }
+
+    // Getters
+
+    public Long getIdProjeto() {
+        return idProjeto;
+    }
+
+    public String getNomeProjeto() {
+        return nomeProjeto;
+    }
+
+    public String getNomeGerente() {
+        return nomeGerente;
+    }
+
+    public long getTotalTarefas() {
+        return totalTarefas;
+    }
+
+    public long getTarefasConcluidas() {
+        return tarefasConcluidas;
+    }
+
+    public long getProgresso() {
+        return progresso;
+    }
+
+    public List<ContagemEtapaDTO> getTarefasPorEtapa() {
+        return tarefasPorEtapa;
+    }
+}
@@ -0,0 +1,16 @@
+package com.ifpe.edu.br.workflowmanagement.service.DTO;
+
+public class RenovacaoTokenDTO {
+
+    private String tokenAtualizacao;
+
+    // Getters e Setters
+
+    public String getTokenAtualizacao() {
+        return tokenAtualizacao;
+    }
+
+    public void setTokenAtualizacao(String tokenAtualizacao) {
+        this.tokenAtualizacao = tokenAtualizacao;
+    }
+}
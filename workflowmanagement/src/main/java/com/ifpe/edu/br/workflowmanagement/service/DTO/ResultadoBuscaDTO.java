@@ -0,0 +1,45 @@
+package com.ifpe.edu.br.workflowmanagement.service.DTO;
+
+/**
+ * Um resultado da busca textual: uma tarefa ou um comentário de tarefa, com a relevância calculada pelo índice.
+ */
+public class ResultadoBuscaDTO {
+
+    public enum Tipo { TAREFA, COMENTARIO }
+
+    private Tipo tipo;
+    private Long idTarefa;
+    private Long idComentario;
+    private String tituloTarefa;
+    private float pontuacao;
+
+    public ResultadoBuscaDTO(Tipo tipo, Long idTarefa, Long idComentario, String tituloTarefa, float pontuacao) {
+        this.tipo = tipo;
+        this.idTarefa = idTarefa;
+        this.idComentario = idComentario;
+        this.tituloTarefa = tituloTarefa;
+        this.pontuacao = pontuacao;
+    }
+
+    // Getters
+
+    public Tipo getTipo() {
+        return tipo;
+    }
+
+    public Long getIdTarefa() {
+        return idTarefa;
+    }
+
+    public Long getIdComentario() {
+        return idComentario;
+    }
+
+    public String getTituloTarefa() {
+        return tituloTarefa;
+    }
+
+    public float getPontuacao() {
+        return pontuacao;
+    }
+}
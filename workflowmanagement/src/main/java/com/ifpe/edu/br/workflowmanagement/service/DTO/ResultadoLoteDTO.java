@@ -0,0 +1,39 @@
+package com.ifpe.edu.br.workflowmanagement.service.DTO;
+
+import java.util.List;
+
+/**
+ * Resultado da criação de tarefas em lote, com a vazão obtida.
+ */
+public class ResultadoLoteDTO {
+
+    private int quantidade;
+    private List<Long> idsTarefas;
+    private long duracaoMs;
+    private long tarefasPorSegundo;
+
+    public ResultadoLoteDTO(List<Long> idsTarefas, long duracaoNanos) {
+        this.quantidade = idsTarefas.size();
+        this.idsTarefas = idsTarefas;
+        this.duracaoMs = duracaoNanos / 1_000_000;
+        this.tarefasPorSegundo = duracaoNanos > 0 ? (quantidade * 1_000_000_000L / duracaoNanos) : quantidade;
+    }
+
+    // Getters
+
+    public int getQuantidade() {
+        return quantidade;
+    }
+
+    public List<Long> getIdsTarefas() {
+        return idsTarefas;
+    }
+
+    public long getDuracaoMs() {
+        return duracaoMs;
+    }
+
+    public long getTarefasPorSegundo() {
+        return tarefasPorSegundo;
+    }
+}
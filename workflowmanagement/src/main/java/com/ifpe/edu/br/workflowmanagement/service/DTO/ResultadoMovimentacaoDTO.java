@@ -0,0 +1,34 @@
+package com.ifpe.edu.br.workflowmanagement.service.DTO;
+
+/**
+ * Resultado da movimentação de uma tarefa dentro de uma movimentação em lote.
+ */
+public class ResultadoMovimentacaoDTO {
+
+    public enum Status {
+        MOVIDA,
+        JA_NA_ETAPA,
+        NAO_ENCONTRADA,
+        ETAPA_FORA_DO_FLUXO,
+        SEM_PERMISSAO,
+        CONFLITO // Alterada por outra operação durante a movimentação; não foi movida
+    }
+
+    private Long idTarefa;
+    private Status status;
+
+    public ResultadoMovimentacaoDTO(Long idTarefa, Status status) {
+        this.idTarefa = idTarefa;
+        this.status = status;
+    }
+
+    // Getters
+
+    public Long getIdTarefa() {
+        return idTarefa;
+    }
+
+    public Status getStatus() {
+        return status;
+    }
+}
@@ -0,0 +1,66 @@
+package com.ifpe.edu.br.workflowmanagement.service.DTO;
+
+import java.time.LocalDateTime;
+
+import com.ifpe.edu.br.workflowmanagement.service.entities.Tarefa;
+
+/**
+ * Dados de uma tarefa exibidos nas listagens (sem comentários nem registros de horas).
+ */
+public class TarefaResumoDTO {
+
+    private Long id;
+    private long versao;
+    private String titulo;
+    private Long idProjeto;
+    private Long idResponsavel;
+    private Long idEtapaAtual;
+    private LocalDateTime dataCriacao;
+    private LocalDateTime dataConclusao;
+
+    // Usa apenas os IDs das associações, sem inicializar os proxies
+    public TarefaResumoDTO(Tarefa tarefa) {
+        this.id = tarefa.getId();
+        this.versao = tarefa.getVersao();
+        this.titulo = tarefa.getTitulo();
+        this.idProjeto = tarefa.getProjeto().getId();
+        this.idResponsavel = tarefa.getResponsavel() != null ? tarefa.getResponsavel().getId() : null;
+        this.idEtapaAtual = tarefa.getEtapaAtual() != null ? tarefa.getEtapaAtual().getId() : null;
+        this.dataCriacao = tarefa.getDataCriacao();
+        this.dataConclusao = tarefa.getDataConclusao();
+    }
+
+    // Getters
+
+    public Long getId() {
+        return id;
+    }
+
+    public long getVersao() {
+        return versao;
+    }
+
+    public String getTitulo() {
+        return titulo;
+    }
+
+    public Long getIdProjeto() {
+        return idProjeto;
+    }
+
+    public Long getIdResponsavel() {
+        return idResponsavel;
+    }
+
+    public Long getIdEtapaAtual() {
+        return idEtapaAtual;
+    }
+
+    public LocalDateTime getDataCriacao() {
+        return dataCriacao;
+    }
+
+    public LocalDateTime getDataConclusao() {
+        return dataConclusao;
+    }
+}
@@ -0,0 +1,37 @@
+package com.ifpe.edu.br.workflowmanagement.service.DTO;
+
+/**
+ * Tokens emitidos no login e na renovação. O token de acesso vai no cabeçalho
+ * "Authorization: Bearer ..." de cada requisição; o de atualização só é usado para obter um novo par.
+ */
+public class TokensDTO {
+
+    private String tokenAcesso;
+    private String tokenAtualizacao;
+    private String tipo = "Bearer";
+    private long expiraEmSegundos; // Validade do token de acesso
+
+    public TokensDTO(String tokenAcesso, String tokenAtualizacao, long expiraEmSegundos) {
+        this.tokenAcesso = tokenAcesso;
+        this.tokenAtualizacao = tokenAtualizacao;
+        this.expiraEmSegundos = expiraEmSegundos;
+    }
+
+    // Getters
+
+    public String getTokenAcesso() {
+        return tokenAcesso;
+    }
+
+    public String getTokenAtualizacao() {
+        return tokenAtualizacao;
+    }
+
+    public String getTipo() {
+        return tipo;
+    }
+
+    public long getExpiraEmSegundos() {
+        return expiraEmSegundos;
+    }
+}
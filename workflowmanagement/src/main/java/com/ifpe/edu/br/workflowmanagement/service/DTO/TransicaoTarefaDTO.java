@@ -0,0 +1,47 @@
+package com.ifpe.edu.br.workflowmanagement.service.DTO;
+
+import java.time.LocalDateTime;
+
+import com.ifpe.edu.br.workflowmanagement.service.entities.TransicaoTarefa;
+
+/**
+ * Mudança de etapa de uma tarefa, no histórico de transições.
+ */
+public class TransicaoTarefaDTO {
+
+    private Long id;
+    private Long idEtapaOrigem;
+    private Long idEtapaDestino;
+    private Long idUsuario;
+    private LocalDateTime instante;
+
+    public TransicaoTarefaDTO(TransicaoTarefa transicao) {
+        this.id = transicao.getId();
+        this.idEtapaOrigem = transicao.getIdEtapaOrigem();
+        this.idEtapaDestino = transicao.getIdEtapaDestino();
+        this.idUsuario = transicao.getIdUsuario();
+        this.instante = transicao.getInstante();
+    }
+
+    // Getters
+
+    public Long getId() {
+        return id;
+    }
+
+    public Long getIdEtapaOrigem() {
+        return idEtapaOrigem;
+    }
+
+    public Long getIdEtapaDestino() {
+        return idEtapaDestino;
+    }
+
+    public Long getIdUsuario() {
+        return idUsuario;
+    }
+
+    public LocalDateTime getInstante() {
+        return instante;
+    }
+}
@@ -14,4 +14,20 @@ public class UsuarioResponseDTO {
         this.email = email;
         this.papel = papel;
     }
+
+    public Long getId() {
+        return id;
+    }
+
+    public String getNome() {
+        return nome;
+    }
+
+    public String getEmail() {
+        return email;
+    }
+
+    public String getPapel() {
+        return papel;
+    }
 }
\ No newline at end of file
@@ -0,0 +1,31 @@
+package com.ifpe.edu.br.workflowmanagement.service;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * Retrato imutável de um fluxo de trabalho: as etapas em ordem e as etapas de conclusão.
+ * Mantido em cache pelo EstruturaFluxoService.
+ */
+public record EstruturaFluxo(Long idFluxo, List<Long> idsEtapas, Set<Long> idsEtapasConclusao) {
+
+    public EstruturaFluxo {
+        idsEtapas = List.copyOf(idsEtapas);
+        idsEtapasConclusao = Set.copyOf(idsEtapasConclusao);
+    }
+
+    /**
+     * Etapa em que as novas tarefas são criadas.
+     */
+    public Optional<Long> primeiraEtapa() {
+        return idsEtapas.isEmpty() ? Optional.empty() : Optional.of(idsEtapas.get(0));
+    }
+
+    /**
+     * A etapa encerra a tarefa (ex.: "Concluído")?
+     */
+    public boolean isConclusao(Long idEtapa) {
+        return idsEtapasConclusao.contains(idEtapa);
+    }
+}
@@ -0,0 +1,123 @@
+package com.ifpe.edu.br.workflowmanagement.service;
+
+import com.ifpe.edu.br.workflowmanagement.service.repositories.EtapaEstruturaProjection;
+import com.ifpe.edu.br.workflowmanagement.service.repositories.EtapaRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Cache das estruturas dos fluxos de trabalho, que quase nunca mudam.
+ * A primeira etapa de um fluxo, o fluxo de uma etapa e as etapas de conclusão passam a ser consultas
+ * a mapas em memória, sem SQL. Qualquer gravação em FluxoTrabalho ou Etapa descarta o cache inteiro
+ * (InvalidacaoFluxoListener).
+ */
+@Service
+public class EstruturaFluxoService {
+
+    // Nome da etapa que encerra as tarefas
+    private static final String ETAPA_CONCLUSAO = "Concluído";
+
+    private final EtapaRepository etapaRepository;
+
+    // ID do fluxo -> estrutura; ID da etapa -> ID do fluxo
+    private final Map<Long, EstruturaFluxo> estruturasPorFluxo = new ConcurrentHashMap<>();
+    private final Map<Long, Long> fluxoPorEtapa = new ConcurrentHashMap<>();
+    // Incrementada a cada descarte do cache: uma estrutura lida antes dele não entra no cache
+    private final AtomicLong geracao = new AtomicLong();
+
+    @Autowired
+    public EstruturaFluxoService(EtapaRepository etapaRepository) {
+        this.etapaRepository = etapaRepository;
+    }
+
+    /**
+     * Estrutura do fluxo de trabalho informado.
+     */
+    public EstruturaFluxo buscar(Long idFluxo) {
+        EstruturaFluxo estrutura = estruturasPorFluxo.get(idFluxo);
+        return estrutura != null ? estrutura : carregar(idFluxo);
+    }
+
+    /**
+     * Estrutura do fluxo ao qual a etapa pertence, ou vazio se a etapa não existir.
+     */
+    public Optional<EstruturaFluxo> buscarPorEtapa(Long idEtapa) {
+        Long idFluxo = fluxoPorEtapa.get(idEtapa);
+        if (idFluxo == null) {
+            Optional<Long> doBanco = etapaRepository.findFluxoTrabalhoIdById(idEtapa);
+            if (doBanco.isEmpty()) {
+                return Optional.empty();
+            }
+            idFluxo = doBanco.get();
+        }
+        return Optional.of(buscar(idFluxo));
+    }
+
+    /**
+     * Descarta todas as estruturas em cache. Quando houver transação ativa, o cache também é
+     * descartado após o commit, para que nenhuma leitura concorrente feita antes do commit
+     * fique em cache com a estrutura antiga.
+     */
+    public void invalidar() {
+        limpar();
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    limpar();
+                }
+            });
+        }
+    }
+
+    // --- MÉTODOS AUXILIARES ---
+
+    private EstruturaFluxo carregar(Long idFluxo) {
+        // A geração é lida antes da consulta: se o cache for descartado durante a leitura, a estrutura
+        // pode ser anterior ao commit e é usada apenas nesta chamada
+        long geracaoInicial = geracao.get();
+        List<Long> idsEtapas = new ArrayList<>();
+        Set<Long> idsEtapasConclusao = new HashSet<>();
+        for (EtapaEstruturaProjection etapa : etapaRepository.listarEstruturaDoFluxo(idFluxo)) {
+            idsEtapas.add(etapa.getId());
+            if (ETAPA_CONCLUSAO.equalsIgnoreCase(etapa.getNome())) {
+                idsEtapasConclusao.add(etapa.getId());
+            }
+        }
+
+        EstruturaFluxo estrutura = new EstruturaFluxo(idFluxo, idsEtapas, idsEtapasConclusao);
+        if (geracao.get() != geracaoInicial) {
+            return estrutura;
+        }
+        EstruturaFluxo anterior = estruturasPorFluxo.putIfAbsent(idFluxo, estrutura);
+        for (Long idEtapa : idsEtapas) {
+            fluxoPorEtapa.putIfAbsent(idEtapa, idFluxo);
+        }
+        // Descarte entre a conferência e os puts: retira o que acabou de entrar
+        if (geracao.get() != geracaoInicial) {
+            estruturasPorFluxo.remove(idFluxo, estrutura);
+            for (Long idEtapa : idsEtapas) {
+                fluxoPorEtapa.remove(idEtapa, idFluxo);
+            }
+            return estrutura;
+        }
+        return anterior != null ? anterior : estrutura;
+    }
+
+    private void limpar() {
+        geracao.incrementAndGet();
+        estruturasPorFluxo.clear();
+        fluxoPorEtapa.clear();
+    }
+}
@@ -0,0 +1,128 @@
+package com.ifpe.edu.br.workflowmanagement.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Service;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Geração e conferência de hashes de senha (BCrypt) em um pool próprio, com threads e fila limitadas.
+ * O BCrypt é propositalmente lento: sem o limite, uma rajada de logins ocuparia todos os núcleos
+ * e atrasaria o restante da API. Com a fila cheia, ou quando a espera passa do limite,
+ * a chamada falha na hora com ServicoSobrecarregadoException (HTTP 503).
+ *
+ * Métricas: senha.hash.fila, senha.hash.ativos, senha.hash.espera, senha.hash.duracao e senha.hash.rejeicoes.
+ */
+@Service
+public class HashSenhaService {
+
+    private static final long TENTAR_NOVAMENTE_SEGUNDOS = 2;
+
+    private final PasswordEncoder passwordEncoder;
+    private final ThreadPoolExecutor executor;
+    private final long esperaMaximaMs;
+
+    private final Timer espera;
+    private final Timer duracaoGerar;
+    private final Timer duracaoConferir;
+    private final Counter rejeicoesFilaCheia;
+    private final Counter rejeicoesTempoEsgotado;
+
+    @Autowired
+    public HashSenhaService(PasswordEncoder passwordEncoder, MeterRegistry registry,
+                            @Value("${senha.hash.threads:0}") int threads,
+                            @Value("${senha.hash.fila.capacidade:50}") int capacidadeFila,
+                            @Value("${senha.hash.espera-maxima-ms:3000}") long esperaMaximaMs) {
+        this.passwordEncoder = passwordEncoder;
+        this.esperaMaximaMs = esperaMaximaMs;
+
+        // 0 = metade dos núcleos, deixando a outra metade para as demais requisições
+        int quantidadeThreads = threads > 0 ? threads : Math.max(1, Runtime.getRuntime().availableProcessors() / 2);
+        CustomizableThreadFactory fabrica = new CustomizableThreadFactory("hash-senha-");
+        fabrica.setDaemon(true);
+        this.executor = new ThreadPoolExecutor(quantidadeThreads, quantidadeThreads, 0L, TimeUnit.MILLISECONDS,
+            new ArrayBlockingQueue<>(capacidadeFila), fabrica, new ThreadPoolExecutor.AbortPolicy());
+
+        Gauge.builder("senha.hash.fila", executor, e -> e.getQueue().size())
+            .description("Hashes de senha aguardando uma thread do pool").register(registry);
+        Gauge.builder("senha.hash.ativos", executor, ThreadPoolExecutor::getActiveCount)
+            .description("Hashes de senha em execução").register(registry);
+        this.espera = Timer.builder("senha.hash.espera")
+            .description("Tempo na fila do pool de hash de senhas").register(registry);
+        this.duracaoGerar = Timer.builder("senha.hash.duracao").tag("operacao", "gerar").register(registry);
+        this.duracaoConferir = Timer.builder("senha.hash.duracao").tag("operacao", "conferir").register(registry);
+        this.rejeicoesFilaCheia = Counter.builder("senha.hash.rejeicoes").tag("motivo", "fila_cheia").register(registry);
+        this.rejeicoesTempoEsgotado = Counter.builder("senha.hash.rejeicoes").tag("motivo", "tempo_esgotado")
+            .register(registry);
+    }
+
+    @PreDestroy
+    public void encerrar() {
+        executor.shutdownNow();
+    }
+
+    /**
+     * Gera o hash de uma senha em texto plano.
+     */
+    public String gerar(String senha) {
+        return executar(duracaoGerar, () -> passwordEncoder.encode(senha));
+    }
+
+    /**
+     * Confere uma senha em texto plano com o hash armazenado.
+     */
+    public boolean conferir(String senha, String hash) {
+        return executar(duracaoConferir, () -> passwordEncoder.matches(senha, hash));
+    }
+
+    // --- MÉTODOS AUXILIARES ---
+
+    private <T> T executar(Timer duracao, Callable<T> operacao) {
+        long enfileiradaEm = System.nanoTime();
+        Future<T> resultado;
+        try {
+            resultado = executor.submit(() -> {
+                espera.record(System.nanoTime() - enfileiradaEm, TimeUnit.NANOSECONDS);
+                return duracao.recordCallable(operacao);
+            });
+        } catch (RejectedExecutionException e) {
+            rejeicoesFilaCheia.increment();
+            throw new ServicoSobrecarregadoException("Muitas autenticações simultâneas; tente novamente em instantes.",
+                TENTAR_NOVAMENTE_SEGUNDOS);
+        }
+
+        try {
+            return resultado.get(esperaMaximaMs, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            // Se ainda estiver na fila, a tarefa é descartada sem consumir CPU
+            resultado.cancel(true);
+            rejeicoesTempoEsgotado.increment();
+            throw new ServicoSobrecarregadoException("Muitas autenticações simultâneas; tente novamente em instantes.",
+                TENTAR_NOVAMENTE_SEGUNDOS);
+        } catch (InterruptedException e) {
+            resultado.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrompido aguardando o hash da senha.", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException causa) {
+                throw causa;
+            }
+            throw new IllegalStateException("Falha ao calcular o hash da senha.", e.getCause());
+        }
+    }
+}
@@ -0,0 +1,132 @@
+package com.ifpe.edu.br.workflowmanagement.service;
+
+import com.ifpe.edu.br.workflowmanagement.service.entities.TransicaoPendente;
+import com.ifpe.edu.br.workflowmanagement.service.repositories.TransicaoPendenteRepository;
+import com.ifpe.edu.br.workflowmanagement.service.repositories.TransicaoTarefaRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.List;
+
+/**
+ * Gravação do histórico de transições (tarefa_transicoes) a partir da caixa de saída (tarefa_transicoes_pendentes).
+ * A movimentação da tarefa paga apenas o INSERT da transição pendente; aqui, fora da requisição, cada lote é
+ * copiado com um INSERT ... SELECT e removido da caixa de saída na mesma transação. A cópia não tolera repetição
+ * (o ID do histórico é o da transição pendente); o que impede a duplicação é o DELETE no mesmo commit e, com mais
+ * de uma instância da aplicação, o bloqueio das linhas do lote, que as outras instâncias pulam.
+ *
+ * No PostgreSQL, mantém também as partições mensais do histórico: a do mês atual e as dos próximos meses
+ * (transicoes.particoes.meses-adiante) são criadas antes de serem necessárias.
+ *
+ * Métrica: tarefas.transicoes.gravadas.
+ */
+@Service
+public class HistoricoTransicoesService {
+
+    private static final Logger log = LoggerFactory.getLogger(HistoricoTransicoesService.class);
+
+    private static final String TABELA = "tarefa_transicoes";
+
+    private final TransicaoPendenteRepository transicaoPendenteRepository;
+    private final TransicaoTarefaRepository transicaoTarefaRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final JdbcTemplate jdbcTemplate;
+    private final int tamanhoLote;
+    private final int mesesAdiante;
+    private final Counter gravadas;
+
+    private Boolean particionada; // Descoberto na primeira verificação das partições
+
+    @Autowired
+    public HistoricoTransicoesService(TransicaoPendenteRepository transicaoPendenteRepository,
+                                      TransicaoTarefaRepository transicaoTarefaRepository,
+                                      TransactionTemplate transactionTemplate, JdbcTemplate jdbcTemplate,
+                                      MeterRegistry registry,
+                                      @Value("${transicoes.escrita.lote:500}") int tamanhoLote,
+                                      @Value("${transicoes.particoes.meses-adiante:2}") int mesesAdiante) {
+        this.transicaoPendenteRepository = transicaoPendenteRepository;
+        this.transicaoTarefaRepository = transicaoTarefaRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.jdbcTemplate = jdbcTemplate;
+        this.tamanhoLote = tamanhoLote;
+        this.mesesAdiante = mesesAdiante;
+        this.gravadas = Counter.builder("tarefas.transicoes.gravadas")
+            .description("Transições de etapa transferidas da caixa de saída para o histórico").register(registry);
+    }
+
+    /**
+     * Transfere as transições pendentes para o histórico, lote a lote, até esvaziar a caixa de saída.
+     */
+    @Scheduled(fixedDelayString = "${transicoes.escrita.intervalo-ms:1000}")
+    public void gravarPendentes() {
+        int quantidade;
+        do {
+            quantidade = transactionTemplate.execute(status -> gravarLote());
+            gravadas.increment(quantidade);
+        } while (quantidade == tamanhoLote);
+    }
+
+    /**
+     * Cria as partições mensais que ainda não existem (apenas com a tabela particionada no PostgreSQL).
+     */
+    @Scheduled(initialDelayString = "${transicoes.particoes.verificacao-inicial-ms:10000}",
+               fixedDelayString = "${transicoes.particoes.intervalo-ms:86400000}")
+    public void criarParticoes() {
+        if (!tabelaParticionada()) {
+            return;
+        }
+        YearMonth mes = YearMonth.now();
+        for (int i = 0; i <= mesesAdiante; i++, mes = mes.plusMonths(1)) {
+            LocalDate inicio = mes.atDay(1);
+            String particao = String.format("%s_p%04d%02d", TABELA, mes.getYear(), mes.getMonthValue());
+            try {
+                jdbcTemplate.execute("CREATE TABLE IF NOT EXISTS " + particao + " PARTITION OF " + TABELA
+                    + " FOR VALUES FROM ('" + inicio + "') TO ('" + inicio.plusMonths(1) + "')");
+            } catch (DataAccessException e) {
+                // Ex.: linhas do mês já gravadas na partição padrão; exige intervenção manual
+                log.warn("Não foi possível criar a partição {} do histórico de transições.", particao, e);
+            }
+        }
+    }
+
+    // --- MÉTODOS AUXILIARES ---
+
+    private int gravarLote() {
+        List<Long> ids = transicaoPendenteRepository.buscarLoteParaGravacao(PageRequest.of(0, tamanhoLote)).stream()
+            .map(TransicaoPendente::getId)
+            .toList();
+        if (ids.isEmpty()) {
+            return 0;
+        }
+        transicaoTarefaRepository.copiarPendentes(ids);
+        transicaoPendenteRepository.excluirPorIds(ids);
+        return ids.size();
+    }
+
+    private boolean tabelaParticionada() {
+        if (particionada == null) {
+            String banco = jdbcTemplate.execute((ConnectionCallback<String>) conexao ->
+                conexao.getMetaData().getDatabaseProductName());
+            particionada = "PostgreSQL".equalsIgnoreCase(banco) && Boolean.TRUE.equals(jdbcTemplate.queryForObject(
+                "SELECT EXISTS (SELECT 1 FROM pg_partitioned_table p JOIN pg_class c ON c.oid = p.partrelid "
+                    + "WHERE c.relname = ?)", Boolean.class, TABELA));
+            if (!particionada) {
+                log.info("Tabela {} sem particionamento: partições mensais não serão mantidas.", TABELA);
+            }
+        }
+        return particionada;
+    }
+}
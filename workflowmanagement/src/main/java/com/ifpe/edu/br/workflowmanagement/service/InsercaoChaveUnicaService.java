@@ -0,0 +1,63 @@
+package com.ifpe.edu.br.workflowmanagement.service;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.DataAccessException;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Savepoint;
+
+/**
+ * INSERT de linhas consolidadas (contadores do quadro, horas diárias) que outra transação pode criar ao mesmo
+ * tempo. O INSERT roda em um savepoint da transação atual: se violar a chave única, só ele é desfeito e a
+ * transação continua (no PostgreSQL, um erro fora de savepoint invalidaria a transação inteira).
+ *
+ * Usa apenas SQL comum e a tradução de erros do Spring, então vale para PostgreSQL, MySQL e H2.
+ */
+@Service
+public class InsercaoChaveUnicaService {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    public InsercaoChaveUnicaService(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /**
+     * Executa o INSERT informado, a menos que a linha já exista.
+     * @return false se o INSERT violou uma chave única (a linha foi criada por outra transação).
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public boolean inserirSeAusente(String sql, Object... parametros) {
+        return Boolean.TRUE.equals(jdbcTemplate.execute((ConnectionCallback<Boolean>) conexao -> {
+            Savepoint savepoint = conexao.setSavepoint();
+            try (PreparedStatement comando = conexao.prepareStatement(sql)) {
+                for (int i = 0; i < parametros.length; i++) {
+                    comando.setObject(i + 1, parametros[i]);
+                }
+                comando.executeUpdate();
+            } catch (SQLException e) {
+                if (!(traduzir(sql, e) instanceof DuplicateKeyException)) {
+                    throw e;
+                }
+                conexao.rollback(savepoint);
+                return false;
+            }
+            conexao.releaseSavepoint(savepoint);
+            return true;
+        }));
+    }
+
+    // --- MÉTODOS AUXILIARES ---
+
+    private DataAccessException traduzir(String sql, SQLException e) {
+        return jdbcTemplate.getExceptionTranslator().translate("inserirSeAusente", sql, e);
+    }
+}
@@ -0,0 +1,31 @@
+package com.ifpe.edu.br.workflowmanagement.service;
+
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+/**
+ * Listener JPA de FluxoTrabalho e Etapa: qualquer gravação descarta as estruturas de fluxo em cache.
+ * O serviço é obtido sob demanda porque o listener é criado junto com o EntityManagerFactory,
+ * antes dos repositórios dos quais o serviço depende.
+ */
+@Component
+public class InvalidacaoFluxoListener {
+
+    private final ObjectProvider<EstruturaFluxoService> estruturaFluxoService;
+
+    @Autowired
+    public InvalidacaoFluxoListener(ObjectProvider<EstruturaFluxoService> estruturaFluxoService) {
+        this.estruturaFluxoService = estruturaFluxoService;
+    }
+
+    @PostPersist
+    @PostUpdate
+    @PostRemove
+    public void aoGravar(Object entidade) {
+        estruturaFluxoService.getObject().invalidar();
+    }
+}
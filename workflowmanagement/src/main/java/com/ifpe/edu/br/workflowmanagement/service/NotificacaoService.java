@@ -0,0 +1,311 @@
+package com.ifpe.edu.br.workflowmanagement.service;
+
+import com.ifpe.edu.br.workflowmanagement.service.DTO.NotificacaoDTO;
+import com.ifpe.edu.br.workflowmanagement.service.DTO.Pagina;
+import com.ifpe.edu.br.workflowmanagement.service.entities.Notificacao;
+import com.ifpe.edu.br.workflowmanagement.service.eventos.ComentarioCriadoEvento;
+import com.ifpe.edu.br.workflowmanagement.service.eventos.EventoProjeto;
+import com.ifpe.edu.br.workflowmanagement.service.eventos.TarefaReatribuidaEvento;
+import com.ifpe.edu.br.workflowmanagement.service.eventos.TarefasMovidasEvento;
+import com.ifpe.edu.br.workflowmanagement.service.repositories.EtapaRepository;
+import com.ifpe.edu.br.workflowmanagement.service.repositories.NotificacaoRepository;
+import com.ifpe.edu.br.workflowmanagement.service.repositories.TarefaNotificacaoProjection;
+import com.ifpe.edu.br.workflowmanagement.service.repositories.TarefaRepository;
+import com.ifpe.edu.br.workflowmanagement.service.repositories.UsuarioRepository;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Gera as notificações dos eventos de tarefas (movimentação, reatribuição e comentários).
+ * Os eventos entram em uma fila limitada depois do commit da transação que os publicou; workers
+ * em segundo plano resolvem os destinatários e gravam as notificações em lote. A requisição do
+ * usuário só paga o custo de colocar o evento na fila.
+ */
+@Service
+public class NotificacaoService {
+
+    private static final Logger log = LoggerFactory.getLogger(NotificacaoService.class);
+
+    // Limite de IDs por cláusula IN ao buscar as tarefas dos eventos
+    private static final int TAMANHO_LOTE_IN = 1000;
+
+    private final NotificacaoRepository notificacaoRepository;
+    private final TarefaRepository tarefaRepository;
+    private final UsuarioRepository usuarioRepository;
+    private final EtapaRepository etapaRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final ContadorNotificacoesService contadorNotificacoesService;
+
+    private final BlockingQueue<EventoProjeto> fila;
+    private final int quantidadeWorkers;
+    private final int tamanhoLote;
+    private final boolean threadsVirtuais;
+    private final AtomicLong eventosDescartados = new AtomicLong();
+    private volatile boolean ativo;
+    private CountDownLatch workersEncerrados;
+
+    @Autowired
+    public NotificacaoService(NotificacaoRepository notificacaoRepository,
+                              TarefaRepository tarefaRepository,
+                              UsuarioRepository usuarioRepository,
+                              EtapaRepository etapaRepository,
+                              TransactionTemplate transactionTemplate,
+                              ContadorNotificacoesService contadorNotificacoesService,
+                              @Value("${notificacoes.fila.capacidade:10000}") int capacidadeFila,
+                              @Value("${notificacoes.workers:2}") int quantidadeWorkers,
+                              @Value("${notificacoes.lote:200}") int tamanhoLote,
+                              @Value("${spring.threads.virtual.enabled:false}") boolean threadsVirtuais) {
+        this.notificacaoRepository = notificacaoRepository;
+        this.tarefaRepository = tarefaRepository;
+        this.usuarioRepository = usuarioRepository;
+        this.etapaRepository = etapaRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.contadorNotificacoesService = contadorNotificacoesService;
+        this.fila = new ArrayBlockingQueue<>(capacidadeFila);
+        this.quantidadeWorkers = quantidadeWorkers;
+        this.tamanhoLote = tamanhoLote;
+        this.threadsVirtuais = threadsVirtuais;
+    }
+
+    @PostConstruct
+    public void iniciar() {
+        SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor("notificacoes-");
+        // Threads virtuais apenas no perfil "virtual" (Java 21)
+        executor.setVirtualThreads(threadsVirtuais);
+        ativo = true;
+        workersEncerrados = new CountDownLatch(quantidadeWorkers);
+        for (int i = 0; i < quantidadeWorkers; i++) {
+            executor.execute(this::executarWorker);
+        }
+    }
+
+    @PreDestroy
+    public void encerrar() throws InterruptedException {
+        ativo = false;
+        // Aguarda os workers gravarem o que ainda está na fila
+        if (!workersEncerrados.await(10, TimeUnit.SECONDS)) {
+            log.warn("Encerrando com {} eventos de notificação pendentes.", fila.size());
+        }
+    }
+
+    /**
+     * Recebe os eventos somente após o commit; eventos de transações desfeitas não geram notificações.
+     * Se a fila estiver cheia o evento é descartado, para não bloquear a requisição que o publicou.
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void aoConfirmarEvento(EventoProjeto evento) {
+        if (!(evento instanceof TarefasMovidasEvento || evento instanceof TarefaReatribuidaEvento
+                || evento instanceof ComentarioCriadoEvento)) {
+            return;
+        }
+        if (!fila.offer(evento)) {
+            long descartados = eventosDescartados.incrementAndGet();
+            log.warn("Fila de notificações cheia; evento {} descartado ({} no total).",
+                     evento.getClass().getSimpleName(), descartados);
+        }
+    }
+
+    /**
+     * Quantidade de notificações não lidas do usuário, servida pelo contador em memória.
+     */
+    public long contarNaoLidas(Long idUsuario) {
+        return contadorNotificacoesService.consultar(idUsuario);
+    }
+
+    /**
+     * Lista as notificações do usuário, das mais recentes para as mais antigas, uma página por vez.
+     */
+    @Transactional(readOnly = true)
+    public Pagina<NotificacaoDTO> listarPorUsuario(Long idUsuario, String cursor, Integer tamanhoPagina) {
+        CursorPaginacao posicao = CursorPaginacao.decodificar(cursor, false);
+        int tamanho = CursorPaginacao.tamanho(tamanhoPagina);
+        List<Notificacao> notificacoes = notificacaoRepository.buscarPaginaPorUsuario(idUsuario,
+            posicao.getDataCriacao(), posicao.getId(), CursorPaginacao.limite(tamanho));
+        return CursorPaginacao.montar(notificacoes, tamanho, Notificacao::getDataCriacao, Notificacao::getId,
+            NotificacaoDTO::new);
+    }
+
+    /**
+     * Marca uma notificação do usuário como lida.
+     */
+    @Transactional
+    public void marcarComoLida(Long idNotificacao, Long idUsuario) {
+        if (notificacaoRepository.marcarComoLida(idNotificacao, idUsuario) > 0) {
+            contadorNotificacoesService.ajustarAposCommit(idUsuario, -1);
+        } else if (!notificacaoRepository.existeParaUsuario(idNotificacao, idUsuario)) {
+            // Nenhuma linha alterada: ou já estava lida, ou não existe para este usuário
+            throw new RuntimeException("Notificação não encontrada.");
+        }
+    }
+
+    /**
+     * Marca todas as notificações do usuário como lidas com um único UPDATE.
+     * @return a quantidade de notificações marcadas.
+     */
+    @Transactional
+    public int marcarTodasComoLidas(Long idUsuario) {
+        int marcadas = notificacaoRepository.marcarTodasComoLidas(idUsuario);
+        contadorNotificacoesService.zerarAposCommit(idUsuario);
+        return marcadas;
+    }
+
+    /**
+     * Quantidade de eventos aguardando processamento.
+     */
+    public int getEventosPendentes() {
+        return fila.size();
+    }
+
+    /**
+     * Quantidade de eventos descartados por fila cheia desde o início da aplicação.
+     */
+    public long getEventosDescartados() {
+        return eventosDescartados.get();
+    }
+
+    // --- PROCESSAMENTO EM SEGUNDO PLANO ---
+
+    private void executarWorker() {
+        List<EventoProjeto> lote = new ArrayList<>(tamanhoLote);
+        try {
+            while (ativo || !fila.isEmpty()) {
+                EventoProjeto primeiro = fila.poll(500, TimeUnit.MILLISECONDS);
+                if (primeiro == null) {
+                    continue;
+                }
+                lote.add(primeiro);
+                fila.drainTo(lote, tamanhoLote - 1);
+                try {
+                    processarLote(lote);
+                } catch (RuntimeException e) {
+                    log.error("Falha ao gravar {} eventos de notificação.", lote.size(), e);
+                }
+                lote.clear();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            workersEncerrados.countDown();
+        }
+    }
+
+    /**
+     * Resolve os destinatários de todos os eventos do lote com uma consulta por conjunto de tarefas
+     * e grava as notificações em uma única transação (INSERTs agrupados em lotes JDBC).
+     */
+    private void processarLote(List<EventoProjeto> eventos) {
+        transactionTemplate.executeWithoutResult(status -> {
+            Map<Long, TarefaNotificacaoProjection> tarefas = buscarTarefas(eventos);
+            Map<Long, String> nomesEtapas = new HashMap<>();
+            Map<Long, String> nomesUsuarios = new HashMap<>();
+
+            List<Notificacao> notificacoes = new ArrayList<>();
+            for (EventoProjeto evento : eventos) {
+                if (evento instanceof TarefasMovidasEvento movidas) {
+                    String etapa = nomesEtapas.computeIfAbsent(movidas.idEtapaDestino(),
+                        id -> etapaRepository.findNomeById(id).orElse("?"));
+                    for (Long idTarefa : movidas.idsTarefas()) {
+                        TarefaNotificacaoProjection tarefa = tarefas.get(idTarefa);
+                        if (tarefa != null) {
+                            adicionar(notificacoes, destinatarios(movidas.idUsuarioExecutor(),
+                                      tarefa.getResponsavelId(), tarefa.getGerenteId()),
+                                      "A tarefa '" + tarefa.getTitulo() + "' foi movida para a etapa '" + etapa + "'.");
+                        }
+                    }
+                } else if (evento instanceof TarefaReatribuidaEvento reatribuida) {
+                    TarefaNotificacaoProjection tarefa = tarefas.get(reatribuida.idTarefa());
+                    if (tarefa != null) {
+                        adicionar(notificacoes, destinatarios(reatribuida.idUsuarioExecutor(),
+                                  reatribuida.idNovoResponsavel()),
+                                  "Você foi definido como responsável pela tarefa '" + tarefa.getTitulo() + "'.");
+                        adicionar(notificacoes, destinatarios(reatribuida.idUsuarioExecutor(),
+                                  reatribuida.idResponsavelAnterior()),
+                                  "Você não é mais o responsável pela tarefa '" + tarefa.getTitulo() + "'.");
+                    }
+                } else if (evento instanceof ComentarioCriadoEvento comentario) {
+                    TarefaNotificacaoProjection tarefa = tarefas.get(comentario.idTarefa());
+                    if (tarefa != null) {
+                        String autor = nomesUsuarios.computeIfAbsent(comentario.idAutor(),
+                            id -> usuarioRepository.findNomeById(id).orElse("?"));
+                        adicionar(notificacoes, destinatarios(comentario.idAutor(),
+                                  tarefa.getResponsavelId(), tarefa.getGerenteId()),
+                                  autor + " comentou na tarefa '" + tarefa.getTitulo() + "'.");
+                    }
+                }
+            }
+            notificacaoRepository.saveAll(notificacoes);
+
+            // Atualiza os contadores de não lidas somente se o lote for confirmado
+            Map<Long, Long> novasPorUsuario = new HashMap<>();
+            for (Notificacao notificacao : notificacoes) {
+                novasPorUsuario.merge(notificacao.getUsuarioResponsavel().getId(), 1L, Long::sum);
+            }
+            novasPorUsuario.forEach(contadorNotificacoesService::ajustarAposCommit);
+        });
+    }
+
+    private Map<Long, TarefaNotificacaoProjection> buscarTarefas(List<EventoProjeto> eventos) {
+        Set<Long> ids = new LinkedHashSet<>();
+        for (EventoProjeto evento : eventos) {
+            if (evento instanceof TarefasMovidasEvento movidas) {
+                ids.addAll(movidas.idsTarefas());
+            } else if (evento instanceof TarefaReatribuidaEvento reatribuida) {
+                ids.add(reatribuida.idTarefa());
+            } else if (evento instanceof ComentarioCriadoEvento comentario) {
+                ids.add(comentario.idTarefa());
+            }
+        }
+        Map<Long, TarefaNotificacaoProjection> tarefas = new HashMap<>();
+        List<Long> todos = new ArrayList<>(ids);
+        for (int i = 0; i < todos.size(); i += TAMANHO_LOTE_IN) {
+            List<Long> lote = todos.subList(i, Math.min(i + TAMANHO_LOTE_IN, todos.size()));
+            for (TarefaNotificacaoProjection tarefa : tarefaRepository.buscarParaNotificacao(lote)) {
+                tarefas.put(tarefa.getId(), tarefa);
+            }
+        }
+        return tarefas;
+    }
+
+    /**
+     * Destinatários distintos e não nulos, sem o próprio usuário que causou o evento.
+     */
+    private static Set<Long> destinatarios(Long idExecutor, Long... candidatos) {
+        Set<Long> ids = new HashSet<>();
+        for (Long candidato : candidatos) {
+            if (candidato != null && !Objects.equals(candidato, idExecutor)) {
+                ids.add(candidato);
+            }
+        }
+        return ids;
+    }
+
+    private void adicionar(List<Notificacao> notificacoes, Set<Long> idsUsuarios, String mensagem) {
+        for (Long idUsuario : idsUsuarios) {
+            notificacoes.add(new Notificacao(usuarioRepository.getReferenceById(idUsuario), mensagem));
+        }
+    }
+}
@@ -0,0 +1,12 @@
+package com.ifpe.edu.br.workflowmanagement.service;
+
+/**
+ * Ordem de listagem por data de criação.
+ */
+public enum OrdemListagem {
+
+    // Mais antigos primeiro
+    CRESCENTE,
+    // Mais recentes primeiro
+    DECRESCENTE
+}
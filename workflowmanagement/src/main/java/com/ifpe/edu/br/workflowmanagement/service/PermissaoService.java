@@ -0,0 +1,124 @@
+package com.ifpe.edu.br.workflowmanagement.service;
+
+import com.ifpe.edu.br.workflowmanagement.service.entities.Papel;
+import com.ifpe.edu.br.workflowmanagement.service.entities.Permissao;
+import com.ifpe.edu.br.workflowmanagement.service.entities.Usuario;
+import com.ifpe.edu.br.workflowmanagement.service.repositories.PapelRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Verificação de permissões dos papéis.
+ * As permissões de cada papel são compiladas em uma máscara de bits (long) imutável,
+ * mantida em um cache compartilhado pelo processo. Uma verificação é apenas um teste de bit,
+ * sem comparação de strings nem carregamento da coleção de permissões.
+ */
+@Service
+public class PermissaoService {
+
+    private final PapelRepository papelRepository;
+
+    // ID do papel -> máscara compilada de permissões
+    private final Map<Long, Long> mascarasPorPapel = new ConcurrentHashMap<>();
+    // Incrementada a cada invalidação: uma máscara lida antes dela não entra no cache
+    private final AtomicLong geracao = new AtomicLong();
+
+    @Autowired
+    public PermissaoService(PapelRepository papelRepository) {
+        this.papelRepository = papelRepository;
+    }
+
+    /**
+     * Verifica se o papel do usuário concede a permissão informada.
+     */
+    public boolean temPermissao(Usuario usuario, Permissao permissao) {
+        return usuario.getPapel() != null && temPermissao(usuario.getPapel().getId(), permissao);
+    }
+
+    /**
+     * Verifica se o papel informado concede a permissão.
+     */
+    public boolean temPermissao(Long idPapel, Permissao permissao) {
+        if (idPapel == null) {
+            return false;
+        }
+        return (mascara(idPapel) & permissao.bit()) != 0;
+    }
+
+    /**
+     * Substitui as permissões de um papel e invalida a máscara compilada em cache.
+     */
+    @Transactional
+    public Papel definirPermissoes(Long idPapel, Set<Permissao> permissoes) {
+        Papel papel = papelRepository.findById(idPapel)
+            .orElseThrow(() -> new RuntimeException("Papel não encontrado."));
+
+        papel.getPermissoes().clear();
+        papel.getPermissoes().addAll(permissoes);
+        Papel papelSalvo = papelRepository.save(papel);
+
+        invalidar(idPapel);
+        return papelSalvo;
+    }
+
+    /**
+     * Descarta a máscara compilada de um papel. Quando houver transação ativa,
+     * a máscara também é descartada após o commit, para que nenhuma leitura concorrente
+     * feita antes do commit fique em cache com as permissões antigas.
+     */
+    public void invalidar(Long idPapel) {
+        descartar(idPapel);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    descartar(idPapel);
+                }
+            });
+        }
+    }
+
+    // --- MÉTODOS AUXILIARES ---
+
+    private long mascara(Long idPapel) {
+        Long mascara = mascarasPorPapel.get(idPapel);
+        if (mascara != null) {
+            return mascara;
+        }
+
+        // A geração é lida antes da consulta: se uma invalidação acontecer durante a leitura,
+        // a máscara pode ser anterior ao commit e é usada apenas nesta verificação
+        long geracaoInicial = geracao.get();
+        long compilada = compilar(papelRepository.findPermissoesByPapelId(idPapel));
+        if (geracao.get() == geracaoInicial) {
+            mascarasPorPapel.putIfAbsent(idPapel, compilada);
+            // Invalidação entre a conferência e o put: retira a máscara que acabou de entrar
+            if (geracao.get() != geracaoInicial) {
+                mascarasPorPapel.remove(idPapel, compilada);
+            }
+        }
+        return compilada;
+    }
+
+    private void descartar(Long idPapel) {
+        geracao.incrementAndGet();
+        mascarasPorPapel.remove(idPapel);
+    }
+
+    private static long compilar(Collection<Permissao> permissoes) {
+        long mascara = 0L;
+        for (Permissao permissao : permissoes) {
+            mascara |= permissao.bit();
+        }
+        return mascara;
+    }
+}
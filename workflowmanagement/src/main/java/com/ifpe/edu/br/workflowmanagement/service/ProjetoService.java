@@ -1,15 +1,28 @@
 package com.ifpe.edu.br.workflowmanagement.service;
 
+import com.ifpe.edu.br.workflowmanagement.service.DTO.ContagemEtapaDTO;
+import com.ifpe.edu.br.workflowmanagement.service.DTO.Pagina;
+import com.ifpe.edu.br.workflowmanagement.service.DTO.ProjetoResumoDTO;
+import com.ifpe.edu.br.workflowmanagement.service.DTO.RelatorioProjetoDTO;
 import com.ifpe.edu.br.workflowmanagement.service.entities.FluxoTrabalho;
+import com.ifpe.edu.br.workflowmanagement.service.entities.Permissao;
 import com.ifpe.edu.br.workflowmanagement.service.entities.Projeto;
 import com.ifpe.edu.br.workflowmanagement.service.entities.Usuario;
+import com.ifpe.edu.br.workflowmanagement.service.eventos.ProjetoExcluidoEvento;
+import com.ifpe.edu.br.workflowmanagement.service.repositories.ComentarioRepository;
 import com.ifpe.edu.br.workflowmanagement.service.repositories.FluxoTrabalhoRepository;
 import com.ifpe.edu.br.workflowmanagement.service.repositories.ProjetoRepository;
+import com.ifpe.edu.br.workflowmanagement.service.repositories.RelatorioEtapaProjection;
+import com.ifpe.edu.br.workflowmanagement.service.repositories.TarefaRepository;
+import com.ifpe.edu.br.workflowmanagement.service.repositories.TransicaoPendenteRepository;
+import com.ifpe.edu.br.workflowmanagement.service.repositories.TransicaoTarefaRepository;
 import com.ifpe.edu.br.workflowmanagement.service.repositories.UsuarioRepository;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
 import java.util.List;
 
 @Service
@@ -18,14 +31,38 @@ public class ProjetoService {
     private final ProjetoRepository projetoRepository;
     private final UsuarioRepository usuarioRepository;
     private final FluxoTrabalhoRepository fluxoTrabalhoRepository;
+    private final ContadorTarefasService contadorTarefasService;
+    private final PermissaoService permissaoService;
+    private final RegistroHorasService registroHorasService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TarefaRepository tarefaRepository;
+    private final ComentarioRepository comentarioRepository;
+    private final TransicaoPendenteRepository transicaoPendenteRepository;
+    private final TransicaoTarefaRepository transicaoTarefaRepository;
 
     @Autowired
     public ProjetoService(ProjetoRepository projetoRepository, 
                           UsuarioRepository usuarioRepository, 
-                          FluxoTrabalhoRepository fluxoTrabalhoRepository) {
+                          FluxoTrabalhoRepository fluxoTrabalhoRepository,
+                          ContadorTarefasService contadorTarefasService,
+                          PermissaoService permissaoService,
+                          RegistroHorasService registroHorasService,
+                          ApplicationEventPublisher eventPublisher,
+                          TarefaRepository tarefaRepository,
+                          ComentarioRepository comentarioRepository,
+                          TransicaoPendenteRepository transicaoPendenteRepository,
+                          TransicaoTarefaRepository transicaoTarefaRepository) {
         this.projetoRepository = projetoRepository;
         this.usuarioRepository = usuarioRepository;
         this.fluxoTrabalhoRepository = fluxoTrabalhoRepository;
+        this.contadorTarefasService = contadorTarefasService;
+        this.permissaoService = permissaoService;
+        this.registroHorasService = registroHorasService;
+        this.eventPublisher = eventPublisher;
+        this.tarefaRepository = tarefaRepository;
+        this.comentarioRepository = comentarioRepository;
+        this.transicaoPendenteRepository = transicaoPendenteRepository;
+        this.transicaoTarefaRepository = transicaoTarefaRepository;
     }
 
     /**
@@ -38,7 +75,7 @@ public class ProjetoService {
                 .orElseThrow(() -> new RuntimeException("Usuário gerente não encontrado."));
 
         // Verificação de Permissão
-        if (!temPermissao(gerente, "CRIAR_PROJETO")) {
+        if (!permissaoService.temPermissao(gerente, Permissao.CRIAR_PROJETO)) {
             throw new SecurityException("Usuário não tem permissão para criar projetos.");
         }
 
@@ -62,7 +99,7 @@ public class ProjetoService {
                 .orElseThrow(() -> new RuntimeException("Usuário não encontrado."));
 
         // Verificação de Permissão: ou é o gerente do projeto OU tem permissão de admin
-        if (!projeto.getGerente().getId().equals(executor.getId()) && !temPermissao(executor, "EDITAR_QUALQUER_PROJETO")) {
+        if (!projeto.getGerente().getId().equals(executor.getId()) && !permissaoService.temPermissao(executor, Permissao.EDITAR_QUALQUER_PROJETO)) {
             throw new SecurityException("Usuário não tem permissão para editar este projeto.");
         }
 
@@ -84,11 +121,19 @@ public class ProjetoService {
                 .orElseThrow(() -> new RuntimeException("Usuário não encontrado."));
 
         // Verificação de Permissão: ou é o gerente do projeto OU tem permissão de admin
-        if (!projeto.getGerente().getId().equals(executor.getId()) && !temPermissao(executor, "EXCLUIR_QUALQUER_PROJETO")) {
+        if (!projeto.getGerente().getId().equals(executor.getId()) && !permissaoService.temPermissao(executor, Permissao.EXCLUIR_QUALQUER_PROJETO)) {
             throw new SecurityException("Usuário não tem permissão para excluir este projeto.");
         }
 
-        projetoRepository.deleteById(idProjeto);
+        // Exclusões por conjunto, em ordem de dependência; a cascata do JPA carregaria cada tarefa e suas coleções
+        contadorTarefasService.removerContadoresDoProjeto(idProjeto);
+        registroHorasService.removerRegistrosDoProjeto(idProjeto);
+        comentarioRepository.deleteByProjetoId(idProjeto);
+        transicaoPendenteRepository.deleteByProjetoId(idProjeto);
+        transicaoTarefaRepository.deleteByProjetoId(idProjeto);
+        tarefaRepository.deleteByProjetoId(idProjeto);
+        projetoRepository.excluirPorId(idProjeto);
+        eventPublisher.publishEvent(new ProjetoExcluidoEvento(idProjeto));
     }
 
     /**
@@ -104,7 +149,7 @@ public class ProjetoService {
                 .orElseThrow(() -> new RuntimeException("Usuário não encontrado."));
 
         // Verificação de Permissão: Apenas o gerente do projeto ou um admin pode associar.
-        if (!projeto.getGerente().getId().equals(executor.getId()) && !temPermissao(executor, "ASSOCIAR_FLUXO_PROJETO")) {
+        if (!projeto.getGerente().getId().equals(executor.getId()) && !permissaoService.temPermissao(executor, Permissao.ASSOCIAR_FLUXO_PROJETO)) {
              throw new SecurityException("Usuário não tem permissão para associar um fluxo a este projeto.");
         }
         
@@ -114,35 +159,67 @@ public class ProjetoService {
 
     /**
      * CU 16: Gera um relatório simples sobre o projeto.
-     * Em um sistema real, isso retornaria um objeto mais complexo (DTO) ou um arquivo.
+     * O texto é montado a partir do relatório estruturado, calculado em uma única consulta agregada.
      */
     @Transactional(readOnly = true) // Operação de leitura, não modifica o banco
     public String gerarRelatorio(Long idProjeto, Long idUsuarioExecutor) {
-        Projeto projeto = projetoRepository.findById(idProjeto)
-            .orElseThrow(() -> new RuntimeException("Projeto não encontrado."));
-        Usuario executor = usuarioRepository.findById(idUsuarioExecutor)
-            .orElseThrow(() -> new RuntimeException("Usuário não encontrado."));
-
-        if (!projeto.getGerente().getId().equals(executor.getId()) && !temPermissao(executor, "GERAR_RELATORIOS")) {
-             throw new SecurityException("Usuário não tem permissão para gerar relatórios deste projeto.");
-        }
-
-        long totalTarefas = projeto.getTarefas().size();
-        // Exemplo: Contar tarefas concluídas (supondo que a última etapa do fluxo seja "Concluído")
-        long tarefasConcluidas = projeto.getTarefas().stream()
-            .filter(t -> t.getEtapaAtual() != null && t.getEtapaAtual().getNome().equalsIgnoreCase("Concluído"))
-            .count();
+        RelatorioProjetoDTO dados = gerarRelatorioEstruturado(idProjeto, idUsuarioExecutor);
 
         StringBuilder relatorio = new StringBuilder();
-        relatorio.append("Relatório do Projeto: ").append(projeto.getNome()).append("\n");
+        relatorio.append("Relatório do Projeto: ").append(dados.getNomeProjeto()).append("\n");
         relatorio.append("============================================\n");
-        relatorio.append("Gerente do Projeto: ").append(projeto.getGerente().getNome()).append("\n");
-        relatorio.append("Total de Tarefas: ").append(totalTarefas).append("\n");
-        relatorio.append("Tarefas Concluídas: ").append(tarefasConcluidas).append("\n");
-        relatorio.append("Progresso: ").append(totalTarefas > 0 ? (100 * tarefasConcluidas / totalTarefas) : 0).append("%\n");
+        relatorio.append("Gerente do Projeto: ").append(dados.getNomeGerente()).append("\n");
+        relatorio.append("Total de Tarefas: ").append(dados.getTotalTarefas()).append("\n");
+        relatorio.append("Tarefas Concluídas: ").append(dados.getTarefasConcluidas()).append("\n");
+        relatorio.append("Progresso: ").append(dados.getProgresso()).append("%\n");
+        for (ContagemEtapaDTO etapa : dados.getTarefasPorEtapa()) {
+            relatorio.append("  - ").append(etapa.getNomeEtapa()).append(": ").append(etapa.getQuantidade()).append("\n");
+        }
 
         return relatorio.toString();
     }
+
+    /**
+     * CU 16: Gera o relatório do projeto em formato estruturado (JSON).
+     * Totais, tarefas concluídas, contagem por etapa e o gerente vêm de uma única consulta agregada,
+     * sem carregar as tarefas do projeto no contexto de persistência.
+     */
+    @Transactional(readOnly = true)
+    public RelatorioProjetoDTO gerarRelatorioEstruturado(Long idProjeto, Long idUsuarioExecutor) {
+        List<RelatorioEtapaProjection> linhas = projetoRepository.agregarRelatorio(idProjeto);
+        if (linhas.isEmpty()) {
+            throw new RuntimeException("Projeto não encontrado.");
+        }
+        RelatorioEtapaProjection cabecalho = linhas.get(0);
+
+        // O executor só é carregado quando não for o próprio gerente do projeto
+        if (!cabecalho.getGerenteId().equals(idUsuarioExecutor)) {
+            Usuario executor = usuarioRepository.findById(idUsuarioExecutor)
+                .orElseThrow(() -> new RuntimeException("Usuário não encontrado."));
+            if (!permissaoService.temPermissao(executor, Permissao.GERAR_RELATORIOS)) {
+                throw new SecurityException("Usuário não tem permissão para gerar relatórios deste projeto.");
+            }
+        }
+
+        long totalTarefas = 0;
+        long tarefasConcluidas = 0;
+        List<ContagemEtapaDTO> tarefasPorEtapa = new ArrayList<>();
+        for (RelatorioEtapaProjection linha : linhas) {
+            long quantidade = linha.getQuantidade() != null ? linha.getQuantidade() : 0;
+            totalTarefas += quantidade;
+            if (linha.getEtapaId() == null) {
+                continue; // Projeto sem tarefas ou tarefas ainda sem etapa
+            }
+            // Supondo que a última etapa do fluxo seja "Concluído"
+            if (linha.getEtapaNome().equalsIgnoreCase("Concluído")) {
+                tarefasConcluidas += quantidade;
+            }
+            tarefasPorEtapa.add(new ContagemEtapaDTO(linha.getEtapaId(), linha.getEtapaNome(), quantidade));
+        }
+
+        return new RelatorioProjetoDTO(idProjeto, cabecalho.getProjetoNome(), cabecalho.getGerenteNome(),
+            totalTarefas, tarefasConcluidas, tarefasPorEtapa);
+    }
     
     /**
      * Busca um projeto pelo seu ID.
@@ -153,19 +230,16 @@ public class ProjetoService {
     }
 
     /**
-     * Lista todos os projetos existentes.
+     * Lista os projetos existentes, uma página por vez, em ordem de criação.
+     * @param cursor o token devolvido pela página anterior (nulo para a primeira página).
+     * @param tamanhoPagina a quantidade de projetos por página (limitada a CursorPaginacao.TAMANHO_MAXIMO).
      */
-    public List<Projeto> listarTodos() {
-        return projetoRepository.findAll();
-    }
-
-    /**
-     * Método auxiliar para verificar permissões de um usuário.
-     */
-    private boolean temPermissao(Usuario usuario, String permissao) {
-        if (usuario.getPapel() == null || usuario.getPapel().getPermissoes() == null) {
-            return false;
-        }
-        return usuario.getPapel().getPermissoes().contains(permissao);
+    @Transactional(readOnly = true)
+    public Pagina<ProjetoResumoDTO> listarTodos(String cursor, Integer tamanhoPagina) {
+        CursorPaginacao posicao = CursorPaginacao.decodificar(cursor);
+        int tamanho = CursorPaginacao.tamanho(tamanhoPagina);
+        List<Projeto> projetos = projetoRepository.buscarPagina(posicao.getDataCriacao(), posicao.getId(),
+            CursorPaginacao.limite(tamanho));
+        return CursorPaginacao.montar(projetos, tamanho, Projeto::getDataCriacao, Projeto::getId, ProjetoResumoDTO::new);
     }
 }
\ No newline at end of file
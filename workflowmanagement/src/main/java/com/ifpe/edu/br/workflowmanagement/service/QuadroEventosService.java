@@ -0,0 +1,229 @@
+package com.ifpe.edu.br.workflowmanagement.service;
+
+import com.ifpe.edu.br.workflowmanagement.service.DTO.AlteracaoTarefaDTO;
+import com.ifpe.edu.br.workflowmanagement.service.DTO.AtualizacaoQuadroDTO;
+import com.ifpe.edu.br.workflowmanagement.service.eventos.ComentarioCriadoEvento;
+import com.ifpe.edu.br.workflowmanagement.service.eventos.EventoProjeto;
+import com.ifpe.edu.br.workflowmanagement.service.eventos.TarefaReatribuidaEvento;
+import com.ifpe.edu.br.workflowmanagement.service.eventos.TarefasCriadasEvento;
+import com.ifpe.edu.br.workflowmanagement.service.eventos.TarefasMovidasEvento;
+import com.ifpe.edu.br.workflowmanagement.service.repositories.ProjetoRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArraySet;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+
+/**
+ * Envia as alterações do quadro de um projeto aos navegadores conectados (Server-Sent Events),
+ * substituindo a consulta periódica da lista de tarefas.
+ *
+ * Os eventos são acumulados por assinante e por tarefa (várias alterações da mesma tarefa viram uma só)
+ * e enviados em no máximo um frame por intervalo. O acúmulo de cada assinante é limitado: se ele não
+ * consumir a tempo, as alterações são descartadas e o próximo frame pede que o quadro seja recarregado.
+ * Cada envio roda fora da thread que publicou o evento, e um assinante lento nunca tem mais de um envio
+ * em andamento, então não atrasa os demais. Um heartbeat periódico detecta as conexões que caíram sem aviso.
+ */
+@Service
+public class QuadroEventosService {
+
+    private static final Logger log = LoggerFactory.getLogger(QuadroEventosService.class);
+
+    private final ProjetoRepository projetoRepository;
+    private final long timeoutMs;
+    private final int maximoPendentes;
+    private final SimpleAsyncTaskExecutor executorEnvio;
+
+    private final Map<Long, Set<Assinante>> assinantesPorProjeto = new ConcurrentHashMap<>();
+
+    @Autowired
+    public QuadroEventosService(ProjetoRepository projetoRepository,
+                                @Value("${quadro.eventos.timeout-ms:1800000}") long timeoutMs,
+                                @Value("${quadro.eventos.maximo-pendentes:500}") int maximoPendentes,
+                                @Value("${quadro.eventos.envio.maximo-threads:64}") int maximoThreadsEnvio,
+                                @Value("${spring.threads.virtual.enabled:false}") boolean threadsVirtuais) {
+        this.projetoRepository = projetoRepository;
+        this.timeoutMs = timeoutMs;
+        this.maximoPendentes = maximoPendentes;
+        this.executorEnvio = new SimpleAsyncTaskExecutor("quadro-eventos-");
+        // Threads virtuais apenas no perfil "virtual" (Java 21)
+        this.executorEnvio.setVirtualThreads(threadsVirtuais);
+        // No limite, o envio é recusado em vez de bloquear a thread agendada (compartilhada com as demais
+        // tarefas @Scheduled); as alterações continuam acumuladas para o próximo ciclo
+        this.executorEnvio.setConcurrencyLimit(maximoThreadsEnvio);
+        this.executorEnvio.setRejectTasksWhenLimitReached(true);
+    }
+
+    /**
+     * Registra um novo assinante do quadro do projeto.
+     */
+    public SseEmitter assinar(Long idProjeto) {
+        if (!projetoRepository.existsById(idProjeto)) {
+            throw new RuntimeException("Projeto não encontrado.");
+        }
+        SseEmitter emitter = new SseEmitter(timeoutMs);
+        Assinante assinante = new Assinante(idProjeto, emitter);
+        assinantesPorProjeto.computeIfAbsent(idProjeto, id -> new CopyOnWriteArraySet<>()).add(assinante);
+
+        emitter.onCompletion(() -> remover(assinante));
+        emitter.onTimeout(() -> remover(assinante));
+        emitter.onError(erro -> remover(assinante));
+        return emitter;
+    }
+
+    /**
+     * Acumula o evento nos assinantes do projeto. Roda após o commit, na thread que publicou o evento,
+     * e apenas atualiza estruturas em memória.
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void aoConfirmarEvento(EventoProjeto evento) {
+        Set<Assinante> assinantes = assinantesPorProjeto.get(evento.idProjeto());
+        if (assinantes == null || assinantes.isEmpty()) {
+            return;
+        }
+        if (evento instanceof TarefasCriadasEvento criadas) {
+            acumular(assinantes, criadas.idsTarefas(), alteracao -> alteracao.marcarCriada(criadas.idEtapa()));
+        } else if (evento instanceof TarefasMovidasEvento movidas) {
+            acumular(assinantes, movidas.idsTarefas(), alteracao -> alteracao.moverPara(movidas.idEtapaDestino()));
+        } else if (evento instanceof TarefaReatribuidaEvento reatribuida) {
+            acumular(assinantes, List.of(reatribuida.idTarefa()),
+                     alteracao -> alteracao.atribuirA(reatribuida.idNovoResponsavel()));
+        } else if (evento instanceof ComentarioCriadoEvento comentario) {
+            acumular(assinantes, List.of(comentario.idTarefa()), alteracao -> alteracao.adicionarComentario());
+        }
+    }
+
+    /**
+     * Envia, para cada assinante com alterações pendentes, um único frame com tudo o que foi acumulado.
+     */
+    @Scheduled(fixedDelayString = "${quadro.eventos.intervalo-ms:1000}")
+    public void enviarPendentes() {
+        for (Set<Assinante> assinantes : assinantesPorProjeto.values()) {
+            for (Assinante assinante : assinantes) {
+                if (assinante.temPendencias()) {
+                    agendar(assinante, () -> enviarAlteracoes(assinante));
+                }
+            }
+        }
+    }
+
+    /**
+     * Envia um comentário SSE a cada assinante. Uma conexão encerrada sem aviso (rede caída, navegador
+     * fechado à força) só é percebida ao escrever nela: sem o heartbeat, o emitter de um quadro sem
+     * alterações ficaria preso até quadro.eventos.timeout-ms.
+     */
+    @Scheduled(fixedDelayString = "${quadro.eventos.heartbeat-ms:15000}")
+    public void enviarHeartbeat() {
+        for (Set<Assinante> assinantes : assinantesPorProjeto.values()) {
+            for (Assinante assinante : assinantes) {
+                agendar(assinante, () -> enviar(assinante, SseEmitter.event().comment("heartbeat")));
+            }
+        }
+    }
+
+    /**
+     * Quantidade de assinantes conectados ao quadro do projeto.
+     */
+    public int contarAssinantes(Long idProjeto) {
+        Set<Assinante> assinantes = assinantesPorProjeto.get(idProjeto);
+        return assinantes != null ? assinantes.size() : 0;
+    }
+
+    // --- MÉTODOS AUXILIARES ---
+
+    private void acumular(Set<Assinante> assinantes, List<Long> idsTarefas,
+                          Consumer<AlteracaoTarefaDTO> aplicar) {
+        for (Assinante assinante : assinantes) {
+            synchronized (assinante) {
+                if (assinante.recarregar) {
+                    continue;
+                }
+                for (Long idTarefa : idsTarefas) {
+                    aplicar.accept(assinante.pendentes.computeIfAbsent(idTarefa, AlteracaoTarefaDTO::new));
+                }
+                if (assinante.pendentes.size() > maximoPendentes) {
+                    assinante.pendentes.clear();
+                    assinante.recarregar = true;
+                }
+            }
+        }
+    }
+
+    private void agendar(Assinante assinante, Runnable envio) {
+        // Um assinante lento continua acumulando até o envio anterior terminar
+        if (!assinante.enviando.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            executorEnvio.execute(envio);
+        } catch (TaskRejectedException e) {
+            assinante.enviando.set(false); // Limite de envios atingido: fica para o próximo ciclo
+        }
+    }
+
+    private void enviarAlteracoes(Assinante assinante) {
+        AtualizacaoQuadroDTO atualizacao;
+        synchronized (assinante) {
+            atualizacao = new AtualizacaoQuadroDTO(assinante.idProjeto,
+                new ArrayList<>(assinante.pendentes.values()), assinante.recarregar);
+            assinante.pendentes.clear();
+            assinante.recarregar = false;
+        }
+        enviar(assinante, SseEmitter.event().name("quadro").data(atualizacao, MediaType.APPLICATION_JSON));
+    }
+
+    private void enviar(Assinante assinante, SseEmitter.SseEventBuilder evento) {
+        try {
+            assinante.emitter.send(evento);
+        } catch (IOException | IllegalStateException e) {
+            log.debug("Assinante do quadro do projeto {} desconectado.", assinante.idProjeto, e);
+            remover(assinante);
+            assinante.emitter.completeWithError(e);
+        } finally {
+            assinante.enviando.set(false);
+        }
+    }
+
+    private void remover(Assinante assinante) {
+        assinantesPorProjeto.computeIfPresent(assinante.idProjeto, (id, assinantes) -> {
+            assinantes.remove(assinante);
+            return assinantes.isEmpty() ? null : assinantes;
+        });
+    }
+
+    private static final class Assinante {
+        private final Long idProjeto;
+        private final SseEmitter emitter;
+        private final AtomicBoolean enviando = new AtomicBoolean();
+        // Alterações por tarefa desde o último envio (acesso sincronizado no próprio assinante)
+        private final Map<Long, AlteracaoTarefaDTO> pendentes = new LinkedHashMap<>();
+        private boolean recarregar;
+
+        private Assinante(Long idProjeto, SseEmitter emitter) {
+            this.idProjeto = idProjeto;
+            this.emitter = emitter;
+        }
+
+        private synchronized boolean temPendencias() {
+            return recarregar || !pendentes.isEmpty();
+        }
+    }
+}
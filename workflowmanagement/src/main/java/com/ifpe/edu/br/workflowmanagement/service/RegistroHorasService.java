@@ -1,17 +1,36 @@
 package com.ifpe.edu.br.workflowmanagement.service;
 
+import com.ifpe.edu.br.workflowmanagement.service.DTO.HorasDiaDTO;
+import com.ifpe.edu.br.workflowmanagement.service.DTO.Pagina;
+import com.ifpe.edu.br.workflowmanagement.service.DTO.RegistroHorasDTO;
+import com.ifpe.edu.br.workflowmanagement.service.entities.Permissao;
 import com.ifpe.edu.br.workflowmanagement.service.entities.RegistroHoras;
 import com.ifpe.edu.br.workflowmanagement.service.entities.Tarefa;
 import com.ifpe.edu.br.workflowmanagement.service.entities.Usuario;
+import com.ifpe.edu.br.workflowmanagement.service.repositories.HorasDiariasRepository;
+import com.ifpe.edu.br.workflowmanagement.service.repositories.ProjetoRepository;
+import com.ifpe.edu.br.workflowmanagement.service.repositories.RegistroHorasExportacaoProjection;
 import com.ifpe.edu.br.workflowmanagement.service.repositories.RegistroHorasRepository;
 import com.ifpe.edu.br.workflowmanagement.service.repositories.TarefaRepository;
 import com.ifpe.edu.br.workflowmanagement.service.repositories.UsuarioRepository;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDate;
+import java.util.Iterator;
 import java.util.List;
+import java.util.stream.Stream;
 
 @Service
 public class RegistroHorasService {
@@ -19,14 +38,26 @@ public class RegistroHorasService {
     private final RegistroHorasRepository registroHorasRepository;
     private final TarefaRepository tarefaRepository;
     private final UsuarioRepository usuarioRepository;
+    private final AutorizacaoService autorizacaoService;
+    private final ProjetoRepository projetoRepository;
+    private final HorasDiariasRepository horasDiariasRepository;
+    private final InsercaoChaveUnicaService insercaoChaveUnicaService;
 
     @Autowired
     public RegistroHorasService(RegistroHorasRepository registroHorasRepository,
                                 TarefaRepository tarefaRepository,
-                                UsuarioRepository usuarioRepository) {
+                                UsuarioRepository usuarioRepository,
+                                AutorizacaoService autorizacaoService,
+                                ProjetoRepository projetoRepository,
+                                HorasDiariasRepository horasDiariasRepository,
+                                InsercaoChaveUnicaService insercaoChaveUnicaService) {
         this.registroHorasRepository = registroHorasRepository;
         this.tarefaRepository = tarefaRepository;
         this.usuarioRepository = usuarioRepository;
+        this.autorizacaoService = autorizacaoService;
+        this.projetoRepository = projetoRepository;
+        this.horasDiariasRepository = horasDiariasRepository;
+        this.insercaoChaveUnicaService = insercaoChaveUnicaService;
     }
 
     /**
@@ -45,7 +76,11 @@ public class RegistroHorasService {
         }
 
         RegistroHoras novoRegistro = new RegistroHoras(usuario, tarefa, horas, data);
-        return registroHorasRepository.save(novoRegistro);
+        RegistroHoras salvo = registroHorasRepository.save(novoRegistro);
+
+        // Mantém as horas diárias consolidadas na mesma transação do registro
+        aplicarDelta(usuario.getId(), tarefa.getId(), tarefa.getProjeto().getId(), data, salvo.getMinutos());
+        return salvo;
     }
 
     /**
@@ -53,7 +88,8 @@ public class RegistroHorasService {
      */
     @Transactional
     public RegistroHoras editarRegistro(Long idRegistro, float novasHoras, LocalDate novaData, Long idUsuarioExecutor) {
-        RegistroHoras registro = registroHorasRepository.findById(idRegistro)
+        // Bloqueia o registro: os minutos antigos retirados do consolidado são os que estão no banco
+        RegistroHoras registro = registroHorasRepository.buscarParaEdicao(idRegistro)
             .orElseThrow(() -> new RuntimeException("Registro de horas não encontrado."));
         Usuario executor = usuarioRepository.findById(idUsuarioExecutor)
             .orElseThrow(() -> new RuntimeException("Usuário não encontrado."));
@@ -63,8 +99,14 @@ public class RegistroHorasService {
             throw new SecurityException("Usuário não tem permissão para editar este registro de horas.");
         }
 
+        // Retira os minutos antigos do dia antigo e soma os novos no dia novo
+        Long idTarefa = registro.getTarefa().getId();
+        Long idProjeto = registro.getTarefa().getProjeto().getId();
+        aplicarDelta(executor.getId(), idTarefa, idProjeto, registro.getDataRegistro(), -registro.getMinutos());
+
         registro.setHoras(novasHoras);
         registro.setDataRegistro(novaData);
+        aplicarDelta(executor.getId(), idTarefa, idProjeto, novaData, registro.getMinutos());
         return registroHorasRepository.save(registro);
     }
 
@@ -73,20 +115,22 @@ public class RegistroHorasService {
      */
     @Transactional
     public void excluirRegistro(Long idRegistro, Long idUsuarioExecutor) {
-        RegistroHoras registro = registroHorasRepository.findById(idRegistro)
-            .orElseThrow(() -> new RuntimeException("Registro de horas não encontrado."));
-        Usuario executor = usuarioRepository.findById(idUsuarioExecutor)
-            .orElseThrow(() -> new RuntimeException("Usuário não encontrado."));
-
         // Regra de Negócio: Apenas o autor ou o gerente do projeto podem excluir.
-        boolean isAutor = registro.getUsuario().getId().equals(executor.getId());
-        boolean isGerenteDoProjeto = registro.getTarefa().getProjeto().getGerente().getId().equals(executor.getId());
-
-        if (!isAutor && !isGerenteDoProjeto) {
-             throw new SecurityException("Usuário não tem permissão para excluir este registro.");
+        // Uma única consulta por IDs; a existência só é verificada quando a permissão é negada.
+        if (!autorizacaoService.isAutorOuGerenteDoRegistro(idRegistro, idUsuarioExecutor)) {
+            if (!registroHorasRepository.existsById(idRegistro)) {
+                throw new RuntimeException("Registro de horas não encontrado.");
+            }
+            throw new SecurityException("Usuário não tem permissão para excluir este registro.");
         }
 
-        registroHorasRepository.deleteById(idRegistro);
+        // Os minutos só saem do consolidado se esta transação de fato excluiu o registro
+        registroHorasRepository.buscarChave(idRegistro).ifPresent(chave -> {
+            if (registroHorasRepository.excluirPorId(idRegistro) == 1) {
+                aplicarDelta(chave.getUsuarioId(), chave.getTarefaId(), chave.getProjetoId(),
+                             chave.getDataRegistro(), -chave.getMinutos());
+            }
+        });
     }
 
     /**
@@ -94,8 +138,15 @@ public class RegistroHorasService {
      */
     @Transactional(readOnly = true)
     public float consultarTotalHorasPorTarefa(Long idTarefa) {
-        Float total = registroHorasRepository.sumHorasByTarefaId(idTarefa);
-        return total != null ? total : 0.0f;
+        return consultarTotalMinutosPorTarefa(idTarefa) / 60f;
+    }
+
+    /**
+     * CU 15: Total exato, em minutos, de uma tarefa (lido das horas diárias consolidadas).
+     */
+    @Transactional(readOnly = true)
+    public long consultarTotalMinutosPorTarefa(Long idTarefa) {
+        return horasDiariasRepository.somarMinutosPorTarefa(idTarefa);
     }
 
     /**
@@ -103,8 +154,51 @@ public class RegistroHorasService {
      */
     @Transactional(readOnly = true)
     public float consultarTotalHorasPorProjeto(Long idProjeto) {
-        Float total = registroHorasRepository.sumHorasByProjetoId(idProjeto);
-        return total != null ? total : 0.0f;
+        return consultarTotalMinutosPorProjeto(idProjeto) / 60f;
+    }
+
+    /**
+     * CU 15 / 16: Total exato, em minutos, de um projeto (lido das horas diárias consolidadas).
+     */
+    @Transactional(readOnly = true)
+    public long consultarTotalMinutosPorProjeto(Long idProjeto) {
+        return horasDiariasRepository.somarMinutosPorProjeto(idProjeto);
+    }
+
+    /**
+     * CU 16: Horas do projeto dia a dia dentro de um período (apenas dias com horas registradas).
+     */
+    @Transactional(readOnly = true)
+    public List<HorasDiaDTO> consultarHorasDiariasPorProjeto(Long idProjeto, LocalDate inicio, LocalDate fim) {
+        if (inicio.isAfter(fim)) {
+            throw new IllegalArgumentException("A data inicial deve ser anterior ou igual à data final.");
+        }
+        return horasDiariasRepository.somarMinutosPorDia(idProjeto, inicio, fim).stream()
+            .map(linha -> new HorasDiaDTO(linha.getDia(), linha.getMinutos()))
+            .toList();
+    }
+
+    /**
+     * Remove os registros de horas e as horas consolidadas de um projeto.
+     * Deve ser chamado dentro da transação de exclusão do projeto.
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void removerRegistrosDoProjeto(Long idProjeto) {
+        horasDiariasRepository.deleteByProjetoId(idProjeto);
+        registroHorasRepository.deleteByProjetoId(idProjeto);
+    }
+
+    /**
+     * CU 16: Lista os registros de horas de um projeto, uma página por vez, em ordem de criação.
+     */
+    @Transactional(readOnly = true)
+    public Pagina<RegistroHorasDTO> listarPorProjeto(Long idProjeto, String cursor, Integer tamanhoPagina) {
+        CursorPaginacao posicao = CursorPaginacao.decodificar(cursor);
+        int tamanho = CursorPaginacao.tamanho(tamanhoPagina);
+        List<RegistroHoras> registros = registroHorasRepository.buscarPaginaPorProjeto(idProjeto,
+            posicao.getDataCriacao(), posicao.getId(), CursorPaginacao.limite(tamanho));
+        return CursorPaginacao.montar(registros, tamanho, RegistroHoras::getDataCriacao, RegistroHoras::getId,
+            RegistroHorasDTO::new);
     }
 
     /**
@@ -114,4 +208,117 @@ public class RegistroHorasService {
     public List<RegistroHoras> buscarRegistrosPorUsuarioEPeriodo(Long idUsuario, LocalDate inicio, LocalDate fim) {
         return registroHorasRepository.findByUsuarioIdAndDataRegistroBetween(idUsuario, inicio, fim);
     }
+
+    /**
+     * CU 16: Verifica se o usuário pode exportar as horas do projeto (gerente do projeto ou GERAR_RELATORIOS).
+     * Deve ser chamado antes de iniciar a resposta da exportação.
+     */
+    @Transactional(readOnly = true)
+    public void verificarPermissaoExportacao(Long idProjeto, Long idUsuarioExecutor) {
+        Long idGerente = projetoRepository.findGerenteIdById(idProjeto)
+            .orElseThrow(() -> new RuntimeException("Projeto não encontrado."));
+        if (!idGerente.equals(idUsuarioExecutor)
+                && !autorizacaoService.temPermissao(idUsuarioExecutor, Permissao.GERAR_RELATORIOS)) {
+            throw new SecurityException("Usuário não tem permissão para exportar as horas deste projeto.");
+        }
+    }
+
+    /**
+     * CU 16: Exporta todos os registros de horas de um projeto (folha de pagamento) em CSV ou NDJSON.
+     * As linhas são lidas por cursor e escritas diretamente na saída, uma a uma; nenhuma entidade
+     * é gerenciada durante a exportação, então o consumo de memória é constante.
+     */
+    @Transactional(readOnly = true)
+    public void exportarRegistrosDoProjeto(Long idProjeto, FormatoExportacao formato, OutputStream saida) {
+        Writer escritor = new BufferedWriter(new OutputStreamWriter(saida, StandardCharsets.UTF_8), 64 * 1024);
+        try (Stream<RegistroHorasExportacaoProjection> registros = registroHorasRepository.streamPorProjeto(idProjeto)) {
+            if (formato == FormatoExportacao.CSV) {
+                escritor.write("id,usuario_id,usuario_nome,tarefa_id,tarefa_titulo,minutos,horas,data_registro\n");
+            }
+            Iterator<RegistroHorasExportacaoProjection> iterador = registros.iterator();
+            while (iterador.hasNext()) {
+                RegistroHorasExportacaoProjection r = iterador.next();
+                String horas = horas(r.getMinutos());
+                if (formato == FormatoExportacao.CSV) {
+                    escritor.write(r.getId() + "," + r.getUsuarioId() + "," + csv(r.getUsuarioNome()) + ","
+                        + r.getTarefaId() + "," + csv(r.getTarefaTitulo()) + "," + r.getMinutos() + ","
+                        + horas + ","
+                        + r.getDataRegistro() + "\n");
+                } else {
+                    escritor.write("{\"id\":" + r.getId() + ",\"usuarioId\":" + r.getUsuarioId()
+                        + ",\"usuarioNome\":" + json(r.getUsuarioNome()) + ",\"tarefaId\":" + r.getTarefaId()
+                        + ",\"tarefaTitulo\":" + json(r.getTarefaTitulo()) + ",\"minutos\":" + r.getMinutos()
+                        + ",\"horas\":" + horas
+                        + ",\"dataRegistro\":\"" + r.getDataRegistro() + "\"}\n");
+                }
+            }
+            escritor.flush();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Falha ao escrever a exportação de horas.", e);
+        }
+    }
+
+    // --- MÉTODOS AUXILIARES ---
+
+    /**
+     * Soma um delta (em minutos) às horas consolidadas do usuário na tarefa e no dia.
+     * Se ainda não houver linha para o dia, ela é criada; deltas negativos só alcançam linhas já existentes.
+     */
+    private void aplicarDelta(Long idUsuario, Long idTarefa, Long idProjeto, LocalDate dia, long delta) {
+        if (delta == 0 || horasDiariasRepository.incrementar(idUsuario, idTarefa, dia, delta) > 0) {
+            return;
+        }
+        // Primeiro registro do dia: cria a linha já com o delta; se outra transação a criou entre o UPDATE
+        // e o INSERT (violando uk_horas_diarias_usuario_tarefa_dia), o delta é somado à linha dela
+        if (delta > 0 && !insercaoChaveUnicaService.inserirSeAusente(
+                "INSERT INTO horas_diarias (usuario_id, tarefa_id, projeto_id, dia, minutos) VALUES (?, ?, ?, ?, ?)",
+                idUsuario, idTarefa, idProjeto, dia, delta)) {
+            horasDiariasRepository.incrementar(idUsuario, idTarefa, dia, delta);
+        }
+    }
+
+    /**
+     * Horas exatas com duas casas decimais, calculadas a partir dos minutos inteiros.
+     */
+    private static String horas(Integer minutos) {
+        if (minutos == null) {
+            return "0.00";
+        }
+        return BigDecimal.valueOf(minutos).divide(BigDecimal.valueOf(60), 2, RoundingMode.HALF_UP).toPlainString();
+    }
+
+    private static String csv(String valor) {
+        if (valor == null) {
+            return "";
+        }
+        if (valor.indexOf(',') < 0 && valor.indexOf('"') < 0 && valor.indexOf('\n') < 0 && valor.indexOf('\r') < 0) {
+            return valor;
+        }
+        return "\"" + valor.replace("\"", "\"\"") + "\"";
+    }
+
+    private static String json(String valor) {
+        if (valor == null) {
+            return "null";
+        }
+        StringBuilder sb = new StringBuilder(valor.length() + 2).append('"');
+        for (int i = 0; i < valor.length(); i++) {
+            char c = valor.charAt(i);
+            switch (c) {
+                case '"' -> sb.append("\\\"");
+                case '\\' -> sb.append("\\\\");
+                case '\n' -> sb.append("\\n");
+                case '\r' -> sb.append("\\r");
+                case '\t' -> sb.append("\\t");
+                default -> {
+                    if (c < 0x20) {
+                        sb.append(String.format("\\u%04x", (int) c));
+                    } else {
+                        sb.append(c);
+                    }
+                }
+            }
+        }
+        return sb.append('"').toString();
+    }
 }
\ No newline at end of file
@@ -0,0 +1,30 @@
+package com.ifpe.edu.br.workflowmanagement.service;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.stereotype.Component;
+
+/**
+ * Reconstrói o índice de busca na inicialização quando a aplicação recebe a opção --reindexar-busca
+ * (ex.: após restaurar um backup do banco ou perder o diretório do índice).
+ */
+@Component
+public class ReindexacaoBuscaRunner implements ApplicationRunner {
+
+    public static final String OPCAO_REINDEXAR = "reindexar-busca";
+
+    private final BuscaService buscaService;
+
+    @Autowired
+    public ReindexacaoBuscaRunner(BuscaService buscaService) {
+        this.buscaService = buscaService;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) throws Exception {
+        if (args.containsOption(OPCAO_REINDEXAR)) {
+            buscaService.reindexar();
+        }
+    }
+}
@@ -0,0 +1,88 @@
+package com.ifpe.edu.br.workflowmanagement.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Supplier;
+
+/**
+ * Repetição de operações que falharam por bloqueio otimista (outra transação alterou a mesma linha entre a
+ * leitura e o commit). A operação roda em uma transação própria e, em caso de conflito, é executada de novo
+ * sobre o estado atual, até bloqueio.otimista.tentativas vezes, com uma espera curta e aleatória entre as
+ * tentativas. Esgotadas as tentativas, o conflito chega ao controlador como HTTP 409.
+ *
+ * Só serve para operações comutativas, cujo resultado não depende do estado que o cliente viu
+ * (ex.: mover a tarefa para uma etapa, definir o responsável): cada tentativa relê a tarefa e refaz as validações.
+ * Chamada dentro de uma transação já aberta, a operação participa dela e não é repetida, pois o conflito
+ * invalida a transação inteira.
+ *
+ * Métrica: bloqueio.otimista.conflitos, por operação e desfecho (repetida ou esgotada).
+ */
+@Service
+public class RepeticaoConflitosService {
+
+    private final TransactionTemplate transactionTemplate;
+    private final MeterRegistry registry;
+    private final int tentativas;
+    private final long esperaMs;
+
+    @Autowired
+    public RepeticaoConflitosService(TransactionTemplate transactionTemplate, MeterRegistry registry,
+                                     @Value("${bloqueio.otimista.tentativas:3}") int tentativas,
+                                     @Value("${bloqueio.otimista.espera-ms:20}") long esperaMs) {
+        this.transactionTemplate = transactionTemplate;
+        this.registry = registry;
+        this.tentativas = Math.max(1, tentativas);
+        this.esperaMs = esperaMs;
+    }
+
+    /**
+     * Executa a operação em uma transação, repetindo-a em caso de conflito de versão.
+     * @param operacao nome da operação nas métricas
+     */
+    public <T> T executar(String operacao, Supplier<T> acao) {
+        if (TransactionSynchronizationManager.isActualTransactionActive()) {
+            return acao.get();
+        }
+        for (int tentativa = 1; ; tentativa++) {
+            try {
+                return transactionTemplate.execute(status -> acao.get());
+            } catch (OptimisticLockingFailureException e) {
+                if (tentativa >= tentativas) {
+                    contar(operacao, "esgotada");
+                    throw e;
+                }
+                contar(operacao, "repetida");
+                aguardar(tentativa, e);
+            }
+        }
+    }
+
+    // --- MÉTODOS AUXILIARES ---
+
+    // Espera aleatória e crescente: quem disputou a mesma linha não repete no mesmo instante
+    private void aguardar(int tentativa, OptimisticLockingFailureException conflito) {
+        try {
+            Thread.sleep(ThreadLocalRandom.current().nextLong(esperaMs * tentativa + 1));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw conflito;
+        }
+    }
+
+    private void contar(String operacao, String desfecho) {
+        Counter.builder("bloqueio.otimista.conflitos")
+            .description("Conflitos de bloqueio otimista nas operações repetidas automaticamente")
+            .tag("operacao", operacao)
+            .tag("desfecho", desfecho)
+            .register(registry)
+            .increment();
+    }
+}
@@ -0,0 +1,19 @@
+package com.ifpe.edu.br.workflowmanagement.service;
+
+/**
+ * Lançada quando um recurso limitado do serviço (ex.: o pool de hash de senhas) está saturado.
+ * A requisição pode ser repetida depois de alguns segundos; a API responde HTTP 503 com Retry-After.
+ */
+public class ServicoSobrecarregadoException extends RuntimeException {
+
+    private final long tentarNovamenteEmSegundos;
+
+    public ServicoSobrecarregadoException(String mensagem, long tentarNovamenteEmSegundos) {
+        super(mensagem);
+        this.tentarNovamenteEmSegundos = tentarNovamenteEmSegundos;
+    }
+
+    public long getTentarNovamenteEmSegundos() {
+        return tentarNovamenteEmSegundos;
+    }
+}
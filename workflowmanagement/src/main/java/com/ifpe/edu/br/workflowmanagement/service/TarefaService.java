@@ -1,39 +1,95 @@
 package com.ifpe.edu.br.workflowmanagement.service;
 
+import com.ifpe.edu.br.workflowmanagement.service.DTO.NovaTarefaDTO;
+import com.ifpe.edu.br.workflowmanagement.service.DTO.Pagina;
+import com.ifpe.edu.br.workflowmanagement.service.DTO.ResultadoLoteDTO;
+import com.ifpe.edu.br.workflowmanagement.service.DTO.ResultadoMovimentacaoDTO;
+import com.ifpe.edu.br.workflowmanagement.service.DTO.ResultadoMovimentacaoDTO.Status;
+import com.ifpe.edu.br.workflowmanagement.service.DTO.TarefaResumoDTO;
+import com.ifpe.edu.br.workflowmanagement.service.DTO.TransicaoTarefaDTO;
 import com.ifpe.edu.br.workflowmanagement.service.entities.*;
+import com.ifpe.edu.br.workflowmanagement.service.eventos.TarefaReatribuidaEvento;
+import com.ifpe.edu.br.workflowmanagement.service.eventos.TarefasCriadasEvento;
+import com.ifpe.edu.br.workflowmanagement.service.eventos.TarefasMovidasEvento;
 import com.ifpe.edu.br.workflowmanagement.service.repositories.*;
+import jakarta.persistence.EntityManager;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Service
 public class TarefaService {
 
+    // Quantidade máxima de tarefas aceitas em uma única importação
+    public static final int TAMANHO_MAXIMO_IMPORTACAO = 10_000;
+
+    // Deve acompanhar spring.jpa.properties.hibernate.jdbc.batch_size
+    private static final int TAMANHO_LOTE_JDBC = 50;
+
+    // Quantidade de IDs por cláusula IN nas operações em lote
+    private static final int TAMANHO_LOTE_IN = 1_000;
+
     private final TarefaRepository tarefaRepository;
     private final UsuarioRepository usuarioRepository;
     private final ProjetoRepository projetoRepository;
     private final EtapaRepository etapaRepository;
     private final ComentarioRepository comentarioRepository;
     private final RegistroHorasRepository registroHorasRepository;
+    private final TransicaoPendenteRepository transicaoPendenteRepository;
+    private final TransicaoTarefaRepository transicaoTarefaRepository;
     private final ComentarioService comentarioService;
     private final RegistroHorasService registroHorasService;
-    
+    private final ContadorTarefasService contadorTarefasService;
+    private final PermissaoService permissaoService;
+    private final AutorizacaoService autorizacaoService;
+    private final EstruturaFluxoService estruturaFluxoService;
+    private final RepeticaoConflitosService repeticaoConflitosService;
+    private final EntityManager entityManager;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Autowired
     public TarefaService(TarefaRepository tarefaRepository, UsuarioRepository usuarioRepository,
                          ProjetoRepository projetoRepository, EtapaRepository etapaRepository,
                          ComentarioRepository comentarioRepository, RegistroHorasRepository registroHorasRepository,
-                         ComentarioService comentarioService) { 
+                         TransicaoPendenteRepository transicaoPendenteRepository,
+                         TransicaoTarefaRepository transicaoTarefaRepository,
+                         ComentarioService comentarioService, RegistroHorasService registroHorasService,
+                         ContadorTarefasService contadorTarefasService, PermissaoService permissaoService,
+                         AutorizacaoService autorizacaoService, EstruturaFluxoService estruturaFluxoService,
+                         RepeticaoConflitosService repeticaoConflitosService,
+                         EntityManager entityManager, ApplicationEventPublisher eventPublisher) {
         this.tarefaRepository = tarefaRepository;
         this.usuarioRepository = usuarioRepository;
         this.projetoRepository = projetoRepository;
         this.etapaRepository = etapaRepository;
         this.comentarioRepository = comentarioRepository;
         this.registroHorasRepository = registroHorasRepository;
+        this.transicaoPendenteRepository = transicaoPendenteRepository;
+        this.transicaoTarefaRepository = transicaoTarefaRepository;
         this.comentarioService = comentarioService;
+        this.registroHorasService = registroHorasService;
+        this.contadorTarefasService = contadorTarefasService;
+        this.permissaoService = permissaoService;
+        this.autorizacaoService = autorizacaoService;
+        this.estruturaFluxoService = estruturaFluxoService;
+        this.repeticaoConflitosService = repeticaoConflitosService;
+        this.entityManager = entityManager;
+        this.eventPublisher = eventPublisher;
     }
 
     /**
@@ -52,13 +108,12 @@ public class TarefaService {
         }
 
         // Verifica permissão do criador
-        if (!temPermissao(criador, "CRIAR_TAREFA")) {
+        if (!permissaoService.temPermissao(criador, Permissao.CRIAR_TAREFA)) {
             throw new SecurityException("Usuário não tem permissão para criar tarefas.");
         }
 
-        // Encontra a primeira etapa do fluxo de trabalho do projeto
-        Etapa primeiraEtapa = etapaRepository.findFirstByFluxoTrabalhoIdOrderByOrdemAsc(projeto.getFluxoTrabalho().getId())
-                .orElseThrow(() -> new IllegalStateException("O fluxo de trabalho não possui uma etapa inicial."));
+        // Encontra a primeira etapa do fluxo de trabalho do projeto (estrutura do fluxo em cache, sem consulta)
+        Etapa primeiraEtapa = primeiraEtapa(projeto);
 
         Tarefa novaTarefa = new Tarefa();
         novaTarefa.setTitulo(titulo);
@@ -72,23 +127,92 @@ public class TarefaService {
             novaTarefa.setResponsavel(responsavel);
         }
 
-        return tarefaRepository.save(novaTarefa);
+        Tarefa tarefaSalva = tarefaRepository.save(novaTarefa);
+        contadorTarefasService.registrarEntrada(projeto.getId(), primeiraEtapa.getId(), 1);
+        eventPublisher.publishEvent(new TarefasCriadasEvento(projeto.getId(), primeiraEtapa.getId(),
+                List.of(tarefaSalva.getId()), criador.getId()));
+        return tarefaSalva;
     }
 
     /**
-     * CU 12: Move uma tarefa para uma nova etapa do fluxo de trabalho.
+     * CU 9: Cria várias tarefas em um projeto de uma só vez (importação de sprint).
+     * Projeto, fluxo, primeira etapa, criador e responsáveis são resolvidos uma única vez,
+     * e os INSERTs são enviados em lotes JDBC graças aos IDs gerados por sequência.
      */
     @Transactional
+    public ResultadoLoteDTO criarTarefasEmLote(Long idProjeto, List<NovaTarefaDTO> novasTarefas, Long idCriador) {
+        long inicio = System.nanoTime();
+        if (novasTarefas == null || novasTarefas.isEmpty()) {
+            throw new IllegalArgumentException("Nenhuma tarefa informada para criação.");
+        }
+        if (novasTarefas.size() > TAMANHO_MAXIMO_IMPORTACAO) {
+            throw new IllegalArgumentException("A importação aceita no máximo " + TAMANHO_MAXIMO_IMPORTACAO + " tarefas por vez.");
+        }
+
+        Usuario criador = usuarioRepository.findById(idCriador)
+                .orElseThrow(() -> new RuntimeException("Usuário criador não encontrado."));
+        if (!permissaoService.temPermissao(criador, Permissao.CRIAR_TAREFA)) {
+            throw new SecurityException("Usuário não tem permissão para criar tarefas.");
+        }
+
+        Projeto projeto = projetoRepository.findById(idProjeto)
+                .orElseThrow(() -> new RuntimeException("Projeto não encontrado."));
+        if (projeto.getFluxoTrabalho() == null) {
+            throw new IllegalStateException("O projeto precisa ter um fluxo de trabalho associado para criar tarefas.");
+        }
+        Etapa primeiraEtapa = primeiraEtapa(projeto);
+
+        // Todos os responsáveis distintos em uma única consulta
+        Set<Long> idsResponsaveis = novasTarefas.stream()
+                .map(NovaTarefaDTO::getIdResponsavel)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toCollection(HashSet::new));
+        Map<Long, Usuario> responsaveis = usuarioRepository.findAllById(idsResponsaveis).stream()
+                .collect(Collectors.toMap(Usuario::getId, Function.identity()));
+        if (responsaveis.size() != idsResponsaveis.size()) {
+            throw new RuntimeException("Usuário responsável não encontrado.");
+        }
+
+        List<Tarefa> pendentes = new ArrayList<>(TAMANHO_LOTE_JDBC);
+        List<Long> idsCriados = new ArrayList<>(novasTarefas.size());
+        for (NovaTarefaDTO dados : novasTarefas) {
+            Tarefa novaTarefa = new Tarefa(dados.getTitulo(), dados.getDescricao(), projeto,
+                    dados.getIdResponsavel() != null ? responsaveis.get(dados.getIdResponsavel()) : null, primeiraEtapa);
+            entityManager.persist(novaTarefa);
+            pendentes.add(novaTarefa);
+
+            // Descarrega cada lote e limpa o contexto de persistência para manter a memória constante
+            if (pendentes.size() == TAMANHO_LOTE_JDBC) {
+                descarregarLote(pendentes, idsCriados);
+            }
+        }
+        descarregarLote(pendentes, idsCriados);
+
+        contadorTarefasService.registrarEntrada(idProjeto, primeiraEtapa.getId(), idsCriados.size());
+        eventPublisher.publishEvent(new TarefasCriadasEvento(idProjeto, primeiraEtapa.getId(), idsCriados, idCriador));
+        return new ResultadoLoteDTO(idsCriados, System.nanoTime() - inicio);
+    }
+
+    /**
+     * CU 12: Move uma tarefa para uma nova etapa do fluxo de trabalho.
+     * Se outra transação alterar a tarefa ao mesmo tempo, a movimentação é refeita sobre a versão atual.
+     */
     public Tarefa moverTarefaParaEtapa(Long idTarefa, Long idNovaEtapa, Long idUsuarioExecutor) {
+        return repeticaoConflitosService.executar("mover_tarefa",
+                () -> moverUmaVez(idTarefa, idNovaEtapa, idUsuarioExecutor));
+    }
+
+    private Tarefa moverUmaVez(Long idTarefa, Long idNovaEtapa, Long idUsuarioExecutor) {
         Tarefa tarefa = tarefaRepository.findById(idTarefa)
                 .orElseThrow(() -> new RuntimeException("Tarefa não encontrada."));
-        Etapa novaEtapa = etapaRepository.findById(idNovaEtapa)
+        EstruturaFluxo fluxoDestino = estruturaFluxoService.buscarPorEtapa(idNovaEtapa)
                 .orElseThrow(() -> new RuntimeException("Nova etapa não encontrada."));
         Usuario executor = usuarioRepository.findById(idUsuarioExecutor)
                 .orElseThrow(() -> new RuntimeException("Usuário não encontrado."));
         
         // Validação: A nova etapa pertence ao mesmo fluxo de trabalho da tarefa?
-        if (!tarefa.getProjeto().getFluxoTrabalho().getId().equals(novaEtapa.getFluxoTrabalho().getId())) {
+        // A etapa de destino não é carregada: a pertinência ao fluxo vem da estrutura em cache
+        if (!fluxoDestino.idFluxo().equals(tarefa.getProjeto().getFluxoTrabalho().getId())) {
             throw new IllegalStateException("A etapa de destino não pertence ao fluxo de trabalho do projeto.");
         }
 
@@ -97,36 +221,147 @@ public class TarefaService {
              throw new SecurityException("Usuário não tem permissão para mover esta tarefa.");
         }
 
+        Long idEtapaAnterior = tarefa.getEtapaAtual() != null ? tarefa.getEtapaAtual().getId() : null;
+        Etapa novaEtapa = etapaRepository.getReferenceById(idNovaEtapa);
         tarefa.setEtapaAtual(novaEtapa);
+        contadorTarefasService.registrarMovimento(tarefa.getProjeto().getId(), idEtapaAnterior, novaEtapa.getId(), 1);
+        // Histórico: um INSERT na caixa de saída, copiado para tarefa_transicoes fora da requisição
+        if (!idNovaEtapa.equals(idEtapaAnterior)) {
+            transicaoPendenteRepository.save(new TransicaoPendente(tarefa.getId(), idEtapaAnterior, idNovaEtapa,
+                    executor.getId(), LocalDateTime.now()));
+        }
         
         // Opcional: Se a etapa for a última ("Done", "Concluído"), registrar a data de conclusão
         // Esta lógica depende de como você identifica a última etapa.
-        if ("concluído".equalsIgnoreCase(novaEtapa.getNome())) {
+        if (fluxoDestino.isConclusao(idNovaEtapa)) {
             tarefa.setDataConclusao(LocalDateTime.now());
         }
 
+        eventPublisher.publishEvent(new TarefasMovidasEvento(tarefa.getProjeto().getId(), novaEtapa.getId(),
+                List.of(tarefa.getId()), executor.getId()));
         return tarefaRepository.save(tarefa);
     }
 
     /**
-     * CU 13: Define ou altera o responsável por uma tarefa.
+     * CU 12 em lote: Move várias tarefas para uma mesma etapa (ex.: encerramento de sprint).
+     * A etapa de destino e a permissão geral do executor são verificadas uma única vez;
+     * as demais validações usam apenas IDs e a movimentação é feita com UPDATEs por conjunto, agrupados pela
+     * etapa de origem lida. Uma tarefa movida por outra transação nesse intervalo não é alterada (CONFLITO).
+     * @return o resultado da movimentação de cada tarefa solicitada.
      */
-
     @Transactional
+    public List<ResultadoMovimentacaoDTO> moverTarefasEmLote(List<Long> idsTarefas, Long idNovaEtapa, Long idUsuarioExecutor) {
+        if (idsTarefas == null || idsTarefas.isEmpty() || idNovaEtapa == null) {
+            throw new IllegalArgumentException("Informe as tarefas e a nova etapa da movimentação.");
+        }
+        Set<Long> idsSolicitados = new LinkedHashSet<>(idsTarefas);
+        if (idsSolicitados.size() > TAMANHO_MAXIMO_IMPORTACAO) {
+            throw new IllegalArgumentException("A movimentação aceita no máximo " + TAMANHO_MAXIMO_IMPORTACAO + " tarefas por vez.");
+        }
+        EstruturaFluxo fluxoDestino = estruturaFluxoService.buscarPorEtapa(idNovaEtapa)
+                .orElseThrow(() -> new RuntimeException("Nova etapa não encontrada."));
+        Long idFluxoDestino = fluxoDestino.idFluxo();
+        boolean podeMoverQualquer = autorizacaoService.temPermissao(idUsuarioExecutor, Permissao.MOVER_QUALQUER_TAREFA);
+
+        Map<Long, TarefaMovimentacaoProjection> tarefas = new HashMap<>();
+        for (List<Long> lote : particionar(new ArrayList<>(idsSolicitados))) {
+            for (TarefaMovimentacaoProjection tarefa : tarefaRepository.buscarParaMovimentacao(lote)) {
+                tarefas.put(tarefa.getId(), tarefa);
+            }
+        }
+
+        Map<Long, Status> statusPorTarefa = new LinkedHashMap<>();
+        // projeto -> etapa de origem -> tarefas a mover
+        Map<Long, Map<Long, List<Long>>> movimentosPorProjeto = new HashMap<>();
+        for (Long idTarefa : idsSolicitados) {
+            TarefaMovimentacaoProjection tarefa = tarefas.get(idTarefa);
+            Status status;
+            if (tarefa == null) {
+                status = Status.NAO_ENCONTRADA;
+            } else if (!idFluxoDestino.equals(tarefa.getFluxoTrabalhoId())) {
+                status = Status.ETAPA_FORA_DO_FLUXO;
+            } else if (!podeMoverQualquer && !idUsuarioExecutor.equals(tarefa.getGerenteId())
+                    && !idUsuarioExecutor.equals(tarefa.getResponsavelId())) {
+                status = Status.SEM_PERMISSAO;
+            } else if (idNovaEtapa.equals(tarefa.getEtapaAtualId())) {
+                status = Status.JA_NA_ETAPA;
+            } else {
+                status = Status.MOVIDA;
+                movimentosPorProjeto.computeIfAbsent(tarefa.getProjetoId(), id -> new HashMap<>())
+                        .computeIfAbsent(tarefa.getEtapaAtualId(), id -> new ArrayList<>()).add(idTarefa);
+            }
+            statusPorTarefa.put(idTarefa, status);
+        }
+
+        boolean concluir = fluxoDestino.isConclusao(idNovaEtapa);
+        Etapa novaEtapa = etapaRepository.getReferenceById(idNovaEtapa);
+        LocalDateTime agora = LocalDateTime.now();
+        List<TransicaoPendente> transicoes = new ArrayList<>();
+        Map<Long, List<Long>> idsMovidosPorProjeto = new HashMap<>();
+        for (Map.Entry<Long, Map<Long, List<Long>>> projeto : movimentosPorProjeto.entrySet()) {
+            Long idProjeto = projeto.getKey();
+            for (Map.Entry<Long, List<Long>> origem : projeto.getValue().entrySet()) {
+                Long idEtapaOrigem = origem.getKey();
+                long movidas = 0;
+                for (List<Long> lote : particionar(origem.getValue())) {
+                    // Só alcança as tarefas que continuam na etapa de origem lida acima
+                    int atualizadas = concluir
+                            ? tarefaRepository.moverEConcluirEmLote(lote, idEtapaOrigem, novaEtapa, agora)
+                            : tarefaRepository.moverEmLote(lote, idEtapaOrigem, novaEtapa);
+                    List<Long> movidasNoLote = atualizadas == lote.size()
+                            ? lote
+                            : confirmarMovidas(lote, idNovaEtapa, tarefas, statusPorTarefa);
+                    movidas += atualizadas;
+                    for (Long idTarefa : movidasNoLote) {
+                        transicoes.add(new TransicaoPendente(idTarefa, idEtapaOrigem, idNovaEtapa, idUsuarioExecutor, agora));
+                        idsMovidosPorProjeto.computeIfAbsent(idProjeto, id -> new ArrayList<>()).add(idTarefa);
+                    }
+                }
+                // O contador acompanha as linhas de fato alteradas
+                contadorTarefasService.registrarMovimento(idProjeto, idEtapaOrigem, idNovaEtapa, movidas);
+            }
+        }
+        // Uma transição pendente por tarefa movida, em INSERTs agrupados em lotes JDBC
+        transicaoPendenteRepository.saveAll(transicoes);
+
+        // Um evento por projeto; as notificações de cada tarefa são geradas fora da requisição
+        idsMovidosPorProjeto.forEach((idProjeto, ids) ->
+                eventPublisher.publishEvent(new TarefasMovidasEvento(idProjeto, idNovaEtapa, ids, idUsuarioExecutor)));
+
+        List<ResultadoMovimentacaoDTO> resultados = new ArrayList<>(statusPorTarefa.size());
+        statusPorTarefa.forEach((idTarefa, status) -> resultados.add(new ResultadoMovimentacaoDTO(idTarefa, status)));
+        return resultados;
+    }
+
+    /**
+     * CU 13: Define ou altera o responsável por uma tarefa.
+     * Se outra transação alterar a tarefa ao mesmo tempo, a atribuição é refeita sobre a versão atual.
+     */
     public Tarefa definirResponsavel(Long idTarefa, Long idNovoResponsavel, Long idUsuarioExecutor) {
+        return repeticaoConflitosService.executar("definir_responsavel",
+                () -> definirResponsavelUmaVez(idTarefa, idNovoResponsavel, idUsuarioExecutor));
+    }
+
+    private Tarefa definirResponsavelUmaVez(Long idTarefa, Long idNovoResponsavel, Long idUsuarioExecutor) {
         Tarefa tarefa = tarefaRepository.findById(idTarefa)
             .orElseThrow(() -> new RuntimeException("Tarefa não encontrada."));
-        Usuario novoResponsavel = usuarioRepository.findById(idNovoResponsavel)
-            .orElseThrow(() -> new RuntimeException("Novo usuário responsável não encontrado."));
-        Usuario executor = usuarioRepository.findById(idUsuarioExecutor)
-            .orElseThrow(() -> new RuntimeException("Usuário não encontrado."));
-        
-        // Apenas o gerente do projeto ou um admin pode alterar o responsável
-        if (!isGerenteDoProjeto(executor, tarefa.getProjeto()) && !temPermissao(executor, "DEFINIR_QUALQUER_RESPONSAVEL")) {
+
+        // Apenas o gerente do projeto ou um admin pode alterar o responsável.
+        // A verificação usa apenas IDs; o executor não é carregado.
+        if (!autorizacaoService.isGerenteDaTarefa(idTarefa, idUsuarioExecutor)
+                && !autorizacaoService.temPermissao(idUsuarioExecutor, Permissao.DEFINIR_QUALQUER_RESPONSAVEL)) {
              throw new SecurityException("Usuário não tem permissão para alterar o responsável desta tarefa.");
         }
 
+        Usuario novoResponsavel = usuarioRepository.findById(idNovoResponsavel)
+            .orElseThrow(() -> new RuntimeException("Novo usuário responsável não encontrado."));
+        Long idResponsavelAnterior = tarefa.getResponsavel() != null ? tarefa.getResponsavel().getId() : null;
         tarefa.setResponsavel(novoResponsavel);
+
+        if (!novoResponsavel.getId().equals(idResponsavelAnterior)) {
+            eventPublisher.publishEvent(new TarefaReatribuidaEvento(tarefa.getProjeto().getId(), tarefa.getId(),
+                    idResponsavelAnterior, novoResponsavel.getId(), idUsuarioExecutor));
+        }
         return tarefaRepository.save(tarefa);
     }
 
@@ -161,12 +396,101 @@ public class TarefaService {
 
     
     
+    /**
+     * Lista as tarefas de um projeto, uma página por vez, em ordem de criação.
+     */
+    @Transactional(readOnly = true)
+    public Pagina<TarefaResumoDTO> listarPorProjeto(Long idProjeto, String cursor, Integer tamanhoPagina) {
+        CursorPaginacao posicao = CursorPaginacao.decodificar(cursor);
+        int tamanho = CursorPaginacao.tamanho(tamanhoPagina);
+        List<Tarefa> tarefas = tarefaRepository.buscarPaginaPorProjeto(idProjeto, posicao.getDataCriacao(), posicao.getId(),
+            CursorPaginacao.limite(tamanho));
+        return CursorPaginacao.montar(tarefas, tamanho, Tarefa::getDataCriacao, Tarefa::getId, TarefaResumoDTO::new);
+    }
+
+    /**
+     * Lista as tarefas atribuídas a um usuário, uma página por vez, em ordem de criação.
+     */
+    @Transactional(readOnly = true)
+    public Pagina<TarefaResumoDTO> listarPorResponsavel(Long idResponsavel, String cursor, Integer tamanhoPagina) {
+        CursorPaginacao posicao = CursorPaginacao.decodificar(cursor);
+        int tamanho = CursorPaginacao.tamanho(tamanhoPagina);
+        List<Tarefa> tarefas = tarefaRepository.buscarPaginaPorResponsavel(idResponsavel, posicao.getDataCriacao(), posicao.getId(),
+            CursorPaginacao.limite(tamanho));
+        return CursorPaginacao.montar(tarefas, tamanho, Tarefa::getDataCriacao, Tarefa::getId, TarefaResumoDTO::new);
+    }
+
+    /**
+     * Histórico de mudanças de etapa da tarefa, em ordem cronológica, paginado por cursor.
+     * Uma movimentação aparece aqui após ser copiada da caixa de saída (transicoes.escrita.intervalo-ms).
+     */
+    @Transactional(readOnly = true)
+    public Pagina<TransicaoTarefaDTO> listarTransicoes(Long idTarefa, String cursor, Integer tamanhoPagina) {
+        CursorPaginacao posicao = CursorPaginacao.decodificar(cursor);
+        int tamanho = CursorPaginacao.tamanho(tamanhoPagina);
+        List<TransicaoTarefa> transicoes = transicaoTarefaRepository.buscarPaginaPorTarefa(idTarefa,
+            posicao.getDataCriacao(), posicao.getId(), CursorPaginacao.limite(tamanho));
+
+        // A existência da tarefa só é verificada quando não há nenhuma transição na primeira página
+        if (transicoes.isEmpty() && cursor == null && !tarefaRepository.existsById(idTarefa)) {
+            throw new RuntimeException("Tarefa não encontrada.");
+        }
+        return CursorPaginacao.montar(transicoes, tamanho, TransicaoTarefa::getInstante, TransicaoTarefa::getId,
+            TransicaoTarefaDTO::new);
+    }
+
     // --- MÉTODOS AUXILIARES E DE VERIFICAÇÃO ---
 
-    private boolean temPermissao(Usuario usuario, String permissao) {
-        return usuario.getPapel() != null && usuario.getPapel().getPermissoes().contains(permissao);
+    /**
+     * Lote em que o UPDATE alterou menos tarefas que o esperado: relê as tarefas e considera movidas por ele
+     * as que estão na nova etapa com a versão seguinte à lida; as demais ficam com o status CONFLITO.
+     */
+    private List<Long> confirmarMovidas(List<Long> lote, Long idNovaEtapa,
+                                       Map<Long, TarefaMovimentacaoProjection> lidas, Map<Long, Status> statusPorTarefa) {
+        List<Long> movidas = new ArrayList<>();
+        for (TarefaMovimentacaoProjection atual : tarefaRepository.buscarParaMovimentacao(lote)) {
+            if (idNovaEtapa.equals(atual.getEtapaAtualId())
+                    && atual.getVersao() == lidas.get(atual.getId()).getVersao() + 1) {
+                movidas.add(atual.getId());
+            }
+        }
+        for (Long idTarefa : lote) {
+            if (!movidas.contains(idTarefa)) {
+                statusPorTarefa.put(idTarefa, Status.CONFLITO);
+            }
+        }
+        return movidas;
     }
-    
+
+    private static List<List<Long>> particionar(List<Long> ids) {
+        List<List<Long>> lotes = new ArrayList<>();
+        for (int inicio = 0; inicio < ids.size(); inicio += TAMANHO_LOTE_IN) {
+            lotes.add(ids.subList(inicio, Math.min(inicio + TAMANHO_LOTE_IN, ids.size())));
+        }
+        return lotes;
+    }
+
+    private void descarregarLote(List<Tarefa> pendentes, List<Long> idsCriados) {
+        if (pendentes.isEmpty()) {
+            return;
+        }
+        entityManager.flush();
+        for (Tarefa tarefa : pendentes) {
+            idsCriados.add(tarefa.getId());
+            entityManager.detach(tarefa);
+        }
+        pendentes.clear();
+    }
+
+    /**
+     * Primeira etapa do fluxo do projeto, como referência (proxy): o ID vem da estrutura do fluxo em cache.
+     */
+    private Etapa primeiraEtapa(Projeto projeto) {
+        Long idPrimeiraEtapa = estruturaFluxoService.buscar(projeto.getFluxoTrabalho().getId()).primeiraEtapa()
+                .orElseThrow(() -> new IllegalStateException("O fluxo de trabalho não possui uma etapa inicial."));
+        return etapaRepository.getReferenceById(idPrimeiraEtapa);
+    }
+
     private boolean isGerenteDoProjeto(Usuario usuario, Projeto projeto) {
         return projeto.getGerente().getId().equals(usuario.getId());
     }
@@ -174,6 +498,6 @@ public class TarefaService {
     private boolean isResponsavelOuGerente(Usuario usuario, Tarefa tarefa) {
         boolean isResponsavel = tarefa.getResponsavel() != null && tarefa.getResponsavel().getId().equals(usuario.getId());
         boolean isGerente = isGerenteDoProjeto(usuario, tarefa.getProjeto());
-        return isResponsavel || isGerente || temPermissao(usuario, "MOVER_QUALQUER_TAREFA");
+        return isResponsavel || isGerente || permissaoService.temPermissao(usuario, Permissao.MOVER_QUALQUER_TAREFA);
     }
 }
\ No newline at end of file
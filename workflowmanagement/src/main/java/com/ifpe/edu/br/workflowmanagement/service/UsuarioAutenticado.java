@@ -0,0 +1,7 @@
+package com.ifpe.edu.br.workflowmanagement.service;
+
+/**
+ * Usuário da requisição, obtido do token de acesso (use com @AuthenticationPrincipal nos controllers).
+ */
+public record UsuarioAutenticado(Long id, Long idPapel) {
+}
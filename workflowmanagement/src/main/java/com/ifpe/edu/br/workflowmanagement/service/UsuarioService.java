@@ -1,13 +1,18 @@
 package com.ifpe.edu.br.workflowmanagement.service;
 
+import com.ifpe.edu.br.workflowmanagement.service.DTO.CadastroUsuarioDTO;
+import com.ifpe.edu.br.workflowmanagement.service.DTO.Pagina;
+import com.ifpe.edu.br.workflowmanagement.service.DTO.UsuarioResponseDTO;
 import com.ifpe.edu.br.workflowmanagement.service.entities.Papel;
+import com.ifpe.edu.br.workflowmanagement.service.entities.Permissao;
 import com.ifpe.edu.br.workflowmanagement.service.entities.Usuario;
+import com.ifpe.edu.br.workflowmanagement.service.repositories.PapelRepository;
 import com.ifpe.edu.br.workflowmanagement.service.repositories.UsuarioRepository;
 import org.springframework.beans.factory.annotation.Autowired;
-// Importe uma implementação de PasswordEncoder. BCrypt é o mais comum.
-import org.springframework.security.crypto.password.PasswordEncoder; 
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.util.List;
 import java.util.Optional;
@@ -16,29 +21,65 @@ import java.util.Optional;
 public class UsuarioService {
 
     private final UsuarioRepository usuarioRepository;
-    private final PasswordEncoder passwordEncoder; // Injetado para criptografar senhas
+    private final HashSenhaService hashSenhaService; // BCrypt em pool limitado, fora da thread da requisição
+    private final PapelRepository papelRepository;
+    private final AutorizacaoService autorizacaoService;
+    private final String papelPadrao;
+    private final TransactionTemplate transactionTemplate;
 
     @Autowired
-    public UsuarioService(UsuarioRepository usuarioRepository, PasswordEncoder passwordEncoder) {
+    public UsuarioService(UsuarioRepository usuarioRepository, HashSenhaService hashSenhaService,
+                          PapelRepository papelRepository, AutorizacaoService autorizacaoService,
+                          @Value("${usuarios.cadastro.papel-padrao:DESENVOLVEDOR}") String papelPadrao,
+                          TransactionTemplate transactionTemplate) {
         this.usuarioRepository = usuarioRepository;
-        this.passwordEncoder = passwordEncoder;
+        this.hashSenhaService = hashSenhaService;
+        this.papelRepository = papelRepository;
+        this.autorizacaoService = autorizacaoService;
+        this.papelPadrao = papelPadrao;
+        this.transactionTemplate = transactionTemplate;
+    }
+
+    /**
+     * CU 1: Cadastrar um novo usuário a partir do formulário de cadastro (público).
+     * O usuário recebe sempre o papel padrão; outro papel só pode ser atribuído por um administrador.
+     * A senha é criptografada antes da transação, como em {@link #cadastrar(String, String, String, String, Papel)}.
+     */
+    public UsuarioResponseDTO cadastrar(CadastroUsuarioDTO cadastro) {
+        String senhaCriptografada = hashSenhaService.gerar(cadastro.getSenha());
+        return transactionTemplate.execute(status -> {
+            Papel papel = papelRepository.findByNome(papelPadrao)
+                .orElseThrow(() -> new IllegalStateException("Papel padrão do cadastro não encontrado: " + papelPadrao + "."));
+            Usuario usuario = salvarNovo(cadastro.getNome(), cadastro.getEmail(), senhaCriptografada, null, papel);
+            return new UsuarioResponseDTO(usuario.getId(), usuario.getNome(), usuario.getEmail(), papel.getNome());
+        });
     }
 
     /**
      * CU 1: Cadastrar um novo usuário no sistema.
-     * Valida se o e-mail já existe e criptografa a senha antes de salvar.
+     * Criptografa a senha e só então abre a transação que valida o e-mail e salva o usuário: a conexão
+     * do banco não fica presa enquanto o hash espera na fila do HashSenhaService.
      */
-    @Transactional
     public Usuario cadastrar(String nome, String email, String senha, String cargo, Papel papel) {
-        if (usuarioRepository.existsByEmail(email)) {
-            throw new IllegalStateException("O e-mail informado já está em uso.");
-        }
-
-        // Criptografa a senha antes de salvar no banco
-        String senhaCriptografada = passwordEncoder.encode(senha);
+        String senhaCriptografada = hashSenhaService.gerar(senha);
+        return transactionTemplate.execute(status -> salvarNovo(nome, email, senhaCriptografada, cargo, papel));
+    }
 
-        Usuario novoUsuario = new Usuario(nome, email, senhaCriptografada, cargo, papel);
-        return usuarioRepository.save(novoUsuario);
+    /**
+     * Altera o papel de um usuário. Exige a permissão GERENCIAR_USUARIOS; o novo papel vale para os tokens já
+     * emitidos após seguranca.principal.validade-segundos.
+     */
+    @Transactional
+    public UsuarioResponseDTO alterarPapel(Long idUsuario, Long idPapel, Long idUsuarioExecutor) {
+        if (!autorizacaoService.temPermissao(idUsuarioExecutor, Permissao.GERENCIAR_USUARIOS)) {
+            throw new SecurityException("Usuário não tem permissão para alterar papéis.");
+        }
+        Usuario usuario = usuarioRepository.findById(idUsuario)
+            .orElseThrow(() -> new RuntimeException("Usuário não encontrado."));
+        Papel papel = papelRepository.findById(idPapel)
+            .orElseThrow(() -> new RuntimeException("Papel não encontrado."));
+        usuario.setPapel(papel);
+        return new UsuarioResponseDTO(usuario.getId(), usuario.getNome(), usuario.getEmail(), papel.getNome());
     }
 
     /**
@@ -51,7 +92,7 @@ public class UsuarioService {
         if (usuarioOpt.isPresent()) {
             Usuario usuario = usuarioOpt.get();
             // Compara a senha em texto plano com a senha criptografada
-            if (passwordEncoder.matches(senha, usuario.getSenha())) {
+            if (hashSenhaService.conferir(senha, usuario.getSenha())) {
                 return Optional.of(usuario); // Senha correta
             }
         }
@@ -80,10 +121,18 @@ public class UsuarioService {
     }
     
     /**
-     * CU 17: Listar todos os usuários.
+     * CU 17: Listar os usuários, uma página por vez, em ordem de cadastro.
+     * @param cursor o token devolvido pela página anterior (nulo para a primeira página).
+     * @param tamanhoPagina a quantidade de usuários por página (limitada a CursorPaginacao.TAMANHO_MAXIMO).
      */
-    public List<Usuario> listarTodos() {
-        return usuarioRepository.findAll();
+    @Transactional(readOnly = true)
+    public Pagina<UsuarioResponseDTO> listarTodos(String cursor, Integer tamanhoPagina) {
+        CursorPaginacao posicao = CursorPaginacao.decodificar(cursor);
+        int tamanho = CursorPaginacao.tamanho(tamanhoPagina);
+        List<Usuario> usuarios = usuarioRepository.buscarPagina(posicao.getDataCriacao(), posicao.getId(),
+            CursorPaginacao.limite(tamanho));
+        return CursorPaginacao.montar(usuarios, tamanho, Usuario::getDataCriacao, Usuario::getId,
+            u -> new UsuarioResponseDTO(u.getId(), u.getNome(), u.getEmail(), u.getPapel().getNome()));
     }
 
     /**
@@ -96,4 +145,16 @@ public class UsuarioService {
         }
         usuarioRepository.deleteById(id);
     }
+
+    // --- MÉTODOS AUXILIARES ---
+
+    /**
+     * Valida se o e-mail já existe e salva o usuário com a senha já criptografada.
+     */
+    private Usuario salvarNovo(String nome, String email, String senhaCriptografada, String cargo, Papel papel) {
+        if (usuarioRepository.existsByEmail(email)) {
+            throw new IllegalStateException("O e-mail informado já está em uso.");
+        }
+        return usuarioRepository.save(new Usuario(nome, email, senhaCriptografada, cargo, papel));
+    }
 }
\ No newline at end of file
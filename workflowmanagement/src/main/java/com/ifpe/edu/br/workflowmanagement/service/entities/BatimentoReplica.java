@@ -0,0 +1,32 @@
+package com.ifpe.edu.br.workflowmanagement.service.entities;
+
+import jakarta.persistence.*;
+
+/**
+ * Batimento gravado periodicamente no banco primário e lido na réplica de leitura: a diferença entre o
+ * último instante gravado e o instante visível na réplica mede o atraso da replicação (ver RoteamentoReplica).
+ * A tabela tem uma única linha e não é acessada pelo JPA; a entidade existe para que o esquema a inclua.
+ */
+@Entity
+@Table(name = "replica_batimentos")
+public class BatimentoReplica {
+
+    @Id
+    private Long id;
+
+    @Column(nullable = false)
+    private long instante; // Epoch em milissegundos
+
+    // Construtor padrão (necessário para JPA)
+    public BatimentoReplica() {
+    }
+
+    // Getters
+    public Long getId() {
+        return id;
+    }
+
+    public long getInstante() {
+        return instante;
+    }
+}
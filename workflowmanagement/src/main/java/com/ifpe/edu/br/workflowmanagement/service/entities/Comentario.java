@@ -4,7 +4,10 @@ import jakarta.persistence.*;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "comentarios")
+@Table(name = "comentarios", indexes = {
+    // Histórico de comentários de uma tarefa paginado por cursor (dataCriacao, id), nas duas direções
+    @Index(name = "idx_comentarios_tarefa_data_id", columnList = "tarefa_id, data_criacao, id")
+})
 public class Comentario {
 
     @Id
@@ -0,0 +1,61 @@
+package com.ifpe.edu.br.workflowmanagement.service.entities;
+
+import jakarta.persistence.*;
+
+/**
+ * Contador de tarefas de um projeto em uma etapa do fluxo de trabalho.
+ * Mantido de forma incremental pelo TarefaService, permite montar o quadro (kanban)
+ * e o progresso do projeto lendo uma linha por etapa em vez de percorrer todas as tarefas.
+ */
+@Entity
+@Table(name = "contadores_tarefas_etapa",
+       uniqueConstraints = @UniqueConstraint(name = "uk_contador_projeto_etapa", columnNames = {"projeto_id", "etapa_id"}))
+public class ContadorTarefasEtapa {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "projeto_id", nullable = false)
+    private Projeto projeto;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "etapa_id", nullable = false)
+    private Etapa etapa;
+
+    @Column(nullable = false)
+    private long quantidade;
+
+    // Construtor padrão (necessário para JPA)
+    public ContadorTarefasEtapa() {
+    }
+
+    // Construtor com campos
+    public ContadorTarefasEtapa(Projeto projeto, Etapa etapa, long quantidade) {
+        this.projeto = projeto;
+        this.etapa = etapa;
+        this.quantidade = quantidade;
+    }
+
+    // Getters e Setters
+    public Long getId() {
+        return id;
+    }
+
+    public Projeto getProjeto() {
+        return projeto;
+    }
+
+    public Etapa getEtapa() {
+        return etapa;
+    }
+
+    public long getQuantidade() {
+        return quantidade;
+    }
+
+    public void setQuantidade(long quantidade) {
+        this.quantidade = quantidade;
+    }
+}
@@ -1,10 +1,17 @@
 package com.ifpe.edu.br.workflowmanagement.service.entities;
 
+import com.ifpe.edu.br.workflowmanagement.config.CacheSegundoNivelConfig;
+import com.ifpe.edu.br.workflowmanagement.service.InvalidacaoFluxoListener;
 import jakarta.persistence.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import java.time.LocalDateTime;
 
 @Entity
+@EntityListeners(InvalidacaoFluxoListener.class) // Descarta as estruturas de fluxo em cache
 @Table(name = "etapas")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.NONSTRICT_READ_WRITE, region = CacheSegundoNivelConfig.REGIAO_ETAPAS)
 public class Etapa {
 
     @Id
@@ -1,12 +1,19 @@
 package com.ifpe.edu.br.workflowmanagement.service.entities;
 
+import com.ifpe.edu.br.workflowmanagement.config.CacheSegundoNivelConfig;
+import com.ifpe.edu.br.workflowmanagement.service.InvalidacaoFluxoListener;
 import jakarta.persistence.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.ArrayList;
 
 @Entity
+@EntityListeners(InvalidacaoFluxoListener.class) // Descarta as estruturas de fluxo em cache
 @Table(name = "fluxos_trabalho")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.NONSTRICT_READ_WRITE, region = CacheSegundoNivelConfig.REGIAO_FLUXOS)
 public class FluxoTrabalho {
 
     @Id
@@ -19,6 +26,7 @@ public class FluxoTrabalho {
     // Relacionamento com Etapa (um fluxo de trabalho possui muitas etapas)
     @OneToMany(mappedBy = "fluxoTrabalho", cascade = CascadeType.ALL, orphanRemoval = true)
     @OrderBy("ordem ASC") // Garante que as etapas são recuperadas na ordem correta
+    @Cache(usage = CacheConcurrencyStrategy.NONSTRICT_READ_WRITE, region = CacheSegundoNivelConfig.REGIAO_ETAPAS_FLUXO)
     private List<Etapa> etapas = new ArrayList<>(); // "possui"
 
     @Column(name = "data_criacao", updatable = false)
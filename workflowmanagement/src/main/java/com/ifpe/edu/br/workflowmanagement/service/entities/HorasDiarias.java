@@ -0,0 +1,81 @@
+package com.ifpe.edu.br.workflowmanagement.service.entities;
+
+import jakarta.persistence.*;
+import java.time.LocalDate;
+
+/**
+ * Total de minutos registrados por um usuário em uma tarefa em um dia.
+ * Mantido de forma incremental pelo RegistroHorasService, permite calcular totais
+ * por tarefa, projeto e período lendo no máximo uma linha por dia (e usuário),
+ * em vez de somar todos os registros de horas.
+ */
+@Entity
+@Table(name = "horas_diarias",
+       uniqueConstraints = @UniqueConstraint(name = "uk_horas_diarias_usuario_tarefa_dia", columnNames = {"usuario_id", "tarefa_id", "dia"}),
+       indexes = {
+           @Index(name = "idx_horas_diarias_tarefa_dia", columnList = "tarefa_id, dia"),
+           @Index(name = "idx_horas_diarias_projeto_dia", columnList = "projeto_id, dia")
+       })
+public class HorasDiarias {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "usuario_id", nullable = false)
+    private Usuario usuario;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "tarefa_id", nullable = false)
+    private Tarefa tarefa;
+
+    // Desnormalizado para que os totais do projeto não precisem passar pela tabela de tarefas
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "projeto_id", nullable = false)
+    private Projeto projeto;
+
+    @Column(nullable = false)
+    private LocalDate dia;
+
+    @Column(nullable = false)
+    private long minutos;
+
+    // Construtor padrão (necessário para JPA)
+    public HorasDiarias() {
+    }
+
+    // Construtor com campos
+    public HorasDiarias(Usuario usuario, Tarefa tarefa, Projeto projeto, LocalDate dia, long minutos) {
+        this.usuario = usuario;
+        this.tarefa = tarefa;
+        this.projeto = projeto;
+        this.dia = dia;
+        this.minutos = minutos;
+    }
+
+    // Getters
+    public Long getId() {
+        return id;
+    }
+
+    public Usuario getUsuario() {
+        return usuario;
+    }
+
+    public Tarefa getTarefa() {
+        return tarefa;
+    }
+
+    public Projeto getProjeto() {
+        return projeto;
+    }
+
+    public LocalDate getDia() {
+        return dia;
+    }
+
+    public long getMinutos() {
+        return minutos;
+    }
+}
@@ -4,11 +4,16 @@ import jakarta.persistence.*;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "notificacoes")
+@Table(name = "notificacoes", indexes = {
+    // Contagem de não lidas e listagem das notificações de um usuário
+    @Index(name = "idx_notificacoes_usuario_lida_data", columnList = "usuario_responsavel_id, lida, data_criacao")
+})
 public class Notificacao {
 
+    // Sequência com alocação em blocos: as notificações são gravadas em lote pelo NotificacaoService
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "notificacoes_seq")
+    @SequenceGenerator(name = "notificacoes_seq", sequenceName = "notificacoes_seq", allocationSize = 50)
     private Long id;
 
     @ManyToOne(fetch = FetchType.LAZY)
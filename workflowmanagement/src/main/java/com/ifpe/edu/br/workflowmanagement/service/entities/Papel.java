@@ -1,10 +1,17 @@
 package com.ifpe.edu.br.workflowmanagement.service.entities;
 
+import com.ifpe.edu.br.workflowmanagement.config.CacheSegundoNivelConfig;
 import jakarta.persistence.*;
-import java.util.List;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import java.util.EnumSet;
+import java.util.Set;
 
 @Entity
 @Table(name = "papeis")
+@Cacheable
+// Papéis não são renomeados; as permissões ficam na coleção, que tem região própria
+@Cache(usage = CacheConcurrencyStrategy.READ_ONLY, region = CacheSegundoNivelConfig.REGIAO_PAPEIS)
 public class Papel {
 
     @Id
@@ -14,6 +21,15 @@ public class Papel {
     @Column(nullable = false, unique = true)
     private String nome; // Ex: "ADMIN", "GERENTE_PROJETO", "DESENVOLVEDOR"
 
+    // Permissões concedidas ao papel. As verificações usam a máscara compilada pelo PermissaoService,
+    // portanto alterações devem passar por PermissaoService.definirPermissoes.
+    @ElementCollection(fetch = FetchType.LAZY)
+    @Cache(usage = CacheConcurrencyStrategy.NONSTRICT_READ_WRITE, region = CacheSegundoNivelConfig.REGIAO_PERMISSOES_PAPEL)
+    @CollectionTable(name = "papel_permissoes", joinColumns = @JoinColumn(name = "papel_id"))
+    @Enumerated(EnumType.STRING)
+    @Column(name = "permissao", nullable = false, length = 50)
+    private Set<Permissao> permissoes = EnumSet.noneOf(Permissao.class);
+
     // Getters e Setters
     public Long getId() {
         return id;
@@ -30,4 +46,12 @@ public class Papel {
     public void setNome(String nome) {
         this.nome = nome;
     }
+
+    public Set<Permissao> getPermissoes() {
+        return permissoes;
+    }
+
+    public void setPermissoes(Set<Permissao> permissoes) {
+        this.permissoes = permissoes;
+    }
 }
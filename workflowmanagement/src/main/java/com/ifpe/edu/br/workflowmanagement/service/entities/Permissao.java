@@ -0,0 +1,32 @@
+package com.ifpe.edu.br.workflowmanagement.service.entities;
+
+/**
+ * Permissões que podem ser concedidas a um Papel.
+ * A posição (ordinal) de cada permissão é o seu bit na máscara compilada do papel,
+ * por isso novas permissões devem ser sempre adicionadas ao final da lista.
+ */
+public enum Permissao {
+
+    CRIAR_PROJETO,
+    EDITAR_QUALQUER_PROJETO,
+    EXCLUIR_QUALQUER_PROJETO,
+    ASSOCIAR_FLUXO_PROJETO,
+    GERAR_RELATORIOS,
+    CRIAR_TAREFA,
+    MOVER_QUALQUER_TAREFA,
+    DEFINIR_QUALQUER_RESPONSAVEL,
+    GERENCIAR_USUARIOS; // Alterar o papel de outros usuários
+
+    static {
+        if (values().length > Long.SIZE) {
+            throw new IllegalStateException("A máscara de permissões comporta no máximo 64 permissões.");
+        }
+    }
+
+    /**
+     * Bit correspondente a esta permissão na máscara do papel.
+     */
+    public long bit() {
+        return 1L << ordinal();
+    }
+}
@@ -1,18 +1,25 @@
 package com.ifpe.edu.br.workflowmanagement.service.entities;
 
 import jakarta.persistence.*;
+import org.hibernate.annotations.OptimisticLock;
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.ArrayList; // Import para inicializar a lista
 
 @Entity
-@Table(name = "projetos")
+@Table(name = "projetos",
+       indexes = @Index(name = "idx_projetos_data_criacao_id", columnList = "data_criacao, id"))
 public class Projeto {
 
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
 
+    // Bloqueio otimista: alterações simultâneas do mesmo projeto resultam em conflito (HTTP 409)
+    @Version
+    @Column(nullable = false)
+    private long versao;
+
     @Column(nullable = false, length = 255)
     private String nome;
 
@@ -34,7 +41,9 @@ public class Projeto {
     private FluxoTrabalho fluxoTrabalho; // "utiliza"
 
     // Relacionamento com Tarefa (um projeto contém muitas tarefas)
+    // Criar ou excluir tarefas não altera a versão do projeto
     @OneToMany(mappedBy = "projeto", cascade = CascadeType.ALL, orphanRemoval = true)
+    @OptimisticLock(excluded = true)
     private List<Tarefa> tarefas = new ArrayList<>(); // "contém"
 
     @PrePersist
@@ -59,6 +68,10 @@ public class Projeto {
         return id;
     }
 
+    public long getVersao() {
+        return versao;
+    }
+
     public void setId(Long id) {
         this.id = id;
     }
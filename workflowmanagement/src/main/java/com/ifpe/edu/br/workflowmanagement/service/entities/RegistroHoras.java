@@ -5,7 +5,14 @@ import java.time.LocalDate; // Usar LocalDate para representar apenas a data
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "registros_horas")
+@Table(name = "registros_horas",
+       indexes = {
+           @Index(name = "idx_registros_horas_data_criacao_id", columnList = "data_criacao, id"),
+           // Registros de um usuário por período e registros das tarefas de um projeto (exportação e exclusão);
+           // o PostgreSQL não cria índices para chaves estrangeiras automaticamente
+           @Index(name = "idx_registros_horas_usuario_data", columnList = "usuario_id, data_registro"),
+           @Index(name = "idx_registros_horas_tarefa", columnList = "tarefa_id")
+       })
 public class RegistroHoras {
 
     @Id
@@ -21,7 +28,7 @@ public class RegistroHoras {
     private Tarefa tarefa; // "registra"
 
     @Column(nullable = false)
-    private float horas; // Tipo float para horas pode ser ajustado para BigDecimal se precisar de maior precisão monetária
+    private int minutos; // Minutos inteiros: somas exatas, sem o erro acumulado de float
 
     @Column(nullable = false)
     private LocalDate dataRegistro; // Usar LocalDate para a data de registro
@@ -42,10 +49,17 @@ public class RegistroHoras {
     public RegistroHoras(Usuario usuario, Tarefa tarefa, float horas, LocalDate dataRegistro) {
         this.usuario = usuario;
         this.tarefa = tarefa;
-        this.horas = horas;
+        this.minutos = paraMinutos(horas);
         this.dataRegistro = dataRegistro;
     }
 
+    /**
+     * Converte horas fracionadas (ex.: 1.5f) para minutos inteiros, arredondando ao minuto mais próximo.
+     */
+    public static int paraMinutos(float horas) {
+        return Math.round(horas * 60);
+    }
+
     // Getters e Setters
     public Long getId() {
         return id;
@@ -71,12 +85,20 @@ public class RegistroHoras {
         this.tarefa = tarefa;
     }
 
+    public int getMinutos() {
+        return minutos;
+    }
+
+    public void setMinutos(int minutos) {
+        this.minutos = minutos;
+    }
+
     public float getHoras() {
-        return horas;
+        return minutos / 60f;
     }
 
     public void setHoras(float horas) {
-        this.horas = horas;
+        this.minutos = paraMinutos(horas);
     }
 
     public LocalDate getDataRegistro() {
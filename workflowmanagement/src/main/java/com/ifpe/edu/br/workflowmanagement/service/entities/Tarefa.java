@@ -1,18 +1,34 @@
 package com.ifpe.edu.br.workflowmanagement.service.entities;
 
 import jakarta.persistence.*;
+import org.hibernate.annotations.DynamicUpdate;
+import org.hibernate.annotations.OptimisticLock;
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.ArrayList;
 
+// Bloqueio otimista (versao) e UPDATE só com as colunas alteradas: mover e reatribuir a mesma tarefa
+// ao mesmo tempo não se sobrescrevem em silêncio, e nenhuma linha fica bloqueada durante a requisição
 @Entity
-@Table(name = "tarefas")
+@DynamicUpdate
+@Table(name = "tarefas", indexes = {
+    @Index(name = "idx_tarefas_projeto_data_criacao_id", columnList = "projeto_id, data_criacao, id"),
+    @Index(name = "idx_tarefas_responsavel_data_criacao_id", columnList = "responsavel_id, data_criacao, id")
+})
 public class Tarefa {
 
+    // Sequência com otimizador "pooled": o Hibernate reserva 50 IDs por chamada à sequência
+    // e consegue agrupar os INSERTs em lotes JDBC (o que não é possível com IDENTITY).
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "tarefas_seq")
+    @SequenceGenerator(name = "tarefas_seq", sequenceName = "tarefas_seq", allocationSize = 50)
     private Long id;
 
+    // Incrementada a cada UPDATE, inclusive pelos UPDATEs em lote do TarefaRepository
+    @Version
+    @Column(nullable = false)
+    private long versao;
+
     @Column(nullable = false, length = 255)
     private String titulo;
 
@@ -41,11 +57,14 @@ public class Tarefa {
     private Etapa etapaAtual; // "está em" no lado da Etapa
 
     // Relacionamento com Comentário (uma tarefa tem muitos comentários)
+    // Comentar não altera a versão da tarefa nem conflita com uma movimentação
     @OneToMany(mappedBy = "tarefa", cascade = CascadeType.ALL, orphanRemoval = true)
+    @OptimisticLock(excluded = true)
     private List<Comentario> comentarios = new ArrayList<>(); // "registra" / "escreve" (usuário escreve em tarefa)
 
     // Relacionamento com RegistroHoras (uma tarefa tem muitos registros de horas)
     @OneToMany(mappedBy = "tarefa", cascade = CascadeType.ALL, orphanRemoval = true)
+    @OptimisticLock(excluded = true)
     private List<RegistroHoras> registrosHoras = new ArrayList<>(); // "registra" (usuário registra horas para tarefa)
 
     @PrePersist
@@ -75,6 +94,10 @@ public class Tarefa {
         this.id = id;
     }
 
+    public long getVersao() {
+        return versao;
+    }
+
     public String getTitulo() {
         return titulo;
     }
@@ -0,0 +1,73 @@
+package com.ifpe.edu.br.workflowmanagement.service.entities;
+
+import jakarta.persistence.*;
+import java.time.LocalDateTime;
+
+/**
+ * Caixa de saída (outbox) do histórico de transições: gravada na mesma transação que move a tarefa,
+ * com um único INSERT, e transferida em lotes para tarefa_transicoes pelo HistoricoTransicoesService.
+ * O ID é reaproveitado no histórico. A cópia é um INSERT ... SELECT simples: cada linha é copiada uma única vez
+ * porque é removida da caixa de saída na mesma transação e bloqueada contra as demais instâncias durante a cópia.
+ */
+@Entity
+@Table(name = "tarefa_transicoes_pendentes")
+public class TransicaoPendente {
+
+    // Mesma estratégia das tarefas: 50 IDs por chamada à sequência e INSERTs agrupáveis em lotes JDBC
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "tarefa_transicoes_seq")
+    @SequenceGenerator(name = "tarefa_transicoes_seq", sequenceName = "tarefa_transicoes_seq", allocationSize = 50)
+    private Long id;
+
+    @Column(name = "tarefa_id", nullable = false)
+    private Long idTarefa;
+
+    @Column(name = "etapa_origem_id")
+    private Long idEtapaOrigem; // Nulo se a tarefa não estava em nenhuma etapa
+
+    @Column(name = "etapa_destino_id", nullable = false)
+    private Long idEtapaDestino;
+
+    @Column(name = "usuario_id", nullable = false)
+    private Long idUsuario;
+
+    @Column(nullable = false)
+    private LocalDateTime instante;
+
+    // Construtor padrão (necessário para JPA)
+    public TransicaoPendente() {
+    }
+
+    public TransicaoPendente(Long idTarefa, Long idEtapaOrigem, Long idEtapaDestino, Long idUsuario, LocalDateTime instante) {
+        this.idTarefa = idTarefa;
+        this.idEtapaOrigem = idEtapaOrigem;
+        this.idEtapaDestino = idEtapaDestino;
+        this.idUsuario = idUsuario;
+        this.instante = instante;
+    }
+
+    // Getters
+    public Long getId() {
+        return id;
+    }
+
+    public Long getIdTarefa() {
+        return idTarefa;
+    }
+
+    public Long getIdEtapaOrigem() {
+        return idEtapaOrigem;
+    }
+
+    public Long getIdEtapaDestino() {
+        return idEtapaDestino;
+    }
+
+    public Long getIdUsuario() {
+        return idUsuario;
+    }
+
+    public LocalDateTime getInstante() {
+        return instante;
+    }
+}
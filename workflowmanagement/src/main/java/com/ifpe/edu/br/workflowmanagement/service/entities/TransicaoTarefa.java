@@ -0,0 +1,66 @@
+package com.ifpe.edu.br.workflowmanagement.service.entities;
+
+import jakarta.persistence.*;
+import java.time.LocalDateTime;
+
+/**
+ * Histórico de transições de etapa das tarefas, somente de inclusão: as linhas chegam em lotes a partir de
+ * tarefa_transicoes_pendentes e nunca são alteradas (só removidas com o projeto).
+ *
+ * As colunas guardam apenas IDs, sem chaves estrangeiras, para que o histórico não dependa das etapas e
+ * usuários atuais. No PostgreSQL a tabela é particionada por mês de "instante"
+ * (ver src/main/resources/db/tarefa_transicoes-postgresql.sql).
+ */
+@Entity
+@Table(name = "tarefa_transicoes",
+       indexes = @Index(name = "idx_tarefa_transicoes_tarefa_instante_id", columnList = "tarefa_id, instante, id"))
+public class TransicaoTarefa {
+
+    // Mesmo ID da transição pendente de origem
+    @Id
+    private Long id;
+
+    @Column(name = "tarefa_id", nullable = false, updatable = false)
+    private Long idTarefa;
+
+    @Column(name = "etapa_origem_id", updatable = false)
+    private Long idEtapaOrigem;
+
+    @Column(name = "etapa_destino_id", nullable = false, updatable = false)
+    private Long idEtapaDestino;
+
+    @Column(name = "usuario_id", nullable = false, updatable = false)
+    private Long idUsuario;
+
+    @Column(nullable = false, updatable = false)
+    private LocalDateTime instante;
+
+    // Construtor padrão (necessário para JPA)
+    public TransicaoTarefa() {
+    }
+
+    // Getters
+    public Long getId() {
+        return id;
+    }
+
+    public Long getIdTarefa() {
+        return idTarefa;
+    }
+
+    public Long getIdEtapaOrigem() {
+        return idEtapaOrigem;
+    }
+
+    public Long getIdEtapaDestino() {
+        return idEtapaDestino;
+    }
+
+    public Long getIdUsuario() {
+        return idUsuario;
+    }
+
+    public LocalDateTime getInstante() {
+        return instante;
+    }
+}
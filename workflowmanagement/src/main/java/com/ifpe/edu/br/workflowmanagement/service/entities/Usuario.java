@@ -1,10 +1,13 @@
 package com.ifpe.edu.br.workflowmanagement.service.entities;
 
 import jakarta.persistence.*;
+import org.hibernate.annotations.Fetch;
+import org.hibernate.annotations.FetchMode;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "usuarios")
+@Table(name = "usuarios",
+       indexes = @Index(name = "idx_usuarios_data_criacao_id", columnList = "data_criacao, id"))
 public class Usuario {
 
     @Id
@@ -23,7 +26,9 @@ public class Usuario {
     @Column(length = 50)
     private String cargo;
 
+    // Continua EAGER, mas por SELECT separado: o papel vem do cache de segundo nível em vez de um JOIN a cada usuário
     @ManyToOne(fetch = FetchType.EAGER)
+    @Fetch(FetchMode.SELECT)
     @JoinColumn(name = "papel_id", nullable = false)
     private Papel papel;
 
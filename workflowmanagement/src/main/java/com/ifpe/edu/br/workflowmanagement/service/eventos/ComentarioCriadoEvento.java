@@ -0,0 +1,8 @@
+package com.ifpe.edu.br.workflowmanagement.service.eventos;
+
+/**
+ * Um comentário foi adicionado a uma tarefa.
+ */
+public record ComentarioCriadoEvento(Long idProjeto, Long idTarefa, Long idComentario,
+                                     Long idAutor) implements EventoProjeto {
+}
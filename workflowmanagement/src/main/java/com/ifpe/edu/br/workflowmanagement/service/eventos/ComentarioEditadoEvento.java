@@ -0,0 +1,7 @@
+package com.ifpe.edu.br.workflowmanagement.service.eventos;
+
+/**
+ * O texto de um comentário foi alterado.
+ */
+public record ComentarioEditadoEvento(Long idProjeto, Long idTarefa, Long idComentario) implements EventoProjeto {
+}
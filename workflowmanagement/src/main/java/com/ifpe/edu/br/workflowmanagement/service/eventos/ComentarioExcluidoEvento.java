@@ -0,0 +1,7 @@
+package com.ifpe.edu.br.workflowmanagement.service.eventos;
+
+/**
+ * Um comentário foi excluído.
+ */
+public record ComentarioExcluidoEvento(Long idProjeto, Long idComentario) implements EventoProjeto {
+}
@@ -0,0 +1,11 @@
+package com.ifpe.edu.br.workflowmanagement.service.eventos;
+
+/**
+ * Evento de domínio ocorrido dentro de um projeto.
+ * Os eventos carregam apenas IDs e são publicados dentro da transação que os originou;
+ * os ouvintes os tratam depois do commit.
+ */
+public interface EventoProjeto {
+
+    Long idProjeto();
+}
@@ -0,0 +1,7 @@
+package com.ifpe.edu.br.workflowmanagement.service.eventos;
+
+/**
+ * Um projeto foi excluído, junto com suas tarefas e comentários.
+ */
+public record ProjetoExcluidoEvento(Long idProjeto) implements EventoProjeto {
+}
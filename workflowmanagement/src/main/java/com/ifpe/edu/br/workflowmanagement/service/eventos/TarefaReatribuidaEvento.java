@@ -0,0 +1,8 @@
+package com.ifpe.edu.br.workflowmanagement.service.eventos;
+
+/**
+ * O responsável por uma tarefa foi alterado (idResponsavelAnterior é nulo se a tarefa não tinha responsável).
+ */
+public record TarefaReatribuidaEvento(Long idProjeto, Long idTarefa, Long idResponsavelAnterior,
+                                      Long idNovoResponsavel, Long idUsuarioExecutor) implements EventoProjeto {
+}
@@ -0,0 +1,10 @@
+package com.ifpe.edu.br.workflowmanagement.service.eventos;
+
+import java.util.List;
+
+/**
+ * Uma ou mais tarefas foram criadas em um projeto, todas na etapa inicial do fluxo.
+ */
+public record TarefasCriadasEvento(Long idProjeto, Long idEtapa, List<Long> idsTarefas,
+                                   Long idUsuarioCriador) implements EventoProjeto {
+}
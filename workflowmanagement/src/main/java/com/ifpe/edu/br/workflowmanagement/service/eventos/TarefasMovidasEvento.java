@@ -0,0 +1,11 @@
+package com.ifpe.edu.br.workflowmanagement.service.eventos;
+
+import java.util.List;
+
+/**
+ * Uma ou mais tarefas de um mesmo projeto foram movidas para a mesma etapa.
+ * A movimentação individual gera um evento com uma única tarefa; a movimentação em lote, um evento por projeto.
+ */
+public record TarefasMovidasEvento(Long idProjeto, Long idEtapaDestino, List<Long> idsTarefas,
+                                   Long idUsuarioExecutor) implements EventoProjeto {
+}
@@ -0,0 +1,27 @@
+package com.ifpe.edu.br.workflowmanagement.service.metricas;
+
+import org.hibernate.SessionEventListener;
+
+/**
+ * Conta os comandos SQL executados pela sessão do Hibernate na medição da thread atual.
+ * Instanciado pelo Hibernate para cada sessão (hibernate.session.events.auto); um lote JDBC conta uma vez.
+ */
+public class ContadorComandosSessao implements SessionEventListener {
+
+    @Override
+    public void jdbcExecuteStatementEnd() {
+        registrar();
+    }
+
+    @Override
+    public void jdbcExecuteBatchEnd() {
+        registrar();
+    }
+
+    private void registrar() {
+        MedicaoPersistencia medicao = MedicaoPersistencia.atual();
+        if (medicao != null) {
+            medicao.registrarComandoSql();
+        }
+    }
+}
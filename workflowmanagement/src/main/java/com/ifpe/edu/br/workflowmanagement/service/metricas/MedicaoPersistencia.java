@@ -0,0 +1,72 @@
+package com.ifpe.edu.br.workflowmanagement.service.metricas;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Contadores de persistência da chamada de serviço em andamento na thread atual.
+ * Aberta pelo MetricasPersistenciaAspect na chamada mais externa; chamadas internas de outros serviços
+ * somam na mesma medição. Alimentada pelos ouvintes do Hibernate.
+ */
+final class MedicaoPersistencia {
+
+    private static final ThreadLocal<MedicaoPersistencia> ATUAL = new ThreadLocal<>();
+
+    private long comandosSql;
+    private long entidadesCarregadas;
+    private long inicializacoesLazy;
+    // Associação (coleção ou entidade de um proxy) -> inicializações preguiçosas nesta chamada
+    private final Map<String, Integer> inicializacoesPorAssociacao = new HashMap<>();
+
+    private MedicaoPersistencia() {
+    }
+
+    /**
+     * Abre uma medição na thread atual, ou devolve nulo se já houver uma aberta.
+     */
+    static MedicaoPersistencia abrir() {
+        if (ATUAL.get() != null) {
+            return null;
+        }
+        MedicaoPersistencia medicao = new MedicaoPersistencia();
+        ATUAL.set(medicao);
+        return medicao;
+    }
+
+    static MedicaoPersistencia atual() {
+        return ATUAL.get();
+    }
+
+    void fechar() {
+        ATUAL.remove();
+    }
+
+    void registrarComandoSql() {
+        comandosSql++;
+    }
+
+    void registrarEntidadeCarregada() {
+        entidadesCarregadas++;
+    }
+
+    void registrarInicializacaoLazy(String associacao) {
+        inicializacoesLazy++;
+        inicializacoesPorAssociacao.merge(associacao, 1, Integer::sum);
+    }
+
+    long getComandosSql() {
+        return comandosSql;
+    }
+
+    long getEntidadesCarregadas() {
+        return entidadesCarregadas;
+    }
+
+    long getInicializacoesLazy() {
+        return inicializacoesLazy;
+    }
+
+    Map<String, Integer> getInicializacoesPorAssociacao() {
+        return inicializacoesPorAssociacao;
+    }
+}
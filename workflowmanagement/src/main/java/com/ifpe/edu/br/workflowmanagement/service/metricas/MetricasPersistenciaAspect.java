@@ -0,0 +1,116 @@
+package com.ifpe.edu.br.workflowmanagement.service.metricas;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * Métricas de persistência por método de serviço transacional, publicadas no Micrometer
+ * (/actuator/metrics): duração, comandos SQL, entidades carregadas e inicializações preguiçosas.
+ * Também são medidos os métodos que abrem a transação pelo RepeticaoConflitosService em vez de @Transactional
+ * (a medição soma todas as tentativas da chamada).
+ *
+ * Roda por fora da transação, para que o flush do commit entre na medição. Quando uma mesma associação
+ * é inicializada de forma preguiçosa mais vezes que o limite em uma única chamada (N+1), a chamada é
+ * registrada no log e contada em servico.persistencia.n_mais_um.
+ */
+@Aspect
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class MetricasPersistenciaAspect {
+
+    private static final Logger log = LoggerFactory.getLogger(MetricasPersistenciaAspect.class);
+
+    private final MeterRegistry registry;
+    private final int limiteNMaisUm;
+
+    @Autowired
+    public MetricasPersistenciaAspect(MeterRegistry registry,
+                                      @Value("${persistencia.metricas.limite-n-mais-um:10}") int limiteNMaisUm) {
+        this.registry = registry;
+        this.limiteNMaisUm = limiteNMaisUm;
+    }
+
+    @Around("within(com.ifpe.edu.br.workflowmanagement.service..*) && "
+          + "(@annotation(org.springframework.transaction.annotation.Transactional) || "
+          + "@within(org.springframework.transaction.annotation.Transactional) || "
+          + "execution(* com.ifpe.edu.br.workflowmanagement.service.TarefaService.moverTarefaParaEtapa(..)) || "
+          + "execution(* com.ifpe.edu.br.workflowmanagement.service.TarefaService.definirResponsavel(..)))")
+    public Object medir(ProceedingJoinPoint chamada) throws Throwable {
+        MedicaoPersistencia medicao = MedicaoPersistencia.abrir();
+        if (medicao == null) {
+            // Chamada interna: soma na medição da chamada mais externa
+            return chamada.proceed();
+        }
+
+        String classe = chamada.getSignature().getDeclaringType().getSimpleName();
+        String metodo = chamada.getSignature().getName();
+        String resultado = "sucesso";
+        long inicio = System.nanoTime();
+        try {
+            return chamada.proceed();
+        } catch (Throwable e) {
+            resultado = "erro";
+            throw e;
+        } finally {
+            long duracao = System.nanoTime() - inicio;
+            medicao.fechar();
+            registrar(classe, metodo, resultado, duracao, medicao);
+        }
+    }
+
+    // --- MÉTODOS AUXILIARES ---
+
+    private void registrar(String classe, String metodo, String resultado, long duracaoNanos,
+                           MedicaoPersistencia medicao) {
+        Map<String, Integer> suspeitas = medicao.getInicializacoesPorAssociacao().entrySet().stream()
+            .filter(e -> e.getValue() > limiteNMaisUm)
+            .collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue));
+        Tags tags = Tags.of("classe", classe, "metodo", metodo);
+
+        Timer.builder("servico.persistencia.duracao")
+            .description("Duração das chamadas de serviço transacionais")
+            .tags(tags)
+            .tag("resultado", resultado)
+            .tag("n_mais_um", String.valueOf(!suspeitas.isEmpty()))
+            .publishPercentiles(0.5, 0.95, 0.99)
+            .publishPercentileHistogram()
+            .register(registry)
+            .record(duracaoNanos, TimeUnit.NANOSECONDS);
+        resumo("servico.persistencia.comandos_sql", "Comandos SQL executados por chamada", tags)
+            .record(medicao.getComandosSql());
+        resumo("servico.persistencia.entidades_carregadas", "Entidades carregadas por chamada", tags)
+            .record(medicao.getEntidadesCarregadas());
+        resumo("servico.persistencia.inicializacoes_lazy", "Coleções e proxies inicializados sob demanda por chamada", tags)
+            .record(medicao.getInicializacoesLazy());
+
+        suspeitas.forEach((associacao, vezes) -> {
+            registry.counter("servico.persistencia.n_mais_um", tags.and("associacao", associacao)).increment();
+            log.warn("Possível N+1 em {}.{}: {} inicializada {} vezes na mesma chamada ({} comandos SQL).",
+                classe, metodo, associacao, vezes, medicao.getComandosSql());
+        });
+    }
+
+    private DistributionSummary resumo(String nome, String descricao, Tags tags) {
+        return DistributionSummary.builder(nome)
+            .description(descricao)
+            .tags(tags)
+            .publishPercentiles(0.5, 0.95, 0.99)
+            .register(registry);
+    }
+}
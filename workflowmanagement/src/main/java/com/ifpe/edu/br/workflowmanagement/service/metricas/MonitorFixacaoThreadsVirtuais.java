@@ -0,0 +1,110 @@
+package com.ifpe.edu.br.workflowmanagement.service.metricas;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordingStream;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+/**
+ * Diagnóstico do perfil "virtual": acompanha, pelo JFR, os trechos em que uma thread virtual ficou presa
+ * à thread portadora (ex.: bloqueio dentro de synchronized em drivers JDBC ou bibliotecas) por mais que o limite.
+ *
+ * Cada ocorrência é medida em threads.virtuais.fixacoes, com a classe de origem (o primeiro quadro fora do JDK);
+ * a pilha é registrada no log na primeira ocorrência de cada origem.
+ *
+ * O perfil exige Java 21: em versões anteriores a aplicação não inicia, em vez de seguir silenciosamente
+ * com threads de plataforma.
+ */
+@Component
+@Profile("virtual")
+public class MonitorFixacaoThreadsVirtuais {
+
+    private static final Logger log = LoggerFactory.getLogger(MonitorFixacaoThreadsVirtuais.class);
+
+    private static final String EVENTO_FIXACAO = "jdk.VirtualThreadPinned";
+    private static final int QUADROS_NO_LOG = 15;
+
+    private final MeterRegistry registry;
+    private final Duration limite;
+
+    private final Set<String> origensRegistradas = ConcurrentHashMap.newKeySet();
+    private RecordingStream gravacao;
+
+    @Autowired
+    public MonitorFixacaoThreadsVirtuais(MeterRegistry registry,
+                                         @Value("${threads.virtuais.fixacao.limite-ms:20}") long limiteMs) {
+        this.registry = registry;
+        this.limite = Duration.ofMillis(limiteMs);
+    }
+
+    @PostConstruct
+    public void iniciar() {
+        if (Runtime.version().feature() < 21) {
+            throw new IllegalStateException("O perfil 'virtual' exige Java 21 ou superior (em execução: Java "
+                + Runtime.version().feature() + ").");
+        }
+        gravacao = new RecordingStream();
+        gravacao.enable(EVENTO_FIXACAO).withThreshold(limite).withStackTrace();
+        gravacao.onEvent(EVENTO_FIXACAO, this::registrar);
+        gravacao.startAsync();
+    }
+
+    @PreDestroy
+    public void encerrar() {
+        if (gravacao != null) {
+            gravacao.close();
+        }
+    }
+
+    // --- MÉTODOS AUXILIARES ---
+
+    private void registrar(RecordedEvent evento) {
+        List<RecordedFrame> quadros = evento.getStackTrace() != null
+            ? evento.getStackTrace().getFrames() : List.of();
+        String origem = origem(quadros);
+        Timer.builder("threads.virtuais.fixacoes")
+            .description("Tempo em que uma thread virtual ficou presa à thread portadora")
+            .tag("origem", origem)
+            .register(registry)
+            .record(evento.getDuration());
+
+        if (origensRegistradas.add(origem)) {
+            log.warn("Thread virtual fixada por {} ms em {}:\n{}", evento.getDuration().toMillis(), origem,
+                quadros.stream().limit(QUADROS_NO_LOG).map(MonitorFixacaoThreadsVirtuais::descrever)
+                    .collect(Collectors.joining("\n")));
+        }
+    }
+
+    // Primeira classe fora do JDK na pilha: é ela que mantém o monitor ou faz a chamada bloqueante
+    private static String origem(List<RecordedFrame> quadros) {
+        for (RecordedFrame quadro : quadros) {
+            if (quadro.isJavaFrame()) {
+                String classe = quadro.getMethod().getType().getName();
+                if (!classe.startsWith("java.") && !classe.startsWith("jdk.") && !classe.startsWith("sun.")) {
+                    return classe;
+                }
+            }
+        }
+        return "desconhecida";
+    }
+
+    private static String descrever(RecordedFrame quadro) {
+        return "    em " + quadro.getMethod().getType().getName() + "." + quadro.getMethod().getName()
+            + " (linha " + quadro.getLineNumber() + ")";
+    }
+}
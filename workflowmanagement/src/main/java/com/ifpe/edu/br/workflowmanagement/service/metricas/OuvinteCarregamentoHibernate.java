@@ -0,0 +1,66 @@
+package com.ifpe.edu.br.workflowmanagement.service.metricas;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.HibernateException;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.event.service.spi.EventListenerRegistry;
+import org.hibernate.event.spi.EventType;
+import org.hibernate.event.spi.InitializeCollectionEvent;
+import org.hibernate.event.spi.InitializeCollectionEventListener;
+import org.hibernate.event.spi.LoadEvent;
+import org.hibernate.event.spi.LoadEventListener;
+import org.hibernate.event.spi.PostLoadEvent;
+import org.hibernate.event.spi.PostLoadEventListener;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+/**
+ * Ouvinte dos eventos de carregamento do Hibernate: entidades carregadas e inicializações preguiçosas
+ * (coleções e proxies), somadas à medição da chamada de serviço em andamento na thread.
+ */
+@Component
+public class OuvinteCarregamentoHibernate
+        implements PostLoadEventListener, InitializeCollectionEventListener, LoadEventListener {
+
+    private final EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    public OuvinteCarregamentoHibernate(EntityManagerFactory entityManagerFactory) {
+        this.entityManagerFactory = entityManagerFactory;
+    }
+
+    @PostConstruct
+    public void registrar() {
+        EventListenerRegistry registro = entityManagerFactory.unwrap(SessionFactoryImplementor.class)
+            .getServiceRegistry().getService(EventListenerRegistry.class);
+        registro.appendListeners(EventType.POST_LOAD, this);
+        registro.appendListeners(EventType.INIT_COLLECTION, this);
+        registro.appendListeners(EventType.LOAD, this);
+    }
+
+    @Override
+    public void onPostLoad(PostLoadEvent event) {
+        MedicaoPersistencia medicao = MedicaoPersistencia.atual();
+        if (medicao != null) {
+            medicao.registrarEntidadeCarregada();
+        }
+    }
+
+    @Override
+    public void onInitializeCollection(InitializeCollectionEvent event) throws HibernateException {
+        MedicaoPersistencia medicao = MedicaoPersistencia.atual();
+        if (medicao != null) {
+            medicao.registrarInicializacaoLazy(event.getCollection().getRole());
+        }
+    }
+
+    @Override
+    public void onLoad(LoadEvent event, LoadType loadType) throws HibernateException {
+        // IMMEDIATE_LOAD é a inicialização de um proxy (associação LAZY acessada)
+        MedicaoPersistencia medicao = MedicaoPersistencia.atual();
+        if (medicao != null && loadType == LoadEventListener.IMMEDIATE_LOAD) {
+            medicao.registrarInicializacaoLazy(event.getEntityClassName());
+        }
+    }
+}
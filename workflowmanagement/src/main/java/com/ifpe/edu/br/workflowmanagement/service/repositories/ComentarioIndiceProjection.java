@@ -0,0 +1,15 @@
+package com.ifpe.edu.br.workflowmanagement.service.repositories;
+
+/**
+ * Projeção com os campos de um comentário indexados na busca textual.
+ */
+public interface ComentarioIndiceProjection {
+
+    Long getId();
+
+    Long getTarefaId();
+
+    Long getProjetoId();
+
+    String getTexto();
+}
@@ -1,11 +1,76 @@
 package com.ifpe.edu.br.workflowmanagement.service.repositories;
 
 import com.ifpe.edu.br.workflowmanagement.service.entities.Comentario;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
 @Repository
 public interface ComentarioRepository extends JpaRepository<Comentario, Long> {
 
-    List<Comentario> findByTarefaIdOrderByDataCriacaoAsc(Long tarefaId);
+    // Página dos comentários de uma tarefa após o cursor (dataCriacao, id), dos mais antigos para os mais recentes
+    @Query("SELECT c.id AS id, c.texto AS texto, c.dataCriacao AS dataCriacao, a.id AS autorId, a.nome AS autorNome "
+         + "FROM Comentario c JOIN c.autor a WHERE c.tarefa.id = :tarefaId "
+         + "AND (c.dataCriacao > :dataCriacao OR (c.dataCriacao = :dataCriacao AND c.id > :id)) "
+         + "ORDER BY c.dataCriacao ASC, c.id ASC")
+    List<ComentarioThreadProjection> buscarPaginaPorTarefaCrescente(Long tarefaId, LocalDateTime dataCriacao, Long id,
+                                                                    Pageable limite);
+
+    // Página dos comentários de uma tarefa antes do cursor (dataCriacao, id), dos mais recentes para os mais antigos
+    @Query("SELECT c.id AS id, c.texto AS texto, c.dataCriacao AS dataCriacao, a.id AS autorId, a.nome AS autorNome "
+         + "FROM Comentario c JOIN c.autor a WHERE c.tarefa.id = :tarefaId "
+         + "AND (c.dataCriacao < :dataCriacao OR (c.dataCriacao = :dataCriacao AND c.id < :id)) "
+         + "ORDER BY c.dataCriacao DESC, c.id DESC")
+    List<ComentarioThreadProjection> buscarPaginaPorTarefaDecrescente(Long tarefaId, LocalDateTime dataCriacao, Long id,
+                                                                      Pageable limite);
+
+    /**
+     * Verifica, em uma única consulta, se o usuário é o autor do comentário
+     * ou o gerente do projeto ao qual a tarefa comentada pertence.
+     */
+    @Query("SELECT CASE WHEN COUNT(c) > 0 THEN true ELSE false END FROM Comentario c "
+         + "WHERE c.id = :comentarioId AND (c.autor.id = :usuarioId OR c.tarefa.projeto.gerente.id = :usuarioId)")
+    boolean isAutorOuGerenteDoProjeto(Long comentarioId, Long usuarioId);
+
+    // Busca apenas o ID do projeto ao qual o comentário pertence
+    @Query("SELECT c.tarefa.projeto.id FROM Comentario c WHERE c.id = :comentarioId")
+    Optional<Long> findProjetoIdById(Long comentarioId);
+
+    /**
+     * Busca os campos indexados na busca textual de vários comentários.
+     */
+    @Query("SELECT c.id AS id, t.id AS tarefaId, t.projeto.id AS projetoId, c.texto AS texto "
+         + "FROM Comentario c JOIN c.tarefa t WHERE c.id IN :ids")
+    List<ComentarioIndiceProjection> buscarParaIndice(Collection<Long> ids);
+
+    /**
+     * Busca os campos indexados dos comentários em uma faixa de IDs (reindexação completa em partes).
+     */
+    @Query("SELECT c.id AS id, t.id AS tarefaId, t.projeto.id AS projetoId, c.texto AS texto "
+         + "FROM Comentario c JOIN c.tarefa t WHERE c.id BETWEEN :idInicial AND :idFinal")
+    List<ComentarioIndiceProjection> buscarParaIndicePorFaixa(Long idInicial, Long idFinal);
+
+    @Query("SELECT COALESCE(MAX(c.id), 0) FROM Comentario c")
+    long buscarMaiorId();
+
+    /**
+     * Exclui todos os comentários das tarefas de um projeto com um único DELETE.
+     */
+    @Modifying
+    @Query("DELETE FROM Comentario c WHERE c.tarefa.id IN (SELECT t.id FROM Tarefa t WHERE t.projeto.id = :projetoId)")
+    int deleteByProjetoId(Long projetoId);
+
+    /**
+     * Exclui o comentário diretamente, sem carregá-lo antes.
+     */
+    @Modifying
+    @Query("DELETE FROM Comentario c WHERE c.id = :comentarioId")
+    int excluirPorId(Long comentarioId);
 }
\ No newline at end of file
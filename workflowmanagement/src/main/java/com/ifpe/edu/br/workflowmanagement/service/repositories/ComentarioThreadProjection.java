@@ -0,0 +1,19 @@
+package com.ifpe.edu.br.workflowmanagement.service.repositories;
+
+import java.time.LocalDateTime;
+
+/**
+ * Projeção de um comentário do histórico de uma tarefa, já com o ID e o nome do autor.
+ */
+public interface ComentarioThreadProjection {
+
+    Long getId();
+
+    String getTexto();
+
+    LocalDateTime getDataCriacao();
+
+    Long getAutorId();
+
+    String getAutorNome();
+}
@@ -0,0 +1,61 @@
+package com.ifpe.edu.br.workflowmanagement.service.repositories;
+
+import com.ifpe.edu.br.workflowmanagement.service.entities.ContadorTarefasEtapa;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface ContadorTarefasEtapaRepository extends JpaRepository<ContadorTarefasEtapa, Long> {
+
+    /**
+     * Aplica um delta ao contador de uma etapa do projeto.
+     * @return a quantidade de linhas atualizadas (0 se o contador ainda não existir).
+     */
+    @Modifying
+    @Query("UPDATE ContadorTarefasEtapa c SET c.quantidade = c.quantidade + :delta "
+         + "WHERE c.projeto.id = :projetoId AND c.etapa.id = :etapaId")
+    int incrementar(Long projetoId, Long etapaId, long delta);
+
+    /**
+     * Reconciliação: grava em cada contador divergente a contagem real das tarefas, calculada no próprio UPDATE.
+     */
+    @Modifying
+    @Query("UPDATE ContadorTarefasEtapa c "
+         + "SET c.quantidade = (SELECT COUNT(t) FROM Tarefa t WHERE t.projeto = c.projeto AND t.etapaAtual = c.etapa) "
+         + "WHERE c.quantidade <> (SELECT COUNT(t) FROM Tarefa t WHERE t.projeto = c.projeto AND t.etapaAtual = c.etapa)")
+    int corrigirDivergentes();
+
+    /**
+     * Reconciliação: cria os contadores das etapas que têm tarefas mas ainda não têm contador.
+     * Se uma tarefa criar o mesmo contador durante a reconciliação, uk_contador_projeto_etapa é violada e a
+     * reconciliação inteira é desfeita; a próxima execução agendada a refaz.
+     */
+    @Modifying
+    @Query(value = "INSERT INTO contadores_tarefas_etapa (projeto_id, etapa_id, quantidade) "
+                 + "SELECT t.projeto_id, t.etapa_atual_id, COUNT(*) FROM tarefas t "
+                 + "WHERE t.etapa_atual_id IS NOT NULL AND NOT EXISTS (SELECT 1 FROM contadores_tarefas_etapa c "
+                 + "WHERE c.projeto_id = t.projeto_id AND c.etapa_id = t.etapa_atual_id) "
+                 + "GROUP BY t.projeto_id, t.etapa_atual_id", nativeQuery = true)
+    int criarFaltantes();
+
+    /**
+     * Monta as colunas do quadro de um projeto: uma linha por etapa do fluxo de trabalho,
+     * com zero quando a etapa ainda não possui contador.
+     */
+    @Query("SELECT p.id AS projetoId, e.id AS etapaId, e.nome AS etapaNome, COALESCE(c.quantidade, 0) AS quantidade "
+         + "FROM Projeto p JOIN p.fluxoTrabalho f JOIN f.etapas e "
+         + "LEFT JOIN ContadorTarefasEtapa c ON c.etapa = e AND c.projeto = p "
+         + "WHERE p.id = :projetoId ORDER BY e.ordem")
+    List<ContagemTarefasProjection> listarColunasDoQuadro(Long projetoId);
+
+    /**
+     * Remove todos os contadores de um projeto (usado na exclusão do projeto).
+     */
+    @Modifying
+    @Query("DELETE FROM ContadorTarefasEtapa c WHERE c.projeto.id = :projetoId")
+    int deleteByProjetoId(Long projetoId);
+}
@@ -0,0 +1,15 @@
+package com.ifpe.edu.br.workflowmanagement.service.repositories;
+
+/**
+ * Projeção da quantidade de tarefas de um projeto em uma etapa.
+ */
+public interface ContagemTarefasProjection {
+
+    Long getProjetoId();
+
+    Long getEtapaId();
+
+    String getEtapaNome();
+
+    Long getQuantidade();
+}
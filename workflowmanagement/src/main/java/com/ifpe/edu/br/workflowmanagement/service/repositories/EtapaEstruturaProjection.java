@@ -0,0 +1,11 @@
+package com.ifpe.edu.br.workflowmanagement.service.repositories;
+
+/**
+ * Dados de uma etapa usados para montar a estrutura do fluxo em cache.
+ */
+public interface EtapaEstruturaProjection {
+
+    Long getId();
+
+    String getNome();
+}
@@ -1,13 +1,36 @@
 package com.ifpe.edu.br.workflowmanagement.service.repositories;
 
+import com.ifpe.edu.br.workflowmanagement.config.CacheSegundoNivelConfig;
 import com.ifpe.edu.br.workflowmanagement.service.entities.Etapa;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
+import java.util.List;
 import java.util.Optional;
 
 @Repository
 public interface EtapaRepository extends JpaRepository<Etapa, Long> {
 
-// Encontra a primeira etapa de um fluxo de trabalho (ordenando pela 'ordem')
-    Optional<Etapa> findFirstByFluxoTrabalhoIdOrderByOrdemAsc(Long fluxoTrabalhoId);
+// Busca apenas o nome da etapa (usado nas notificações); resultado no cache de consultas
+    @QueryHints({
+        @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+        @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = CacheSegundoNivelConfig.REGIAO_CONSULTAS_REFERENCIA)
+    })
+    @Query("SELECT e.nome FROM Etapa e WHERE e.id = :etapaId")
+    Optional<String> findNomeById(Long etapaId);
+
+    // Etapas de um fluxo em ordem, para a estrutura do fluxo em cache (EstruturaFluxoService)
+    @Query("SELECT e.id AS id, e.nome AS nome FROM Etapa e WHERE e.fluxoTrabalho.id = :fluxoId ORDER BY e.ordem ASC, e.id ASC")
+    List<EtapaEstruturaProjection> listarEstruturaDoFluxo(Long fluxoId);
+
+    // Fluxo ao qual a etapa pertence; resultado no cache de consultas
+    @QueryHints({
+        @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+        @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = CacheSegundoNivelConfig.REGIAO_CONSULTAS_REFERENCIA)
+    })
+    @Query("SELECT e.fluxoTrabalho.id FROM Etapa e WHERE e.id = :etapaId")
+    Optional<Long> findFluxoTrabalhoIdById(Long etapaId);
 }
\ No newline at end of file
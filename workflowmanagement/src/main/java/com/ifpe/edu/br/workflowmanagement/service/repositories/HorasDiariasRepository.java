@@ -0,0 +1,50 @@
+package com.ifpe.edu.br.workflowmanagement.service.repositories;
+
+import com.ifpe.edu.br.workflowmanagement.service.entities.HorasDiarias;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@Repository
+public interface HorasDiariasRepository extends JpaRepository<HorasDiarias, Long> {
+
+    /**
+     * Aplica um delta (em minutos) às horas consolidadas de um usuário em uma tarefa em um dia.
+     * @return a quantidade de linhas atualizadas (0 se ainda não houver consolidado para o dia).
+     */
+    @Modifying
+    @Query("UPDATE HorasDiarias h SET h.minutos = h.minutos + :delta "
+         + "WHERE h.usuario.id = :usuarioId AND h.tarefa.id = :tarefaId AND h.dia = :dia")
+    int incrementar(Long usuarioId, Long tarefaId, LocalDate dia, long delta);
+
+    /**
+     * Total de minutos de uma tarefa.
+     */
+    @Query("SELECT COALESCE(SUM(h.minutos), 0) FROM HorasDiarias h WHERE h.tarefa.id = :tarefaId")
+    long somarMinutosPorTarefa(Long tarefaId);
+
+    /**
+     * Total de minutos de um projeto, sem passar pela tabela de tarefas.
+     */
+    @Query("SELECT COALESCE(SUM(h.minutos), 0) FROM HorasDiarias h WHERE h.projeto.id = :projetoId")
+    long somarMinutosPorProjeto(Long projetoId);
+
+    /**
+     * Minutos por dia de um projeto dentro de um período.
+     */
+    @Query("SELECT h.dia AS dia, SUM(h.minutos) AS minutos FROM HorasDiarias h "
+         + "WHERE h.projeto.id = :projetoId AND h.dia BETWEEN :inicio AND :fim "
+         + "GROUP BY h.dia ORDER BY h.dia")
+    List<MinutosPorDiaProjection> somarMinutosPorDia(Long projetoId, LocalDate inicio, LocalDate fim);
+
+    /**
+     * Remove os consolidados de um projeto (usado na exclusão do projeto).
+     */
+    @Modifying
+    @Query("DELETE FROM HorasDiarias h WHERE h.projeto.id = :projetoId")
+    int deleteByProjetoId(Long projetoId);
+}
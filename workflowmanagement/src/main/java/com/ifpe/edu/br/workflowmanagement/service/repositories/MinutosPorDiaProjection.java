@@ -0,0 +1,13 @@
+package com.ifpe.edu.br.workflowmanagement.service.repositories;
+
+import java.time.LocalDate;
+
+/**
+ * Projeção do total de minutos registrados em um dia.
+ */
+public interface MinutosPorDiaProjection {
+
+    LocalDate getDia();
+
+    Long getMinutos();
+}
@@ -0,0 +1,48 @@
+package com.ifpe.edu.br.workflowmanagement.service.repositories;
+
+import com.ifpe.edu.br.workflowmanagement.service.entities.Notificacao;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface NotificacaoRepository extends JpaRepository<Notificacao, Long> {
+
+    /**
+     * Quantidade de notificações não lidas de um usuário (resolvida apenas pelo índice usuario/lida/data).
+     */
+    @Query("SELECT COUNT(n) FROM Notificacao n WHERE n.usuarioResponsavel.id = :usuarioId AND n.lida = false")
+    long contarNaoLidas(Long usuarioId);
+
+    // Página das notificações de um usuário antes do cursor (dataCriacao, id), das mais recentes para as mais antigas
+    @Query("SELECT n FROM Notificacao n WHERE n.usuarioResponsavel.id = :usuarioId "
+         + "AND (n.dataCriacao < :dataCriacao OR (n.dataCriacao = :dataCriacao AND n.id < :id)) "
+         + "ORDER BY n.dataCriacao DESC, n.id DESC")
+    List<Notificacao> buscarPaginaPorUsuario(Long usuarioId, LocalDateTime dataCriacao, Long id, Pageable limite);
+
+    /**
+     * Marca uma notificação do usuário como lida.
+     * @return 1 se a notificação estava não lida; 0 se já estava lida ou não pertence ao usuário.
+     */
+    @Modifying
+    @Query("UPDATE Notificacao n SET n.lida = true "
+         + "WHERE n.id = :notificacaoId AND n.usuarioResponsavel.id = :usuarioId AND n.lida = false")
+    int marcarComoLida(Long notificacaoId, Long usuarioId);
+
+    /**
+     * Marca todas as notificações não lidas do usuário como lidas com um único UPDATE.
+     * @return a quantidade de notificações marcadas.
+     */
+    @Modifying
+    @Query("UPDATE Notificacao n SET n.lida = true WHERE n.usuarioResponsavel.id = :usuarioId AND n.lida = false")
+    int marcarTodasComoLidas(Long usuarioId);
+
+    @Query("SELECT CASE WHEN COUNT(n) > 0 THEN true ELSE false END FROM Notificacao n "
+         + "WHERE n.id = :notificacaoId AND n.usuarioResponsavel.id = :usuarioId")
+    boolean existeParaUsuario(Long notificacaoId, Long usuarioId);
+}
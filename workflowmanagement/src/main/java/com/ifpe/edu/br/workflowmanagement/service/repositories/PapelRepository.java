@@ -1,7 +1,16 @@
 package com.ifpe.edu.br.workflowmanagement.service.repositories;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
+import com.ifpe.edu.br.workflowmanagement.config.CacheSegundoNivelConfig;
 import com.ifpe.edu.br.workflowmanagement.service.entities.Papel;
+import com.ifpe.edu.br.workflowmanagement.service.entities.Permissao;
+import jakarta.persistence.QueryHint;
+
+import java.util.List;
+import java.util.Optional;
 
 
 @Repository
@@ -9,5 +18,18 @@ public interface PapelRepository extends JpaRepository<Papel, Long> {
     
     // O JpaRepository já fornece métodos como findById(), findAll(), save(), etc.
     // Se precisar de buscas customizadas para Papel, você pode adicioná-las aqui.
-    // Ex: Optional<Papel> findByNome(String nome);
-}
\ No newline at end of file
+
+    // Papel atribuído no cadastro público (usuarios.cadastro.papel-padrao)
+    Optional<Papel> findByNome(String nome);
+
+    /**
+     * Busca apenas as permissões de um papel, sem carregar a entidade Papel.
+     * Usada para compilar a máscara de permissões do papel. O resultado fica no cache de consultas.
+     */
+    @QueryHints({
+        @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+        @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = CacheSegundoNivelConfig.REGIAO_CONSULTAS_REFERENCIA)
+    })
+    @Query("SELECT perm FROM Papel p JOIN p.permissoes perm WHERE p.id = :papelId")
+    List<Permissao> findPermissoesByPapelId(Long papelId);
+}
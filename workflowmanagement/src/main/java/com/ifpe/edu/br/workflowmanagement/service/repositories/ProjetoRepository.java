@@ -1,14 +1,27 @@
 package com.ifpe.edu.br.workflowmanagement.service.repositories;
 
 import com.ifpe.edu.br.workflowmanagement.service.entities.Projeto;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Optional;
 
 @Repository
 public interface ProjetoRepository extends JpaRepository<Projeto, Long> {
 
+    /**
+     * Exclui o projeto diretamente, sem carregar as tarefas pela cascata.
+     * As tarefas e seus dependentes devem ser excluídos antes.
+     */
+    @Modifying
+    @Query("DELETE FROM Projeto p WHERE p.id = :projetoId")
+    int excluirPorId(Long projetoId);
+
     /**
      * Encontra todos os projetos gerenciados por um usuário específico.
      * Útil para dashboards onde o gerente vê apenas seus projetos.
@@ -17,4 +30,33 @@ public interface ProjetoRepository extends JpaRepository<Projeto, Long> {
      */
     List<Projeto> findByGerenteId(Long idGerente);
 
-}
\ No newline at end of file
+    /**
+     * Busca apenas o ID do gerente do projeto, sem carregar o projeto.
+     */
+    @Query("SELECT p.gerente.id FROM Projeto p WHERE p.id = :projetoId")
+    Optional<Long> findGerenteIdById(Long projetoId);
+
+    /**
+     * Agrega, em uma única consulta, os dados do relatório de um projeto:
+     * nome do projeto, gerente e a quantidade de tarefas em cada etapa.
+     * Nenhuma entidade Tarefa é instanciada; uma lista vazia indica que o projeto não existe.
+     * @param projetoId o ID do projeto.
+     * @return uma linha por etapa ocupada, ordenadas pela ordem da etapa no fluxo.
+     */
+    @Query("SELECT p.nome AS projetoNome, g.id AS gerenteId, g.nome AS gerenteNome, "
+         + "e.id AS etapaId, e.nome AS etapaNome, COUNT(t.id) AS quantidade "
+         + "FROM Projeto p JOIN p.gerente g LEFT JOIN p.tarefas t LEFT JOIN t.etapaAtual e "
+         + "WHERE p.id = :projetoId "
+         + "GROUP BY p.nome, g.id, g.nome, e.id, e.nome, e.ordem "
+         + "ORDER BY e.ordem")
+    List<RelatorioEtapaProjection> agregarRelatorio(Long projetoId);
+
+    /**
+     * Página de projetos após o cursor (dataCriacao, id), em ordem de criação.
+     */
+    @Query("SELECT p FROM Projeto p "
+         + "WHERE p.dataCriacao > :dataCriacao OR (p.dataCriacao = :dataCriacao AND p.id > :id) "
+         + "ORDER BY p.dataCriacao ASC, p.id ASC")
+    List<Projeto> buscarPagina(LocalDateTime dataCriacao, Long id, Pageable limite);
+
+}
@@ -0,0 +1,19 @@
+package com.ifpe.edu.br.workflowmanagement.service.repositories;
+
+import java.time.LocalDate;
+
+/**
+ * Projeção com os dados de um registro de horas necessários para atualizar as horas diárias consolidadas.
+ */
+public interface RegistroHorasChaveProjection {
+
+    Long getUsuarioId();
+
+    Long getTarefaId();
+
+    Long getProjetoId();
+
+    LocalDate getDataRegistro();
+
+    Integer getMinutos();
+}
@@ -0,0 +1,24 @@
+package com.ifpe.edu.br.workflowmanagement.service.repositories;
+
+import java.time.LocalDate;
+
+/**
+ * Projeção de uma linha da exportação de horas de um projeto.
+ * Traz os nomes do usuário e da tarefa na mesma consulta e não é gerenciada pelo contexto de persistência.
+ */
+public interface RegistroHorasExportacaoProjection {
+
+    Long getId();
+
+    Long getUsuarioId();
+
+    String getUsuarioNome();
+
+    Long getTarefaId();
+
+    String getTarefaTitulo();
+
+    Integer getMinutos();
+
+    LocalDate getDataRegistro();
+}
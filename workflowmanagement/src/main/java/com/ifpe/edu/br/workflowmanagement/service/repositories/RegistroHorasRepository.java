@@ -1,12 +1,22 @@
 package com.ifpe.edu.br.workflowmanagement.service.repositories;
 
 import com.ifpe.edu.br.workflowmanagement.service.entities.RegistroHoras;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
 
 @Repository
 public interface RegistroHorasRepository extends JpaRepository<RegistroHoras, Long> {
@@ -18,6 +28,9 @@ public interface RegistroHorasRepository extends JpaRepository<RegistroHoras, Lo
      * @param dataFim A data final do período.
      * @return Uma lista de registros de horas.
      */
+    // Filtra pela coluna usuario_id (sem JOIN em usuarios), para usar o índice idx_registros_horas_usuario_data
+    @Query("SELECT r FROM RegistroHoras r WHERE r.usuario.id = :usuarioId "
+         + "AND r.dataRegistro BETWEEN :dataInicio AND :dataFim")
     List<RegistroHoras> findByUsuarioIdAndDataRegistroBetween(Long usuarioId, LocalDate dataInicio, LocalDate dataFim);
 
     /**
@@ -26,22 +39,68 @@ public interface RegistroHorasRepository extends JpaRepository<RegistroHoras, Lo
     List<RegistroHoras> findByTarefaId(Long tarefaId);
 
     /**
-     * Utiliza uma consulta JPQL para buscar todos os registros de horas de um projeto inteiro,
+     * Busca uma página dos registros de horas de um projeto, após o cursor (dataCriacao, id),
      * navegando através do relacionamento Tarefa -> Projeto.
      */
-    @Query("SELECT r FROM RegistroHoras r WHERE r.tarefa.projeto.id = :projetoId")
-    List<RegistroHoras> findByProjetoId(Long projetoId);
+    @Query("SELECT r FROM RegistroHoras r WHERE r.tarefa.projeto.id = :projetoId "
+         + "AND (r.dataCriacao > :dataCriacao OR (r.dataCriacao = :dataCriacao AND r.id > :id)) "
+         + "ORDER BY r.dataCriacao ASC, r.id ASC")
+    List<RegistroHoras> buscarPaginaPorProjeto(Long projetoId, LocalDateTime dataCriacao, Long id, Pageable limite);
 
     /**
-     * Soma todas as horas registradas para uma tarefa específica.
-     * Retorna Float para poder ser nulo se não houver registros.
+     * Percorre os registros de horas de um projeto como um fluxo (cursor do banco), para exportação.
+     * As linhas são projeções somente leitura, buscadas em blocos de 500, então a memória
+     * não cresce com o tamanho do projeto. Deve ser consumido dentro de uma transação e fechado ao final.
      */
-    @Query("SELECT SUM(r.horas) FROM RegistroHoras r WHERE r.tarefa.id = :tarefaId")
-    Float sumHorasByTarefaId(Long tarefaId);
+    @QueryHints({
+        @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+        @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"),
+        @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "false")
+    })
+    @Query("SELECT r.id AS id, u.id AS usuarioId, u.nome AS usuarioNome, t.id AS tarefaId, t.titulo AS tarefaTitulo, "
+         + "r.minutos AS minutos, r.dataRegistro AS dataRegistro "
+         + "FROM RegistroHoras r JOIN r.usuario u JOIN r.tarefa t "
+         + "WHERE t.projeto.id = :projetoId ORDER BY r.dataRegistro ASC, r.id ASC")
+    Stream<RegistroHorasExportacaoProjection> streamPorProjeto(Long projetoId);
 
     /**
-     * Soma todas as horas registradas para um projeto inteiro.
+     * Busca o registro para edição, bloqueado até o fim da transação: duas edições (ou uma edição e uma
+     * exclusão) do mesmo registro não podem ler os mesmos minutos antigos e retirá-los duas vezes do consolidado.
      */
-    @Query("SELECT SUM(r.horas) FROM RegistroHoras r WHERE r.tarefa.projeto.id = :projetoId")
-    Float sumHorasByProjetoId(Long projetoId);
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT r FROM RegistroHoras r WHERE r.id = :registroId")
+    Optional<RegistroHoras> buscarParaEdicao(Long registroId);
+
+    /**
+     * Busca os dados do registro necessários para atualizar as horas diárias consolidadas, bloqueando o registro
+     * até o fim da transação (uma edição simultânea não pode alterar os minutos lidos antes da exclusão).
+     * Os totais por tarefa e por projeto são lidos do HorasDiariasRepository.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT r.usuario.id AS usuarioId, t.id AS tarefaId, t.projeto.id AS projetoId, "
+         + "r.dataRegistro AS dataRegistro, r.minutos AS minutos "
+         + "FROM RegistroHoras r JOIN r.tarefa t WHERE r.id = :registroId")
+    Optional<RegistroHorasChaveProjection> buscarChave(Long registroId);
+
+    /**
+     * Verifica, em uma única consulta, se o usuário é o autor do registro
+     * ou o gerente do projeto ao qual a tarefa do registro pertence.
+     */
+    @Query("SELECT CASE WHEN COUNT(r) > 0 THEN true ELSE false END FROM RegistroHoras r "
+         + "WHERE r.id = :registroId AND (r.usuario.id = :usuarioId OR r.tarefa.projeto.gerente.id = :usuarioId)")
+    boolean isAutorOuGerenteDoProjeto(Long registroId, Long usuarioId);
+
+    /**
+     * Exclui todos os registros de horas das tarefas de um projeto com um único DELETE.
+     */
+    @Modifying
+    @Query("DELETE FROM RegistroHoras r WHERE r.tarefa.id IN (SELECT t.id FROM Tarefa t WHERE t.projeto.id = :projetoId)")
+    int deleteByProjetoId(Long projetoId);
+
+    /**
+     * Exclui o registro diretamente, sem carregá-lo antes.
+     */
+    @Modifying
+    @Query("DELETE FROM RegistroHoras r WHERE r.id = :registroId")
+    int excluirPorId(Long registroId);
 }
\ No newline at end of file
@@ -0,0 +1,21 @@
+package com.ifpe.edu.br.workflowmanagement.service.repositories;
+
+/**
+ * Projeção de uma linha do relatório agregado de um projeto.
+ * Cada linha traz o cabeçalho do projeto (nome e gerente) e a contagem de tarefas de uma etapa.
+ * Projetos sem tarefas retornam uma única linha com a etapa nula e quantidade zero.
+ */
+public interface RelatorioEtapaProjection {
+
+    String getProjetoNome();
+
+    Long getGerenteId();
+
+    String getGerenteNome();
+
+    Long getEtapaId();
+
+    String getEtapaNome();
+
+    Long getQuantidade();
+}
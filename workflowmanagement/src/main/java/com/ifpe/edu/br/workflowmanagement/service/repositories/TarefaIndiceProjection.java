@@ -0,0 +1,15 @@
+package com.ifpe.edu.br.workflowmanagement.service.repositories;
+
+/**
+ * Projeção com os campos de uma tarefa indexados na busca textual.
+ */
+public interface TarefaIndiceProjection {
+
+    Long getId();
+
+    Long getProjetoId();
+
+    String getTitulo();
+
+    String getDescricao();
+}
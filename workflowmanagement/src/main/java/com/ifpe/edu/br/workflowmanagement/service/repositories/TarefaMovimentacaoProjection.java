@@ -0,0 +1,22 @@
+package com.ifpe.edu.br.workflowmanagement.service.repositories;
+
+/**
+ * Projeção com os IDs necessários para validar a movimentação de uma tarefa,
+ * sem carregar a tarefa, o projeto ou os usuários envolvidos.
+ */
+public interface TarefaMovimentacaoProjection {
+
+    Long getId();
+
+    Long getProjetoId();
+
+    Long getFluxoTrabalhoId();
+
+    Long getGerenteId();
+
+    Long getResponsavelId();
+
+    Long getEtapaAtualId();
+
+    long getVersao();
+}
@@ -0,0 +1,15 @@
+package com.ifpe.edu.br.workflowmanagement.service.repositories;
+
+/**
+ * Projeção com o título e os possíveis destinatários das notificações de uma tarefa.
+ */
+public interface TarefaNotificacaoProjection {
+
+    Long getId();
+
+    String getTitulo();
+
+    Long getGerenteId();
+
+    Long getResponsavelId();
+}
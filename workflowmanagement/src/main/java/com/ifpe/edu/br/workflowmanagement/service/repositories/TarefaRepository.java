@@ -1,32 +1,96 @@
 package com.ifpe.edu.br.workflowmanagement.service.repositories;
 
+import com.ifpe.edu.br.workflowmanagement.service.entities.Etapa;
 import com.ifpe.edu.br.workflowmanagement.service.entities.Tarefa;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 
 @Repository
 public interface TarefaRepository extends JpaRepository<Tarefa, Long> {
 
-    // Encontra todas as tarefas de um projeto específico
-    List<Tarefa> findByProjetoId(Long projetoId);
-
-    // Encontra todas as tarefas atribuídas a um usuário específico
-    List<Tarefa> findByResponsavelId(Long responsavelId);
-
-private final ComentarioService comentarioService;
-
-@Autowired
-public TarefaService(TarefaRepository tarefaRepository, UsuarioRepository usuarioRepository,
-                     ProjetoRepository projetoRepository, EtapaRepository etapaRepository,
-                     ComentarioRepository comentarioRepository, RegistroHorasRepository registroHorasRepository,
-                     ComentarioService comentarioService) { // Adicionar aqui
-    this.tarefaRepository = tarefaRepository;
-    this.usuarioRepository = usuarioRepository;
-    this.projetoRepository = projetoRepository;
-    this.etapaRepository = etapaRepository;
-    this.comentarioRepository = comentarioRepository; // Pode ser removido se não for mais usado diretamente
-    this.registroHorasRepository = registroHorasRepository;
-    this.comentarioService = comentarioService; // Adicionar aqui
-}
\ No newline at end of file
+    // Página das tarefas de um projeto após o cursor (dataCriacao, id)
+    @Query("SELECT t FROM Tarefa t WHERE t.projeto.id = :projetoId "
+         + "AND (t.dataCriacao > :dataCriacao OR (t.dataCriacao = :dataCriacao AND t.id > :id)) "
+         + "ORDER BY t.dataCriacao ASC, t.id ASC")
+    List<Tarefa> buscarPaginaPorProjeto(Long projetoId, LocalDateTime dataCriacao, Long id, Pageable limite);
+
+    // Página das tarefas atribuídas a um usuário após o cursor (dataCriacao, id)
+    @Query("SELECT t FROM Tarefa t WHERE t.responsavel.id = :responsavelId "
+         + "AND (t.dataCriacao > :dataCriacao OR (t.dataCriacao = :dataCriacao AND t.id > :id)) "
+         + "ORDER BY t.dataCriacao ASC, t.id ASC")
+    List<Tarefa> buscarPaginaPorResponsavel(Long responsavelId, LocalDateTime dataCriacao, Long id, Pageable limite);
+
+    /**
+     * Verifica se o usuário é o gerente do projeto ao qual a tarefa pertence.
+     */
+    @Query("SELECT CASE WHEN COUNT(t) > 0 THEN true ELSE false END FROM Tarefa t "
+         + "WHERE t.id = :tarefaId AND t.projeto.gerente.id = :usuarioId")
+    boolean isGerenteDoProjeto(Long tarefaId, Long usuarioId);
+
+    /**
+     * Busca, em uma única consulta, os IDs necessários para validar a movimentação de várias tarefas.
+     */
+    @Query("SELECT t.id AS id, p.id AS projetoId, p.fluxoTrabalho.id AS fluxoTrabalhoId, p.gerente.id AS gerenteId, "
+         + "t.responsavel.id AS responsavelId, t.etapaAtual.id AS etapaAtualId, t.versao AS versao "
+         + "FROM Tarefa t JOIN t.projeto p WHERE t.id IN :ids")
+    List<TarefaMovimentacaoProjection> buscarParaMovimentacao(Collection<Long> ids);
+
+    /**
+     * Busca título, gerente e responsável de várias tarefas para montar as notificações.
+     */
+    @Query("SELECT t.id AS id, t.titulo AS titulo, p.gerente.id AS gerenteId, t.responsavel.id AS responsavelId "
+         + "FROM Tarefa t JOIN t.projeto p WHERE t.id IN :ids")
+    List<TarefaNotificacaoProjection> buscarParaNotificacao(Collection<Long> ids);
+
+    /**
+     * Busca os campos indexados na busca textual de várias tarefas.
+     */
+    @Query("SELECT t.id AS id, t.projeto.id AS projetoId, t.titulo AS titulo, t.descricao AS descricao "
+         + "FROM Tarefa t WHERE t.id IN :ids")
+    List<TarefaIndiceProjection> buscarParaIndice(Collection<Long> ids);
+
+    /**
+     * Busca os campos indexados das tarefas em uma faixa de IDs (reindexação completa em partes).
+     */
+    @Query("SELECT t.id AS id, t.projeto.id AS projetoId, t.titulo AS titulo, t.descricao AS descricao "
+         + "FROM Tarefa t WHERE t.id BETWEEN :idInicial AND :idFinal")
+    List<TarefaIndiceProjection> buscarParaIndicePorFaixa(Long idInicial, Long idFinal);
+
+    /**
+     * Exclui todas as tarefas de um projeto com um único DELETE (comentários e registros de horas devem ser excluídos antes).
+     */
+    @Modifying
+    @Query("DELETE FROM Tarefa t WHERE t.projeto.id = :projetoId")
+    int deleteByProjetoId(Long projetoId);
+
+    @Query("SELECT COALESCE(MAX(t.id), 0) FROM Tarefa t")
+    long buscarMaiorId();
+
+    /**
+     * Move para uma etapa, com um único UPDATE, as tarefas que ainda estão na etapa de origem informada
+     * (nula para tarefas sem etapa); as movidas por outra transação desde a leitura não são alteradas.
+     * A versão é incrementada para que uma movimentação individual concorrente detecte o conflito.
+     * @return a quantidade de tarefas movidas.
+     */
+    @Modifying
+    @Query("UPDATE Tarefa t SET t.etapaAtual = :etapa, t.versao = t.versao + 1 WHERE t.id IN :ids "
+        + "AND (t.etapaAtual.id = :etapaOrigemId OR (:etapaOrigemId IS NULL AND t.etapaAtual IS NULL))")
+    int moverEmLote(Collection<Long> ids, Long etapaOrigemId, Etapa etapa);
+
+    /**
+     * Como moverEmLote, para uma etapa final: registra também a data de conclusão.
+     * @return a quantidade de tarefas movidas.
+     */
+    @Modifying
+    @Query("UPDATE Tarefa t SET t.etapaAtual = :etapa, t.dataConclusao = :dataConclusao, t.versao = t.versao + 1 "
+        + "WHERE t.id IN :ids "
+        + "AND (t.etapaAtual.id = :etapaOrigemId OR (:etapaOrigemId IS NULL AND t.etapaAtual IS NULL))")
+    int moverEConcluirEmLote(Collection<Long> ids, Long etapaOrigemId, Etapa etapa, LocalDateTime dataConclusao);
+}
@@ -0,0 +1,39 @@
+package com.ifpe.edu.br.workflowmanagement.service.repositories;
+
+import com.ifpe.edu.br.workflowmanagement.service.entities.TransicaoPendente;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface TransicaoPendenteRepository extends JpaRepository<TransicaoPendente, Long> {
+
+    /**
+     * Próximo lote de transições pendentes, em ordem de gravação, bloqueado para a transação atual.
+     * Linhas já bloqueadas por outra instância da aplicação são puladas (SKIP LOCKED, quando o banco oferece).
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = "-2"))
+    @Query("SELECT p FROM TransicaoPendente p ORDER BY p.id ASC")
+    List<TransicaoPendente> buscarLoteParaGravacao(Pageable limite);
+
+    @Modifying
+    @Query("DELETE FROM TransicaoPendente p WHERE p.id IN :ids")
+    int excluirPorIds(Collection<Long> ids);
+
+    /**
+     * Exclui as transições pendentes das tarefas de um projeto (exclusão do projeto).
+     */
+    @Modifying
+    @Query("DELETE FROM TransicaoPendente p WHERE p.idTarefa IN (SELECT t.id FROM Tarefa t WHERE t.projeto.id = :projetoId)")
+    int deleteByProjetoId(Long projetoId);
+}
@@ -0,0 +1,38 @@
+package com.ifpe.edu.br.workflowmanagement.service.repositories;
+
+import com.ifpe.edu.br.workflowmanagement.service.entities.TransicaoTarefa;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface TransicaoTarefaRepository extends JpaRepository<TransicaoTarefa, Long> {
+
+    // Página das transições de uma tarefa após o cursor (instante, id)
+    @Query("SELECT t FROM TransicaoTarefa t WHERE t.idTarefa = :idTarefa "
+         + "AND (t.instante > :instante OR (t.instante = :instante AND t.id > :id)) "
+         + "ORDER BY t.instante ASC, t.id ASC")
+    List<TransicaoTarefa> buscarPaginaPorTarefa(Long idTarefa, LocalDateTime instante, Long id, Pageable limite);
+
+    /**
+     * Copia um lote de transições pendentes para o histórico com um único INSERT ... SELECT.
+     */
+    @Modifying
+    @Query("INSERT INTO TransicaoTarefa (id, idTarefa, idEtapaOrigem, idEtapaDestino, idUsuario, instante) "
+         + "SELECT p.id, p.idTarefa, p.idEtapaOrigem, p.idEtapaDestino, p.idUsuario, p.instante "
+         + "FROM TransicaoPendente p WHERE p.id IN :ids")
+    int copiarPendentes(Collection<Long> ids);
+
+    /**
+     * Exclui o histórico das tarefas de um projeto (exclusão do projeto).
+     */
+    @Modifying
+    @Query("DELETE FROM TransicaoTarefa h WHERE h.idTarefa IN (SELECT t.id FROM Tarefa t WHERE t.projeto.id = :projetoId)")
+    int deleteByProjetoId(Long projetoId);
+}
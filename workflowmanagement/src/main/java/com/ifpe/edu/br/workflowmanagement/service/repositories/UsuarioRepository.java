@@ -1,9 +1,13 @@
 package com.ifpe.edu.br.workflowmanagement.service.repositories;
 
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 import com.ifpe.edu.br.workflowmanagement.service.entities.Usuario;
 
+import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
 
 @Repository
@@ -11,6 +15,23 @@ public interface UsuarioRepository extends JpaRepository<Usuario, Long> {
 
     // Método para buscar um usuário pelo email (usado no login e no cadastro)
     Optional<Usuario> findByEmail(String email);
+
+    // Verifica se o e-mail já está cadastrado (usado no cadastro)
+    boolean existsByEmail(String email);
+
+    // Busca apenas o ID do papel do usuário, sem carregar a entidade (usado nas verificações de permissão)
+    @Query("SELECT u.papel.id FROM Usuario u WHERE u.id = :usuarioId")
+    Optional<Long> findPapelIdById(Long usuarioId);
+
+    // Busca apenas o nome do usuário (usado nas notificações)
+    @Query("SELECT u.nome FROM Usuario u WHERE u.id = :usuarioId")
+    Optional<String> findNomeById(Long usuarioId);
+
+    // Página de usuários após o cursor (dataCriacao, id), já trazendo o papel na mesma consulta
+    @Query("SELECT u FROM Usuario u JOIN FETCH u.papel "
+         + "WHERE u.dataCriacao > :dataCriacao OR (u.dataCriacao = :dataCriacao AND u.id > :id) "
+         + "ORDER BY u.dataCriacao ASC, u.id ASC")
+    List<Usuario> buscarPagina(LocalDateTime dataCriacao, Long id, Pageable limite);
     
     // O JpaRepository já fornece métodos como: save(), findById(), findAll(), deleteById(), etc.
 }
\ No newline at end of file
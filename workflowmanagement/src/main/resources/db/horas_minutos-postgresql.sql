@@ -0,0 +1,47 @@
+-- Registros de horas em minutos inteiros e horas consolidadas por (usuário, tarefa, dia) no PostgreSQL.
+-- Converte a coluna "horas" (float) dos registros existentes em "minutos", com o mesmo arredondamento de
+-- RegistroHoras.paraMinutos, e reconstrói horas_diarias a partir dos registros.
+--
+-- Execute uma vez, antes de iniciar a aplicação com a nova versão. A reconstrução de horas_diarias pode ser
+-- repetida depois (ex.: para corrigir divergências) executando apenas o último bloco; ela bloqueia as escritas
+-- em registros_horas enquanto roda, e a aplicação pode continuar no ar.
+
+BEGIN;
+
+ALTER TABLE registros_horas ADD COLUMN IF NOT EXISTS minutos INTEGER;
+UPDATE registros_horas SET minutos = CAST(FLOOR(horas * 60 + 0.5) AS INTEGER) WHERE minutos IS NULL;
+ALTER TABLE registros_horas ALTER COLUMN minutos SET NOT NULL;
+ALTER TABLE registros_horas DROP COLUMN horas;
+
+CREATE TABLE IF NOT EXISTS horas_diarias (
+    id         BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    usuario_id BIGINT NOT NULL REFERENCES usuarios (id),
+    tarefa_id  BIGINT NOT NULL REFERENCES tarefas (id),
+    projeto_id BIGINT NOT NULL REFERENCES projetos (id),
+    dia        DATE NOT NULL,
+    minutos    BIGINT NOT NULL,
+    CONSTRAINT uk_horas_diarias_usuario_tarefa_dia UNIQUE (usuario_id, tarefa_id, dia)
+);
+
+CREATE INDEX IF NOT EXISTS idx_horas_diarias_tarefa_dia ON horas_diarias (tarefa_id, dia);
+CREATE INDEX IF NOT EXISTS idx_horas_diarias_projeto_dia ON horas_diarias (projeto_id, dia);
+
+COMMIT;
+
+-- Reconstrução das horas consolidadas
+BEGIN;
+
+-- Registros novos, editados ou excluídos esperam o fim da reconstrução
+LOCK TABLE registros_horas IN SHARE MODE;
+LOCK TABLE horas_diarias IN EXCLUSIVE MODE;
+
+DELETE FROM horas_diarias;
+
+INSERT INTO horas_diarias (usuario_id, tarefa_id, projeto_id, dia, minutos)
+SELECT r.usuario_id, r.tarefa_id, t.projeto_id, r.data_registro, SUM(r.minutos)
+FROM registros_horas r
+JOIN tarefas t ON t.id = r.tarefa_id
+GROUP BY r.usuario_id, r.tarefa_id, t.projeto_id, r.data_registro
+HAVING SUM(r.minutos) <> 0;
+
+COMMIT;
@@ -0,0 +1,48 @@
+-- Histórico de transições de etapa das tarefas no PostgreSQL, particionado por mês de "instante".
+-- Consultas por período (ex.: transições do último mês) leem apenas as partições do intervalo, e meses
+-- antigos podem ser arquivados ou removidos com DETACH/DROP PARTITION, sem DELETE em massa.
+--
+-- Execute uma vez, antes de iniciar a aplicação com a nova versão. As partições dos meses seguintes são
+-- criadas pela própria aplicação (HistoricoTransicoesService.criarParticoes); a partição padrão recebe
+-- o que cair fora delas e não deve acumular linhas.
+
+CREATE SEQUENCE IF NOT EXISTS tarefa_transicoes_seq INCREMENT BY 50;
+
+-- Caixa de saída: uma linha por movimentação, removida assim que copiada para o histórico
+CREATE TABLE IF NOT EXISTS tarefa_transicoes_pendentes (
+    id               BIGINT PRIMARY KEY,
+    tarefa_id        BIGINT NOT NULL,
+    etapa_origem_id  BIGINT,
+    etapa_destino_id BIGINT NOT NULL,
+    usuario_id       BIGINT NOT NULL,
+    instante         TIMESTAMP(6) NOT NULL
+);
+
+-- A chave primária de uma tabela particionada precisa incluir a coluna de particionamento
+CREATE TABLE IF NOT EXISTS tarefa_transicoes (
+    id               BIGINT NOT NULL,
+    tarefa_id        BIGINT NOT NULL,
+    etapa_origem_id  BIGINT,
+    etapa_destino_id BIGINT NOT NULL,
+    usuario_id       BIGINT NOT NULL,
+    instante         TIMESTAMP(6) NOT NULL,
+    PRIMARY KEY (id, instante)
+) PARTITION BY RANGE (instante);
+
+-- Criado na tabela principal, o índice é replicado em cada partição
+CREATE INDEX IF NOT EXISTS idx_tarefa_transicoes_tarefa_instante_id ON tarefa_transicoes (tarefa_id, instante, id);
+
+CREATE TABLE IF NOT EXISTS tarefa_transicoes_padrao PARTITION OF tarefa_transicoes DEFAULT;
+
+-- Mês atual e o seguinte
+DO $$
+DECLARE
+    mes DATE := date_trunc('month', CURRENT_DATE);
+BEGIN
+    FOR i IN 0..1 LOOP
+        EXECUTE format('CREATE TABLE IF NOT EXISTS tarefa_transicoes_p%s PARTITION OF tarefa_transicoes '
+                       'FOR VALUES FROM (%L) TO (%L)',
+                       to_char(mes, 'YYYYMM'), mes, mes + INTERVAL '1 month');
+        mes := mes + INTERVAL '1 month';
+    END LOOP;
+END $$;
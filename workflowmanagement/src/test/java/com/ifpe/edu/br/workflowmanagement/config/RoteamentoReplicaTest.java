@@ -0,0 +1,103 @@
+package com.ifpe.edu.br.workflowmanagement.config;
+
+import com.ifpe.edu.br.workflowmanagement.service.UsuarioAutenticado;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Roteamento entre primário e réplica com dois bancos H2 embarcados: transações somente leitura vão para a
+ * réplica, exceto logo após uma escrita do mesmo usuário ou com a réplica atrasada.
+ */
+@SpringBootTest
+@ActiveProfiles("replica")
+class RoteamentoReplicaTest {
+
+    private static final String PRIMARIO = "primario";
+    private static final String REPLICA = "replica";
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    @Qualifier("dataSourcePrimario")
+    private DataSource dataSourcePrimario;
+
+    @Autowired
+    @Qualifier("dataSourceReplica")
+    private DataSource dataSourceReplica;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private RoteamentoReplica roteamentoReplica;
+
+    @AfterEach
+    void limparUsuario() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void leituraVaiParaAReplicaEEscritaParaOPrimario() {
+        assertEquals(REPLICA, bancoDaTransacao(true));
+        assertEquals(PRIMARIO, bancoDaTransacao(false));
+    }
+
+    @Test
+    void leituraAposEscritaDoMesmoUsuarioVaiParaOPrimario() {
+        autenticar(42L);
+        bancoDaTransacao(false);
+        assertEquals(PRIMARIO, bancoDaTransacao(true));
+
+        autenticar(43L);
+        assertEquals(REPLICA, bancoDaTransacao(true));
+    }
+
+    @Test
+    void replicaAtrasadaDesviaAsLeiturasParaOPrimario() {
+        JdbcTemplate replica = new JdbcTemplate(dataSourceReplica);
+        JdbcTemplate primario = new JdbcTemplate(dataSourcePrimario);
+        // Na réplica a tabela não é replicada: simula um batimento antigo
+        replica.execute("CREATE TABLE IF NOT EXISTS replica_batimentos (id BIGINT PRIMARY KEY, instante BIGINT NOT NULL)");
+        replica.update("MERGE INTO replica_batimentos (id, instante) KEY (id) VALUES (1, ?)",
+            System.currentTimeMillis() - 60000);
+
+        roteamentoReplica.verificarAtraso(); // Grava o primeiro batimento no primário
+        roteamentoReplica.verificarAtraso(); // A réplica não recebeu o batimento anterior
+        assertEquals(PRIMARIO, bancoDaTransacao(true));
+
+        // A réplica alcança o primário
+        Long batimento = primario.queryForObject("SELECT instante FROM replica_batimentos WHERE id = 1", Long.class);
+        replica.update("UPDATE replica_batimentos SET instante = ? WHERE id = 1", batimento);
+        roteamentoReplica.verificarAtraso();
+        assertEquals(REPLICA, bancoDaTransacao(true));
+    }
+
+    // --- MÉTODOS AUXILIARES ---
+
+    private String bancoDaTransacao(boolean somenteLeitura) {
+        TransactionTemplate transacao = new TransactionTemplate(transactionManager);
+        transacao.setReadOnly(somenteLeitura);
+        return transacao.execute(status ->
+            new JdbcTemplate(dataSource).queryForObject("SELECT DATABASE()", String.class).toLowerCase());
+    }
+
+    private static void autenticar(Long idUsuario) {
+        SecurityContextHolder.getContext().setAuthentication(
+            new UsernamePasswordAuthenticationToken(new UsuarioAutenticado(idUsuario, 1L), null, List.of()));
+    }
+}
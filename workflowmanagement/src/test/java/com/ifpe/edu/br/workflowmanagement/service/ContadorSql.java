@@ -0,0 +1,53 @@
+package com.ifpe.edu.br.workflowmanagement.service;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Conta os comandos SQL preparados pelo Hibernate na thread em medição e guarda os comandos distintos
+ * para a verificação dos planos de execução. Um lote JDBC é preparado uma única vez e conta como um comando.
+ * Registrado pelo perfil "orcamento" (hibernate.session_factory.statement_inspector); comandos de outras
+ * threads, como os workers de notificações e da busca, não são contados.
+ */
+public class ContadorSql implements StatementInspector {
+
+    private static final ThreadLocal<List<String>> COMANDOS = new ThreadLocal<>();
+    private static final Set<String> CAPTURADOS = ConcurrentHashMap.newKeySet();
+
+    @Override
+    public String inspect(String sql) {
+        List<String> comandos = COMANDOS.get();
+        if (comandos != null) {
+            comandos.add(sql);
+            CAPTURADOS.add(sql.trim());
+        }
+        return sql;
+    }
+
+    /**
+     * Inicia a contagem na thread atual.
+     */
+    static void iniciar() {
+        COMANDOS.set(new ArrayList<>());
+    }
+
+    /**
+     * Encerra a contagem na thread atual e devolve os comandos executados desde o início.
+     */
+    static List<String> encerrar() {
+        List<String> comandos = COMANDOS.get();
+        COMANDOS.remove();
+        return comandos != null ? comandos : List.of();
+    }
+
+    /**
+     * Todos os comandos distintos executados durante as medições.
+     */
+    static Set<String> capturados() {
+        return Set.copyOf(CAPTURADOS);
+    }
+}
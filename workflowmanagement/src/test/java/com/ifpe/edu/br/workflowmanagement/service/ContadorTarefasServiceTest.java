@@ -0,0 +1,171 @@
+package com.ifpe.edu.br.workflowmanagement.service;
+
+import com.ifpe.edu.br.workflowmanagement.service.DTO.ContagemEtapaDTO;
+import com.ifpe.edu.br.workflowmanagement.service.entities.Etapa;
+import com.ifpe.edu.br.workflowmanagement.service.entities.FluxoTrabalho;
+import com.ifpe.edu.br.workflowmanagement.service.entities.Papel;
+import com.ifpe.edu.br.workflowmanagement.service.entities.Permissao;
+import com.ifpe.edu.br.workflowmanagement.service.entities.Projeto;
+import com.ifpe.edu.br.workflowmanagement.service.entities.Tarefa;
+import com.ifpe.edu.br.workflowmanagement.service.entities.Usuario;
+import com.ifpe.edu.br.workflowmanagement.service.repositories.FluxoTrabalhoRepository;
+import com.ifpe.edu.br.workflowmanagement.service.repositories.PapelRepository;
+import com.ifpe.edu.br.workflowmanagement.service.repositories.ProjetoRepository;
+import com.ifpe.edu.br.workflowmanagement.service.repositories.TarefaRepository;
+import com.ifpe.edu.br.workflowmanagement.service.repositories.UsuarioRepository;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Contadores de tarefas por (projeto, etapa): criação simultânea do mesmo contador, movimentações
+ * e reconciliação a partir das tarefas reais.
+ */
+@SpringBootTest
+@ActiveProfiles("contadores")
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class ContadorTarefasServiceTest {
+
+    private static final int THREADS = 8;
+
+    @Autowired private ContadorTarefasService contadorTarefasService;
+    @Autowired private PapelRepository papelRepository;
+    @Autowired private UsuarioRepository usuarioRepository;
+    @Autowired private FluxoTrabalhoRepository fluxoTrabalhoRepository;
+    @Autowired private ProjetoRepository projetoRepository;
+    @Autowired private TarefaRepository tarefaRepository;
+    @Autowired private JdbcTemplate jdbcTemplate;
+    @Autowired private PlatformTransactionManager transactionManager;
+
+    private TransactionTemplate transacao;
+    private Usuario gerente;
+    private FluxoTrabalho fluxo;
+
+    @BeforeAll
+    void criarFluxo() {
+        transacao = new TransactionTemplate(transactionManager);
+        transacao.executeWithoutResult(status -> {
+            Papel papel = new Papel();
+            papel.setNome("GERENTE_PROJETO");
+            papel.setPermissoes(EnumSet.of(Permissao.CRIAR_PROJETO, Permissao.CRIAR_TAREFA));
+            papel = papelRepository.save(papel);
+            gerente = usuarioRepository.save(new Usuario("Gerente", "gerente@empresa.com", "senha", "Gerente", papel));
+
+            FluxoTrabalho novo = new FluxoTrabalho("Kanban");
+            String[] nomesEtapas = {"A Fazer", "Em Andamento", "Concluído"};
+            for (int i = 0; i < nomesEtapas.length; i++) {
+                novo.getEtapas().add(new Etapa(nomesEtapas[i], i + 1, novo));
+            }
+            fluxo = fluxoTrabalhoRepository.save(novo);
+        });
+    }
+
+    @Test
+    void primeiraEntradaSimultaneaNaEtapaCriaUmUnicoContador() throws Exception {
+        Long idProjeto = criarProjeto();
+        Long idEtapa = etapa(0).getId();
+
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch largada = new CountDownLatch(1);
+        try {
+            List<Future<?>> chamadas = new ArrayList<>();
+            for (int i = 0; i < THREADS; i++) {
+                chamadas.add(executor.submit(() -> {
+                    largada.await();
+                    transacao.executeWithoutResult(status ->
+                        contadorTarefasService.registrarEntrada(idProjeto, idEtapa, 1));
+                    return null;
+                }));
+            }
+            largada.countDown();
+            for (Future<?> chamada : chamadas) {
+                chamada.get(30, TimeUnit.SECONDS); // Propaga qualquer violação de uk_contador_projeto_etapa
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertEquals(THREADS, quantidade(idProjeto, idEtapa));
+        assertEquals(1, jdbcTemplate.queryForObject("SELECT COUNT(*) FROM contadores_tarefas_etapa "
+            + "WHERE projeto_id = ? AND etapa_id = ?", Integer.class, idProjeto, idEtapa));
+    }
+
+    @Test
+    void movimentoTransfereAContagemEntreEtapas() {
+        Long idProjeto = criarProjeto();
+        Long origem = etapa(0).getId();
+        Long destino = etapa(1).getId();
+
+        transacao.executeWithoutResult(status -> {
+            contadorTarefasService.registrarEntrada(idProjeto, origem, 5);
+            contadorTarefasService.registrarMovimento(idProjeto, origem, destino, 2);
+            contadorTarefasService.registrarMovimento(idProjeto, destino, destino, 2); // Mesma etapa: sem efeito
+        });
+
+        assertEquals(3, quantidade(idProjeto, origem));
+        assertEquals(2, quantidade(idProjeto, destino));
+    }
+
+    @Test
+    void reconciliacaoCorrigeContadoresDivergentesEFaltantes() {
+        Long idProjeto = criarProjeto();
+        Projeto projeto = projetoRepository.findById(idProjeto).orElseThrow();
+        transacao.executeWithoutResult(status -> {
+            List<Tarefa> tarefas = new ArrayList<>();
+            for (int i = 0; i < 6; i++) {
+                tarefas.add(new Tarefa("Tarefa " + i, null, projeto, gerente, etapa(i % 2)));
+            }
+            tarefaRepository.saveAll(tarefas);
+            contadorTarefasService.registrarEntrada(idProjeto, etapa(0).getId(), 3);
+            contadorTarefasService.registrarEntrada(idProjeto, etapa(1).getId(), 3);
+        });
+
+        // Um contador adulterado e outro perdido
+        jdbcTemplate.update("UPDATE contadores_tarefas_etapa SET quantidade = 42 WHERE projeto_id = ? AND etapa_id = ?",
+            idProjeto, etapa(0).getId());
+        jdbcTemplate.update("DELETE FROM contadores_tarefas_etapa WHERE projeto_id = ? AND etapa_id = ?",
+            idProjeto, etapa(1).getId());
+
+        contadorTarefasService.reconciliar();
+
+        assertEquals(3, quantidade(idProjeto, etapa(0).getId()));
+        assertEquals(3, quantidade(idProjeto, etapa(1).getId()));
+        assertEquals(0, quantidade(idProjeto, etapa(2).getId()));
+    }
+
+    // --- MÉTODOS AUXILIARES ---
+
+    private Long criarProjeto() {
+        return transacao.execute(status ->
+            projetoRepository.save(new Projeto("Projeto", "Contadores do quadro", gerente, fluxo)).getId());
+    }
+
+    private Etapa etapa(int indice) {
+        return fluxo.getEtapas().get(indice);
+    }
+
+    private long quantidade(Long idProjeto, Long idEtapa) {
+        return contadorTarefasService.montarQuadro(idProjeto).getColunas().stream()
+            .filter(coluna -> coluna.getIdEtapa().equals(idEtapa))
+            .mapToLong(ContagemEtapaDTO::getQuantidade)
+            .findFirst()
+            .orElseThrow();
+    }
+}
@@ -0,0 +1,523 @@
+package com.ifpe.edu.br.workflowmanagement.service;
+
+import com.ifpe.edu.br.workflowmanagement.service.DTO.CadastroUsuarioDTO;
+import com.ifpe.edu.br.workflowmanagement.service.DTO.NovaTarefaDTO;
+import com.ifpe.edu.br.workflowmanagement.service.DTO.ResultadoLoteDTO;
+import com.ifpe.edu.br.workflowmanagement.service.DTO.UsuarioResponseDTO;
+import com.ifpe.edu.br.workflowmanagement.service.entities.Comentario;
+import com.ifpe.edu.br.workflowmanagement.service.entities.Etapa;
+import com.ifpe.edu.br.workflowmanagement.service.entities.FluxoTrabalho;
+import com.ifpe.edu.br.workflowmanagement.service.entities.HorasDiarias;
+import com.ifpe.edu.br.workflowmanagement.service.entities.Papel;
+import com.ifpe.edu.br.workflowmanagement.service.entities.Permissao;
+import com.ifpe.edu.br.workflowmanagement.service.entities.Projeto;
+import com.ifpe.edu.br.workflowmanagement.service.entities.RegistroHoras;
+import com.ifpe.edu.br.workflowmanagement.service.entities.Tarefa;
+import com.ifpe.edu.br.workflowmanagement.service.entities.Usuario;
+import com.ifpe.edu.br.workflowmanagement.service.repositories.ComentarioRepository;
+import com.ifpe.edu.br.workflowmanagement.service.repositories.FluxoTrabalhoRepository;
+import com.ifpe.edu.br.workflowmanagement.service.repositories.HorasDiariasRepository;
+import com.ifpe.edu.br.workflowmanagement.service.repositories.PapelRepository;
+import com.ifpe.edu.br.workflowmanagement.service.repositories.ProjetoRepository;
+import com.ifpe.edu.br.workflowmanagement.service.repositories.RegistroHorasRepository;
+import com.ifpe.edu.br.workflowmanagement.service.repositories.TarefaRepository;
+import com.ifpe.edu.br.workflowmanagement.service.repositories.UsuarioRepository;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.MethodOrderer;
+import org.junit.jupiter.api.Order;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.junit.jupiter.api.TestMethodOrder;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.io.OutputStream;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.function.Supplier;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Orçamento de SQL dos serviços: cada método público de ProjetoService, TarefaService, ComentarioService,
+ * RegistroHorasService e UsuarioService é executado sobre uma massa de dados realista em banco embarcado,
+ * e o teste falha quando o método executa mais comandos SQL do que o seu orçamento (N+1 e cascatas
+ * que carregam coleções inteiras aparecem aqui antes de chegar à produção).
+ *
+ * Ao final, o plano de execução (EXPLAIN) de cada comando capturado é verificado, e o teste falha
+ * se houver varredura completa de uma das tabelas que crescem com o uso.
+ *
+ * Um método público novo sem orçamento também faz o teste falhar: inclua-o em ORCAMENTOS e meça-o abaixo.
+ */
+@SpringBootTest
+@ActiveProfiles("orcamento")
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+class OrcamentoSqlTest {
+
+    private static final Logger log = LoggerFactory.getLogger(OrcamentoSqlTest.class);
+
+    private static final int USUARIOS = 20;
+    private static final int PROJETOS = 5;
+    private static final int TAREFAS_POR_PROJETO = 400;
+    private static final int COMENTARIOS_POR_TAREFA = 2;
+    private static final int REGISTROS_POR_TAREFA = 2;
+
+    private static final List<Class<?>> SERVICOS = List.of(ProjetoService.class, TarefaService.class,
+        ComentarioService.class, RegistroHorasService.class, UsuarioService.class);
+
+    // Tabelas que crescem com o uso: uma varredura completa nelas é sempre um problema
+    private static final Set<String> TABELAS_GRANDES = Set.of("tarefas", "comentarios", "registros_horas",
+        "horas_diarias", "notificacoes", "tarefa_transicoes");
+    private static final Pattern VARREDURA = Pattern.compile("(\\w+)\\.tableScan", Pattern.CASE_INSENSITIVE);
+
+    // "Classe.metodo" -> quantidade máxima de comandos SQL por chamada (vale para todas as sobrecargas)
+    private static final Map<String, Integer> ORCAMENTOS = new LinkedHashMap<>();
+
+    static {
+        ORCAMENTOS.put("UsuarioService.cadastrar", 3);
+        ORCAMENTOS.put("UsuarioService.login", 2);
+        ORCAMENTOS.put("UsuarioService.solicitarRecuperacaoSenha", 2);
+        ORCAMENTOS.put("UsuarioService.buscarPorId", 1);
+        ORCAMENTOS.put("UsuarioService.listarTodos", 1);
+        ORCAMENTOS.put("UsuarioService.excluir", 3);
+        ORCAMENTOS.put("UsuarioService.alterarPapel", 4);
+
+        ORCAMENTOS.put("ProjetoService.criarProjeto", 3);
+        ORCAMENTOS.put("ProjetoService.editarProjeto", 4);
+        ORCAMENTOS.put("ProjetoService.associarFluxoTrabalho", 5);
+        ORCAMENTOS.put("ProjetoService.gerarRelatorio", 3);
+        ORCAMENTOS.put("ProjetoService.gerarRelatorioEstruturado", 3);
+        ORCAMENTOS.put("ProjetoService.buscarPorId", 1);
+        ORCAMENTOS.put("ProjetoService.listarTodos", 1);
+        ORCAMENTOS.put("ProjetoService.excluirProjeto", 10);
+
+        ORCAMENTOS.put("TarefaService.criarTarefa", 9);
+        ORCAMENTOS.put("TarefaService.criarTarefasEmLote", 14);
+        ORCAMENTOS.put("TarefaService.moverTarefaParaEtapa", 8);
+        ORCAMENTOS.put("TarefaService.moverTarefasEmLote", 13);
+        ORCAMENTOS.put("TarefaService.definirResponsavel", 6);
+        ORCAMENTOS.put("TarefaService.adicionarComentario", 4);
+        ORCAMENTOS.put("TarefaService.registrarHoras", 6);
+        ORCAMENTOS.put("TarefaService.consultarHorasGastas", 1);
+        ORCAMENTOS.put("TarefaService.listarPorProjeto", 1);
+        ORCAMENTOS.put("TarefaService.listarPorResponsavel", 1);
+        ORCAMENTOS.put("TarefaService.listarTransicoes", 2);
+
+        ORCAMENTOS.put("ComentarioService.criarComentario", 4);
+        ORCAMENTOS.put("ComentarioService.editarComentario", 5);
+        ORCAMENTOS.put("ComentarioService.excluirComentario", 4);
+        ORCAMENTOS.put("ComentarioService.buscarComentariosPorTarefa", 2);
+
+        ORCAMENTOS.put("RegistroHorasService.registrarHoras", 6);
+        ORCAMENTOS.put("RegistroHorasService.editarRegistro", 8);
+        ORCAMENTOS.put("RegistroHorasService.excluirRegistro", 5);
+        ORCAMENTOS.put("RegistroHorasService.consultarTotalHorasPorTarefa", 1);
+        ORCAMENTOS.put("RegistroHorasService.consultarTotalMinutosPorTarefa", 1);
+        ORCAMENTOS.put("RegistroHorasService.consultarTotalHorasPorProjeto", 1);
+        ORCAMENTOS.put("RegistroHorasService.consultarTotalMinutosPorProjeto", 1);
+        ORCAMENTOS.put("RegistroHorasService.consultarHorasDiariasPorProjeto", 1);
+        ORCAMENTOS.put("RegistroHorasService.removerRegistrosDoProjeto", 2);
+        ORCAMENTOS.put("RegistroHorasService.listarPorProjeto", 1);
+        ORCAMENTOS.put("RegistroHorasService.buscarRegistrosPorUsuarioEPeriodo", 1);
+        ORCAMENTOS.put("RegistroHorasService.verificarPermissaoExportacao", 2);
+        ORCAMENTOS.put("RegistroHorasService.exportarRegistrosDoProjeto", 1);
+    }
+
+    @Autowired private ProjetoService projetoService;
+    @Autowired private TarefaService tarefaService;
+    @Autowired private ComentarioService comentarioService;
+    @Autowired private RegistroHorasService registroHorasService;
+    @Autowired private UsuarioService usuarioService;
+    @Autowired private PermissaoService permissaoService;
+    @Autowired private ContadorTarefasService contadorTarefasService;
+    @Autowired private HistoricoTransicoesService historicoTransicoesService;
+
+    @Autowired private PapelRepository papelRepository;
+    @Autowired private UsuarioRepository usuarioRepository;
+    @Autowired private FluxoTrabalhoRepository fluxoTrabalhoRepository;
+    @Autowired private ProjetoRepository projetoRepository;
+    @Autowired private TarefaRepository tarefaRepository;
+    @Autowired private ComentarioRepository comentarioRepository;
+    @Autowired private RegistroHorasRepository registroHorasRepository;
+    @Autowired private HorasDiariasRepository horasDiariasRepository;
+
+    @Autowired private PasswordEncoder passwordEncoder;
+    @Autowired private PlatformTransactionManager transactionManager;
+    @Autowired private DataSource dataSource;
+
+    private final Set<String> medidos = new HashSet<>();
+
+    // Massa de dados
+    private Papel papelDesenvolvedor;
+    private final List<Long> idsUsuarios = new ArrayList<>();
+    private Long idAdmin;
+    private Long idGerente;
+    private Long idFluxo;
+    private final List<Long> idsEtapas = new ArrayList<>();
+    private final List<Long> idsProjetos = new ArrayList<>();
+    private final Map<Long, List<Long>> idsTarefasPorProjeto = new HashMap<>();
+    private final Map<Long, Long> responsavelPorTarefa = new HashMap<>();
+
+    @BeforeAll
+    void popularBanco() {
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            Papel admin = papel("ADMIN", EnumSet.allOf(Permissao.class));
+            Papel gerente = papel("GERENTE_PROJETO", EnumSet.of(Permissao.CRIAR_PROJETO, Permissao.CRIAR_TAREFA,
+                Permissao.GERAR_RELATORIOS));
+            papelDesenvolvedor = papel("DESENVOLVEDOR", EnumSet.of(Permissao.CRIAR_TAREFA));
+
+            // O hash é calculado uma vez só; o BCrypt é propositalmente lento
+            String senha = passwordEncoder.encode("senha123");
+            List<Usuario> usuarios = new ArrayList<>();
+            for (int i = 0; i < USUARIOS; i++) {
+                Papel papel = i == 0 ? admin : i == 1 ? gerente : papelDesenvolvedor;
+                usuarios.add(new Usuario("Usuário " + i, "usuario" + i + "@empresa.com", senha, "Cargo " + i, papel));
+            }
+            usuarioRepository.saveAll(usuarios).forEach(u -> idsUsuarios.add(u.getId()));
+            idAdmin = idsUsuarios.get(0);
+            idGerente = idsUsuarios.get(1);
+
+            FluxoTrabalho fluxo = new FluxoTrabalho("Kanban");
+            String[] nomesEtapas = {"A Fazer", "Em Andamento", "Revisão", "Concluído"};
+            for (int i = 0; i < nomesEtapas.length; i++) {
+                fluxo.getEtapas().add(new Etapa(nomesEtapas[i], i + 1, fluxo));
+            }
+            fluxo = fluxoTrabalhoRepository.save(fluxo);
+            idFluxo = fluxo.getId();
+            fluxo.getEtapas().forEach(e -> idsEtapas.add(e.getId()));
+
+            LocalDate hoje = LocalDate.now();
+            for (int p = 0; p < PROJETOS; p++) {
+                Projeto projeto = projetoRepository.save(new Projeto("Projeto " + p, "Descrição do projeto " + p,
+                    usuarios.get(1), fluxo));
+                idsProjetos.add(projeto.getId());
+
+                List<Tarefa> tarefas = new ArrayList<>();
+                for (int i = 0; i < TAREFAS_POR_PROJETO; i++) {
+                    Usuario responsavel = usuarios.get(2 + i % (USUARIOS - 2));
+                    tarefas.add(new Tarefa("Tarefa " + p + "." + i, "Descrição da tarefa " + i, projeto,
+                        responsavel, fluxo.getEtapas().get(i % nomesEtapas.length)));
+                }
+                tarefaRepository.saveAll(tarefas);
+
+                List<Long> idsTarefas = new ArrayList<>();
+                List<Comentario> comentarios = new ArrayList<>();
+                List<RegistroHoras> registros = new ArrayList<>();
+                for (int i = 0; i < tarefas.size(); i++) {
+                    Tarefa tarefa = tarefas.get(i);
+                    idsTarefas.add(tarefa.getId());
+                    responsavelPorTarefa.put(tarefa.getId(), tarefa.getResponsavel().getId());
+                    for (int c = 0; c < COMENTARIOS_POR_TAREFA; c++) {
+                        comentarios.add(new Comentario(usuarios.get((i + c) % USUARIOS), tarefa, "Comentário " + c));
+                    }
+                    // Dias distintos por registro: cada registro tem a sua linha de horas consolidadas
+                    for (int r = 0; r < REGISTROS_POR_TAREFA; r++) {
+                        registros.add(new RegistroHoras(tarefa.getResponsavel(), tarefa, 0.5f + r,
+                            hoje.minusDays((i + r) % 30)));
+                    }
+                }
+                idsTarefasPorProjeto.put(projeto.getId(), idsTarefas);
+                comentarioRepository.saveAll(comentarios);
+                registroHorasRepository.saveAll(registros);
+
+                List<HorasDiarias> consolidadas = new ArrayList<>();
+                for (RegistroHoras registro : registros) {
+                    consolidadas.add(new HorasDiarias(registro.getUsuario(), registro.getTarefa(), projeto,
+                        registro.getDataRegistro(), registro.getMinutos()));
+                }
+                horasDiariasRepository.saveAll(consolidadas);
+            }
+        });
+
+        // Contadores do quadro e máscaras de permissão como estariam em produção
+        contadorTarefasService.reconciliar();
+        papelRepository.findAll().forEach(p -> permissaoService.temPermissao(p.getId(), Permissao.CRIAR_TAREFA));
+    }
+
+    @Test
+    @Order(1)
+    void todoMetodoPublicoTemOrcamento() {
+        Set<String> semOrcamento = new TreeSet<>();
+        for (Class<?> servico : SERVICOS) {
+            for (Method metodo : servico.getDeclaredMethods()) {
+                if (Modifier.isPublic(metodo.getModifiers()) && !metodo.isSynthetic()) {
+                    String chave = chave(servico, metodo.getName());
+                    if (!ORCAMENTOS.containsKey(chave)) {
+                        semOrcamento.add(chave);
+                    }
+                }
+            }
+        }
+        assertTrue(semOrcamento.isEmpty(), () -> "Métodos públicos sem orçamento de SQL: " + semOrcamento);
+    }
+
+    @Test
+    @Order(2)
+    void usuarioService() {
+        CadastroUsuarioDTO cadastro = new CadastroUsuarioDTO();
+        cadastro.setNome("Novo Usuário");
+        cadastro.setEmail("novo@empresa.com");
+        cadastro.setSenha("senha123");
+        UsuarioResponseDTO criado = medir("UsuarioService.cadastrar", () -> usuarioService.cadastrar(cadastro));
+        Usuario outro = medir("UsuarioService.cadastrar", () ->
+            usuarioService.cadastrar("Outro Usuário", "outro@empresa.com", "senha123", "Estagiário", papelDesenvolvedor));
+
+        medir("UsuarioService.login", () -> usuarioService.login("usuario5@empresa.com", "senha123"));
+        medirAcao("UsuarioService.solicitarRecuperacaoSenha",
+            () -> usuarioService.solicitarRecuperacaoSenha("usuario5@empresa.com"));
+        medir("UsuarioService.buscarPorId", () -> usuarioService.buscarPorId(idsUsuarios.get(5)));
+        medir("UsuarioService.listarTodos", () -> usuarioService.listarTodos(null, 20));
+        medir("UsuarioService.alterarPapel",
+            () -> usuarioService.alterarPapel(criado.getId(), papelDesenvolvedor.getId(), idAdmin));
+        medirAcao("UsuarioService.excluir", () -> usuarioService.excluir(criado.getId()));
+        medirAcao("UsuarioService.excluir", () -> usuarioService.excluir(outro.getId()));
+    }
+
+    @Test
+    @Order(3)
+    void projetoService() {
+        Projeto novo = medir("ProjetoService.criarProjeto",
+            () -> projetoService.criarProjeto("Projeto Novo", "Criado pelo teste", idGerente));
+        medir("ProjetoService.editarProjeto",
+            () -> projetoService.editarProjeto(novo.getId(), "Projeto Renomeado", "Nova descrição", idGerente));
+        medir("ProjetoService.associarFluxoTrabalho",
+            () -> projetoService.associarFluxoTrabalho(novo.getId(), idFluxo, idGerente));
+
+        Long idProjeto = idsProjetos.get(0);
+        medir("ProjetoService.gerarRelatorio", () -> projetoService.gerarRelatorio(idProjeto, idGerente));
+        medir("ProjetoService.gerarRelatorioEstruturado",
+            () -> projetoService.gerarRelatorioEstruturado(idProjeto, idAdmin));
+        medir("ProjetoService.buscarPorId", () -> projetoService.buscarPorId(idProjeto));
+        medir("ProjetoService.listarTodos", () -> projetoService.listarTodos(null, 20));
+
+        // Projeto completo, com tarefas, comentários, horas e contadores: o custo não pode crescer com o volume
+        Long idExcluido = idsProjetos.get(PROJETOS - 1);
+        medirAcao("ProjetoService.excluirProjeto", () -> projetoService.excluirProjeto(idExcluido, idGerente));
+    }
+
+    @Test
+    @Order(4)
+    void tarefaService() {
+        Long idProjeto = idsProjetos.get(0);
+        List<Long> idsTarefas = idsTarefasPorProjeto.get(idProjeto);
+
+        medir("TarefaService.criarTarefa", () ->
+            tarefaService.criarTarefa("Tarefa avulsa", "Criada pelo teste", idProjeto, idsUsuarios.get(3), idGerente));
+
+        List<NovaTarefaDTO> novas = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            NovaTarefaDTO nova = new NovaTarefaDTO();
+            nova.setTitulo("Importada " + i);
+            nova.setDescricao("Tarefa importada " + i);
+            nova.setIdResponsavel(idsUsuarios.get(2 + i % (USUARIOS - 2)));
+            novas.add(nova);
+        }
+        ResultadoLoteDTO lote = medir("TarefaService.criarTarefasEmLote",
+            () -> tarefaService.criarTarefasEmLote(idProjeto, novas, idGerente));
+        assertFalse(lote.getIdsTarefas().isEmpty());
+
+        // A primeira tarefa do projeto está na primeira etapa
+        medir("TarefaService.moverTarefaParaEtapa",
+            () -> tarefaService.moverTarefaParaEtapa(idsTarefas.get(0), idsEtapas.get(1), idGerente));
+        medir("TarefaService.moverTarefasEmLote",
+            () -> tarefaService.moverTarefasEmLote(idsTarefas.subList(100, 150), idsEtapas.get(3), idGerente));
+        medir("TarefaService.definirResponsavel",
+            () -> tarefaService.definirResponsavel(idsTarefas.get(1), idsUsuarios.get(7), idGerente));
+
+        Long idTarefa = idsTarefas.get(10);
+        Long idResponsavel = responsavelPorTarefa.get(idTarefa);
+        medir("TarefaService.adicionarComentario",
+            () -> tarefaService.adicionarComentario(idTarefa, "Comentário pelo teste", idResponsavel));
+        medir("TarefaService.registrarHoras",
+            () -> tarefaService.registrarHoras(idTarefa, 1.5f, LocalDate.now(), idResponsavel));
+        medir("TarefaService.consultarHorasGastas", () -> tarefaService.consultarHorasGastas(idTarefa));
+        medir("TarefaService.listarPorProjeto", () -> tarefaService.listarPorProjeto(idProjeto, null, 50));
+        medir("TarefaService.listarPorResponsavel",
+            () -> tarefaService.listarPorResponsavel(idResponsavel, null, 50));
+
+        // Transições movidas acima, já copiadas da caixa de saída
+        historicoTransicoesService.gravarPendentes();
+        medir("TarefaService.listarTransicoes", () -> tarefaService.listarTransicoes(idsTarefas.get(0), null, 20));
+    }
+
+    @Test
+    @Order(5)
+    void comentarioService() {
+        Long idTarefa = idsTarefasPorProjeto.get(idsProjetos.get(1)).get(20);
+        Long idAutor = responsavelPorTarefa.get(idTarefa);
+
+        Comentario comentario = medir("ComentarioService.criarComentario",
+            () -> comentarioService.criarComentario(idTarefa, "Primeira versão", idAutor));
+        medir("ComentarioService.editarComentario",
+            () -> comentarioService.editarComentario(comentario.getId(), "Versão editada", idAutor));
+        medir("ComentarioService.buscarComentariosPorTarefa",
+            () -> comentarioService.buscarComentariosPorTarefa(idTarefa, OrdemListagem.DECRESCENTE, null, 20));
+        medir("ComentarioService.buscarComentariosPorTarefa",
+            () -> comentarioService.buscarComentariosPorTarefa(idTarefa, OrdemListagem.CRESCENTE, null, 20));
+        medirAcao("ComentarioService.excluirComentario",
+            () -> comentarioService.excluirComentario(comentario.getId(), idAutor));
+    }
+
+    @Test
+    @Order(6)
+    void registroHorasService() {
+        Long idProjeto = idsProjetos.get(2);
+        Long idTarefa = idsTarefasPorProjeto.get(idProjeto).get(30);
+        Long idUsuario = responsavelPorTarefa.get(idTarefa);
+        LocalDate hoje = LocalDate.now();
+
+        RegistroHoras registro = medir("RegistroHorasService.registrarHoras",
+            () -> registroHorasService.registrarHoras(idTarefa, 2.25f, hoje, idUsuario));
+        medir("RegistroHorasService.editarRegistro",
+            () -> registroHorasService.editarRegistro(registro.getId(), 3f, hoje.minusDays(1), idUsuario));
+        medirAcao("RegistroHorasService.excluirRegistro",
+            () -> registroHorasService.excluirRegistro(registro.getId(), idUsuario));
+
+        medir("RegistroHorasService.consultarTotalHorasPorTarefa",
+            () -> registroHorasService.consultarTotalHorasPorTarefa(idTarefa));
+        medir("RegistroHorasService.consultarTotalMinutosPorTarefa",
+            () -> registroHorasService.consultarTotalMinutosPorTarefa(idTarefa));
+        medir("RegistroHorasService.consultarTotalHorasPorProjeto",
+            () -> registroHorasService.consultarTotalHorasPorProjeto(idProjeto));
+        medir("RegistroHorasService.consultarTotalMinutosPorProjeto",
+            () -> registroHorasService.consultarTotalMinutosPorProjeto(idProjeto));
+        medir("RegistroHorasService.consultarHorasDiariasPorProjeto",
+            () -> registroHorasService.consultarHorasDiariasPorProjeto(idProjeto, hoje.minusDays(30), hoje));
+        medir("RegistroHorasService.listarPorProjeto", () -> registroHorasService.listarPorProjeto(idProjeto, null, 50));
+        medir("RegistroHorasService.buscarRegistrosPorUsuarioEPeriodo",
+            () -> registroHorasService.buscarRegistrosPorUsuarioEPeriodo(idUsuario, hoje.minusDays(7), hoje));
+        medirAcao("RegistroHorasService.verificarPermissaoExportacao",
+            () -> registroHorasService.verificarPermissaoExportacao(idProjeto, idAdmin));
+        medirAcao("RegistroHorasService.exportarRegistrosDoProjeto",
+            () -> registroHorasService.exportarRegistrosDoProjeto(idProjeto, FormatoExportacao.CSV,
+                OutputStream.nullOutputStream()));
+
+        // Exige a transação de quem chama (exclusão do projeto)
+        Long idProjetoRemovido = idsProjetos.get(3);
+        medirAcao("RegistroHorasService.removerRegistrosDoProjeto", () ->
+            new TransactionTemplate(transactionManager).executeWithoutResult(
+                status -> registroHorasService.removerRegistrosDoProjeto(idProjetoRemovido)));
+    }
+
+    @Test
+    @Order(7)
+    void todoOrcamentoFoiMedido() {
+        Set<String> naoMedidos = new TreeSet<>(ORCAMENTOS.keySet());
+        naoMedidos.removeAll(medidos);
+        assertTrue(naoMedidos.isEmpty(), () -> "Orçamentos sem medição: " + naoMedidos);
+    }
+
+    /**
+     * Verifica o plano de execução de todos os comandos capturados nas medições.
+     */
+    @Test
+    @Order(8)
+    void comandosNaoVarremTabelasGrandes() throws SQLException {
+        Set<String> comandos = ContadorSql.capturados();
+        assertFalse(comandos.isEmpty(), "Nenhum comando SQL foi capturado.");
+
+        List<String> varreduras = new ArrayList<>();
+        try (Connection conexao = dataSource.getConnection()) {
+            for (String sql : comandos) {
+                String minusculo = sql.toLowerCase(Locale.ROOT);
+                // INSERTs e chamadas de sequência não têm plano de acesso relevante
+                if (minusculo.startsWith("insert") || minusculo.contains("next value for")) {
+                    continue;
+                }
+                String plano = explicar(conexao, sql);
+                Matcher varredura = VARREDURA.matcher(plano);
+                while (varredura.find()) {
+                    if (TABELAS_GRANDES.contains(varredura.group(1).toLowerCase(Locale.ROOT))) {
+                        varreduras.add(varredura.group(1) + ":\n" + plano);
+                    }
+                }
+            }
+        }
+        assertTrue(varreduras.isEmpty(),
+            () -> "Varredura completa de tabela grande em " + varreduras.size() + " comando(s):\n\n"
+                + String.join("\n\n", varreduras));
+    }
+
+    // --- MÉTODOS AUXILIARES ---
+
+    private <T> T medir(String metodo, Supplier<T> chamada) {
+        Integer orcamento = ORCAMENTOS.get(metodo);
+        assertNotNull(orcamento, () -> "Sem orçamento de SQL para " + metodo);
+
+        List<String> comandos;
+        T resultado;
+        ContadorSql.iniciar();
+        try {
+            resultado = chamada.get();
+        } finally {
+            comandos = ContadorSql.encerrar();
+        }
+        medidos.add(metodo);
+        log.info("{}: {} comando(s) SQL (orçamento: {})", metodo, comandos.size(), orcamento);
+        assertTrue(comandos.size() <= orcamento, () -> metodo + " executou " + comandos.size()
+            + " comandos SQL, acima do orçamento de " + orcamento + ":\n" + String.join("\n", comandos));
+        return resultado;
+    }
+
+    private void medirAcao(String metodo, Runnable chamada) {
+        medir(metodo, () -> {
+            chamada.run();
+            return null;
+        });
+    }
+
+    private String explicar(Connection conexao, String sql) throws SQLException {
+        try (PreparedStatement explain = conexao.prepareStatement("EXPLAIN " + sql)) {
+            // O plano não depende dos valores dos parâmetros
+            int parametros = explain.getParameterMetaData().getParameterCount();
+            for (int i = 1; i <= parametros; i++) {
+                explain.setObject(i, null);
+            }
+            StringBuilder plano = new StringBuilder();
+            try (ResultSet linhas = explain.executeQuery()) {
+                while (linhas.next()) {
+                    plano.append(linhas.getString(1)).append('\n');
+                }
+            }
+            return plano.toString();
+        }
+    }
+
+    private Papel papel(String nome, Set<Permissao> permissoes) {
+        Papel papel = new Papel();
+        papel.setNome(nome);
+        papel.setPermissoes(permissoes);
+        return papelRepository.save(papel);
+    }
+
+    private static String chave(Class<?> servico, String metodo) {
+        return servico.getSimpleName() + "." + metodo;
+    }
+}